@@ -4,14 +4,22 @@ import com.konors.threadpool.monitor.common.Result;
 import com.konors.threadpool.monitor.core.ThreadPoolStatus;
 import com.konors.threadpool.monitor.core.abstraction.AdvancedThreadPoolMonitor;
 import com.konors.threadpool.monitor.core.abstraction.AdvancedThreadPoolMonitor.MonitorStatistics;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool.ThreadPoolType;
+import com.konors.threadpool.monitor.core.abstraction.PoolPage;
+import com.konors.threadpool.monitor.core.abstraction.PoolQuery;
+import com.konors.threadpool.monitor.core.metrics.CheckCost;
+import com.konors.threadpool.monitor.core.metrics.GroupAggregate;
+import com.konors.threadpool.monitor.core.metrics.MetricsHistory;
+import com.konors.threadpool.monitor.core.metrics.StatusSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 线程池监控REST API控制器
@@ -26,16 +34,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ThreadPoolMonitorController {
 
+    /** 线程池列表单页最大数量 */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final AdvancedThreadPoolMonitor threadPoolMonitor;
 
     /**
-     * 获取所有线程池状态
+     * 获取线程池状态，可按类型和业务标签过滤并分页
+     * @param fresh 是否立即重新采集，默认返回监控周期发布的快照；带过滤条件时只采集匹配的线程池
+     * @param type 线程池类型，如 FIXED
+     * @param tag 业务标签，格式为 key:value 或 key，可重复
      */
     @GetMapping("/status")
-    public Result<Map<String, ThreadPoolStatus>> getAllThreadPoolStatus() {
+    public Result<Map<String, ThreadPoolStatus>> getAllThreadPoolStatus(
+            @RequestParam(defaultValue = "false") boolean fresh,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
         try {
-            Map<String, ThreadPoolStatus> statusMap = threadPoolMonitor.getAllThreadPoolStatus();
+            PoolQuery query = buildQuery(type, tag, offset, limit != null ? limit : Integer.MAX_VALUE);
+            Map<String, ThreadPoolStatus> statusMap = !query.hasFilter() && offset == 0 && limit == null
+                    ? threadPoolMonitor.getStatusSnapshot(fresh).getStatuses()
+                    : threadPoolMonitor.queryThreadPoolStatus(query, fresh);
             return Result.success("获取线程池状态成功", statusMap);
+        } catch (IllegalArgumentException e) {
+            return Result.badRequest("查询参数错误: " + e.getMessage());
         } catch (Exception e) {
             log.error("获取线程池状态失败", e);
             return Result.error("获取线程池状态失败: " + e.getMessage());
@@ -44,11 +68,15 @@ public class ThreadPoolMonitorController {
 
     /**
      * 获取指定线程池状态
+     * @param fresh 是否立即重新采集该线程池，默认返回监控周期发布的快照
      */
     @GetMapping("/status/{poolName}")
-    public Result<ThreadPoolStatus> getThreadPoolStatus(@PathVariable String poolName) {
+    public Result<ThreadPoolStatus> getThreadPoolStatus(@PathVariable String poolName,
+                                                        @RequestParam(defaultValue = "false") boolean fresh) {
         try {
-            Optional<ThreadPoolStatus> status = threadPoolMonitor.getThreadPoolStatus(poolName);
+            Optional<ThreadPoolStatus> status = fresh
+                    ? threadPoolMonitor.getThreadPoolStatus(poolName)
+                    : threadPoolMonitor.getStatusSnapshot(false).getStatus(poolName);
             if (status.isPresent()) {
                 return Result.success("获取线程池状态成功", status.get());
             } else {
@@ -60,6 +88,59 @@ public class ThreadPoolMonitorController {
         }
     }
 
+    /**
+     * 获取带纪元号的线程池状态快照
+     * @param fresh 是否立即重新采集，并发请求共享同一次采集
+     */
+    @GetMapping("/snapshot")
+    public Result<StatusSnapshot> getStatusSnapshot(@RequestParam(defaultValue = "false") boolean fresh) {
+        try {
+            return Result.success("获取线程池状态快照成功", threadPoolMonitor.getStatusSnapshot(fresh));
+        } catch (Exception e) {
+            log.error("获取线程池状态快照失败", e);
+            return Result.error("获取线程池状态快照失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取指定线程池历史指标
+     * @param minutes 查询最近多少分钟，不传则返回保留期内全部数据
+     */
+    @GetMapping("/history/{poolName}")
+    public Result<MetricsHistory> getThreadPoolHistory(@PathVariable String poolName,
+                                                       @RequestParam(required = false) Long minutes) {
+        try {
+            Duration range = minutes != null && minutes > 0 ? Duration.ofMinutes(minutes) : null;
+            Optional<MetricsHistory> history = threadPoolMonitor.getThreadPoolHistory(poolName, range);
+            if (history.isPresent()) {
+                return Result.success("获取线程池历史数据成功", history.get());
+            } else {
+                return Result.notFound("线程池 '" + poolName + "' 未找到");
+            }
+        } catch (Exception e) {
+            log.error("获取线程池历史数据失败: {}", poolName, e);
+            return Result.error("获取线程池历史数据失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取按线程池类型和业务标签汇总的分组数据
+     * @param prefix 分组名称前缀，如 tag:team= 只返回各团队的分组
+     */
+    @GetMapping("/groups")
+    public Result<Map<String, GroupAggregate>> getGroupAggregates(@RequestParam(required = false) String prefix) {
+        try {
+            Map<String, GroupAggregate> aggregates = threadPoolMonitor.getGroupAggregates();
+            if (prefix != null && !prefix.isEmpty()) {
+                aggregates.keySet().removeIf(group -> !group.startsWith(prefix));
+            }
+            return Result.success("获取分组汇总成功", aggregates);
+        } catch (Exception e) {
+            log.error("获取分组汇总失败", e);
+            return Result.error("获取分组汇总失败: " + e.getMessage());
+        }
+    }
+
     /**
      * 获取监控统计信息
      */
@@ -75,14 +156,35 @@ public class ThreadPoolMonitorController {
     }
 
     /**
-     * 获取已注册的线程池名称列表
+     * 获取累计耗时最高的监控检查
+     * @param limit 返回条数，默认10
+     */
+    @GetMapping("/statistics/expensive-checks")
+    public Result<List<CheckCost>> getMostExpensiveChecks(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<CheckCost> checks = threadPoolMonitor.getMonitorStatistics().getMostExpensiveChecks(Math.max(1, limit));
+            return Result.success("获取监控检查耗时成功", checks);
+        } catch (Exception e) {
+            log.error("获取监控检查耗时失败", e);
+            return Result.error("获取监控检查耗时失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取已注册的线程池名称，可按类型和业务标签过滤，按名称排序分页
+     * @param type 线程池类型，如 FIXED
+     * @param tag 业务标签，格式为 key:value 或 key，可重复
      */
     @GetMapping("/pools")
-    public Result<List<String>> getRegisteredPools() {
+    public Result<PoolPage> getRegisteredPools(@RequestParam(required = false) String type,
+                                               @RequestParam(required = false) List<String> tag,
+                                               @RequestParam(defaultValue = "0") int offset,
+                                               @RequestParam(defaultValue = "100") int limit) {
         try {
-            Map<String, ThreadPoolStatus> statusMap = threadPoolMonitor.getAllThreadPoolStatus();
-            List<String> poolNames = statusMap.keySet().stream().sorted().collect(Collectors.toList());
-            return Result.success("获取线程池列表成功", poolNames);
+            PoolPage page = threadPoolMonitor.queryThreadPools(buildQuery(type, tag, offset, Math.min(limit, MAX_PAGE_SIZE)));
+            return Result.success("获取线程池列表成功", page);
+        } catch (IllegalArgumentException e) {
+            return Result.badRequest("查询参数错误: " + e.getMessage());
         } catch (Exception e) {
             log.error("获取线程池列表失败", e);
             return Result.error("获取线程池列表失败: " + e.getMessage());
@@ -158,4 +260,30 @@ public class ThreadPoolMonitorController {
             return Result.error("获取监控状态失败: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 解析查询参数，类型或标签格式错误时抛出 IllegalArgumentException
+     */
+    private PoolQuery buildQuery(String type, List<String> tags, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset 和 limit 不能为负数");
+        }
+        Map<String, String> tagFilter = new LinkedHashMap<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                int separator = tag.indexOf(':');
+                String key = separator >= 0 ? tag.substring(0, separator) : tag;
+                if (key.isEmpty()) {
+                    throw new IllegalArgumentException("无效的标签: " + tag);
+                }
+                tagFilter.put(key, separator >= 0 ? tag.substring(separator + 1) : null);
+            }
+        }
+        return PoolQuery.builder()
+                .type(type != null && !type.isEmpty() ? ThreadPoolType.valueOf(type.toUpperCase()) : null)
+                .tags(tagFilter)
+                .offset(offset)
+                .limit(limit)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.konors.threadpool.monitor.core;
 
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -94,4 +95,16 @@ public class ThreadPoolStatus {
      * 线程池因饱和或策略限制而拒绝的任务数量
      */
     private long rejectedTaskCount;
+
+    /**
+     * 任务排队等待时间分位数
+     * 仅对开启延迟统计的 InstrumentedThreadPoolExecutor 采集，统计最近一分钟窗口
+     */
+    private LatencyPercentiles queueWaitLatency;
+
+    /**
+     * 任务执行时间分位数
+     * 仅对开启延迟统计的 InstrumentedThreadPoolExecutor 采集，统计最近一分钟窗口
+     */
+    private LatencyPercentiles executionLatency;
 }
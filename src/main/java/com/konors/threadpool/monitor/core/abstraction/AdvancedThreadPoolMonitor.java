@@ -1,7 +1,14 @@
 package com.konors.threadpool.monitor.core.abstraction;
 
 import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.metrics.CheckCost;
+import com.konors.threadpool.monitor.core.metrics.GroupAggregate;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+import com.konors.threadpool.monitor.core.metrics.MetricsHistory;
+import com.konors.threadpool.monitor.core.metrics.StatusSnapshot;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,6 +67,7 @@ public interface AdvancedThreadPoolMonitor {
     /**
      * 添加监控策略
      * @param strategy 监控策略
+     * @throws IllegalStateException 添加后某个线程池适用的策略超过 64 个，此时策略不会被添加
      */
     void addMonitorStrategy(MonitorStrategy strategy);
     
@@ -71,11 +79,20 @@ public interface AdvancedThreadPoolMonitor {
     boolean removeMonitorStrategy(String strategyName);
     
     /**
-     * 获取所有线程池状态
-     * @return 线程池状态映射
+     * 立即采集所有线程池状态并发布新的状态快照，并发调用共享同一次采集
+     * 只需要读取状态时使用 {@link #getStatusSnapshot(boolean)}，不会访问线程池
+     * @return 线程池状态映射（只读）
      */
     Map<String, ThreadPoolStatus> getAllThreadPoolStatus();
     
+    /**
+     * 获取线程池状态快照
+     * @param fresh 为 false 时返回监控周期最近一次发布的快照，不访问线程池；
+     *              为 true 时立即重新采集所有线程池，并发调用共享同一次采集
+     * @return 状态快照
+     */
+    StatusSnapshot getStatusSnapshot(boolean fresh);
+    
     /**
      * 异步获取所有线程池状态
      * @return 异步结果
@@ -83,14 +100,46 @@ public interface AdvancedThreadPoolMonitor {
     CompletableFuture<Map<String, ThreadPoolStatus>> getAllThreadPoolStatusAsync();
     
     /**
-     * 获取指定线程池状态
+     * 立即采集指定线程池状态，同一线程池的并发调用共享同一次采集
+     * 只需要读取状态时使用 {@link #getStatusSnapshot(boolean)}，不会访问线程池
      * @param poolName 线程池名称
      * @return 线程池状态，如果不存在则返回空
      */
     Optional<ThreadPoolStatus> getThreadPoolStatus(String poolName);
     
     /**
-     * 批量获取线程池状态
+     * 按类型和业务标签查询已注册的线程池，只访问匹配的线程池
+     * @param query 查询条件，包含分页
+     * @return 按名称排序的一页线程池名称
+     */
+    PoolPage queryThreadPools(PoolQuery query);
+    
+    /**
+     * 获取匹配条件的线程池状态，按线程池名称排序
+     * @param query 查询条件，包含分页
+     * @param fresh 为 false 时从最近发布的快照读取；为 true 时只重新采集匹配的线程池
+     * @return 线程池状态映射
+     */
+    Map<String, ThreadPoolStatus> queryThreadPoolStatus(PoolQuery query, boolean fresh);
+    
+    /**
+     * 获取按线程池类型和业务标签汇总的分组数据，由每次采样增量更新
+     * @return 分组名称到汇总数据的映射，按名称排序
+     */
+    Map<String, GroupAggregate> getGroupAggregates();
+    
+    /**
+     * 获取指定线程池的历史指标
+     * @param poolName 线程池名称
+     * @param range 查询最近的时间范围，为空表示保留期内全部数据
+     * @return 历史指标快照，如果线程池不存在则返回空
+     */
+    default Optional<MetricsHistory> getThreadPoolHistory(String poolName, Duration range) {
+        return Optional.empty();
+    }
+    
+    /**
+     * 从最近发布的状态快照中批量读取线程池状态，不访问线程池
      * @param poolNames 线程池名称列表
      * @return 状态映射
      */
@@ -111,7 +160,7 @@ public interface AdvancedThreadPoolMonitor {
     /**
      * 执行监控检查
      * @param context 监控上下文
-     * @return 监控结果列表
+     * @return 监控结果列表，启用 transitionOnlyResults 时只包含相对上次检查发生变化的结果
      */
     List<MonitorStrategy.MonitorResult> performMonitorCheck(MonitorContext context);
     
@@ -122,6 +171,37 @@ public interface AdvancedThreadPoolMonitor {
      */
     CompletableFuture<List<MonitorStrategy.MonitorResult>> performMonitorCheckAsync(MonitorContext context);
     
+    /**
+     * 设置线程池的告警抑制时间，同一线程池、策略、级别的重复告警在该时间内只发出一次
+     * @param poolName 线程池名称
+     * @param period 抑制时间（对应 ThreadPoolAlertConfig.alertInterval），为空时恢复全局 alertSuppressionPeriod
+     */
+    default void setAlertSuppressionPeriod(String poolName, Duration period) {
+    }
+    
+    /**
+     * 添加告警输出，告警事件在独立线程中按批发送，同名输出会被替换
+     * @param sink 告警输出
+     */
+    default void addAlertSink(com.konors.threadpool.monitor.core.alert.AlertSink sink) {
+    }
+    
+    /**
+     * 移除告警输出
+     * @param sinkName 输出名称
+     * @return true表示移除成功
+     */
+    default boolean removeAlertSink(String sinkName) {
+        return false;
+    }
+    
+    /**
+     * 获取各告警输出的发送统计（sent、failed、dropped、queued）
+     */
+    default Map<String, Map<String, Long>> getAlertSinkStats() {
+        return Map.of();
+    }
+    
     /**
      * 获取监控统计信息
      * @return 监控统计
@@ -176,6 +256,31 @@ public interface AdvancedThreadPoolMonitor {
         double getAverageMonitoringLatency();
         java.time.LocalDateTime getLastMonitorTime();
         Map<String, Object> getExtendedStats();
+        
+        /** 监控周期超出耗时预算的次数 */
+        default long getCycleOverruns() {
+            return 0L;
+        }
+        
+        /** 因周期预算耗尽被推迟到下一周期的线程池检查次数 */
+        default long getDeferredPoolChecks() {
+            return 0L;
+        }
+        
+        /** 最近一段时间监控周期（含按需检查）耗时分位数 */
+        default LatencyPercentiles getCycleDurationPercentiles() {
+            return null;
+        }
+        
+        /** 最近一次检查中有告警结果的线程池数量 */
+        default int getAlertingPools() {
+            return 0;
+        }
+        
+        /** 累计耗时最高的（线程池，策略）检查，用于定位拖慢监控周期的策略 */
+        default List<CheckCost> getMostExpensiveChecks(int limit) {
+            return Collections.emptyList();
+        }
     }
     
     /**
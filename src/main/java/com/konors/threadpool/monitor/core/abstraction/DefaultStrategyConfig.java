@@ -96,6 +96,23 @@ public class DefaultStrategyConfig implements MonitorStrategyFactory.StrategyCon
         return config;
     }
     
+    /**
+     * 创建响应时间监控配置
+     */
+    public static DefaultStrategyConfig createResponseTimeConfig(double p95ThresholdMillis,
+                                                                 double p99ThresholdMillis,
+                                                                 double queueWaitP99ThresholdMillis) {
+        DefaultStrategyConfig config = new DefaultStrategyConfig();
+        config.setParameter("p95ThresholdMillis", p95ThresholdMillis);
+        config.setParameter("p99ThresholdMillis", p99ThresholdMillis);
+        config.setParameter("queueWaitP95ThresholdMillis", queueWaitP99ThresholdMillis / 2); // 排队p95取p99阈值的一半
+        config.setParameter("queueWaitP99ThresholdMillis", queueWaitP99ThresholdMillis);
+        config.setParameter("breachCount", 3); // 连续3次超标才告警
+        config.setParameter("minSamples", 20L);
+        config.setParameter("checkInterval", 5000L); // 5秒
+        return config;
+    }
+    
     /**
      * 创建健康检查配置
      */
@@ -104,6 +121,47 @@ public class DefaultStrategyConfig implements MonitorStrategyFactory.StrategyCon
         config.setParameter("checkInterval", 30000L); // 30秒
         config.setParameter("timeoutThreshold", 5000L); // 5秒超时
         config.setParameter("enableDeepCheck", true);
+        config.setParameter("probeInterval", 60000L); // 探测任务最多每分钟一次
+        return config;
+    }
+    
+    /**
+     * 创建趋势预测配置
+     */
+    public static DefaultStrategyConfig createTrendPredictionConfig(long warningHorizon, long criticalHorizon) {
+        DefaultStrategyConfig config = new DefaultStrategyConfig();
+        config.setParameter("warningHorizon", warningHorizon);
+        config.setParameter("criticalHorizon", criticalHorizon);
+        config.setParameter("levelAlpha", 0.5);
+        config.setParameter("trendBeta", 0.3);
+        config.setParameter("minSamples", 3);
+        config.setParameter("checkInterval", 0L); // 跟随采样间隔
+        return config;
+    }
+    
+    /**
+     * 创建异常检测配置
+     */
+    public static DefaultStrategyConfig createAnomalyDetectionConfig(double warningZScore, double criticalZScore) {
+        DefaultStrategyConfig config = new DefaultStrategyConfig();
+        config.setParameter("warningZScore", warningZScore);
+        config.setParameter("criticalZScore", criticalZScore);
+        config.setParameter("halfLife", 600000L); // 基线半衰期10分钟
+        config.setParameter("warmupSamples", 30);
+        config.setParameter("detectDrops", false);
+        config.setParameter("checkInterval", 0L); // 跟随采样间隔
+        return config;
+    }
+    
+    /**
+     * 创建分组汇总监控配置
+     */
+    public static DefaultStrategyConfig createGroupRollupConfig(long queueWarningThreshold, long queueCriticalThreshold) {
+        DefaultStrategyConfig config = new DefaultStrategyConfig();
+        config.setParameter("queueWarningThreshold", queueWarningThreshold);
+        config.setParameter("queueCriticalThreshold", queueCriticalThreshold);
+        config.setParameter("groupPrefix", "tag:"); // 默认只按业务标签分组
+        config.setParameter("checkInterval", 0L); // 跟随采样间隔
         return config;
     }
     
@@ -0,0 +1,84 @@
+package com.konors.threadpool.monitor.core.abstraction;
+
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+
+import java.time.Duration;
+
+/**
+ * 自带计数器的执行器接口
+ * 实现类在任务提交与执行的关键路径上维护无锁计数，
+ * 监控采集时直接读取计数器，无需获取 ThreadPoolExecutor 的 mainLock
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public interface InstrumentedExecutor {
+
+    /**
+     * 获取正在执行任务的线程数
+     * @return 活跃任务数
+     */
+    int getRunningTaskCount();
+
+    /**
+     * 获取累计提交的任务数
+     * @return 提交任务数
+     */
+    long getSubmittedTaskCount();
+
+    /**
+     * 获取累计执行结束的任务数（包括执行失败的任务）
+     * @return 执行结束任务数
+     */
+    long getFinishedTaskCount();
+
+    /**
+     * 获取累计执行失败的任务数
+     * @return 失败任务数
+     */
+    long getFailedTaskCount();
+
+    /**
+     * 获取当前存活的工作线程数
+     * @return 工作线程数
+     */
+    int getLiveThreadCount();
+
+    /**
+     * 获取累计创建的工作线程数
+     * @return 创建线程数
+     */
+    long getCreatedThreadCount();
+
+    /**
+     * 获取任务排队等待时间分位数
+     * @return 分位数统计，未开启延迟统计时返回null
+     */
+    LatencyPercentiles getQueueWaitPercentiles();
+
+    /**
+     * 获取任务执行时间分位数
+     * @return 分位数统计，未开启延迟统计时返回null
+     */
+    LatencyPercentiles getExecutionPercentiles();
+
+    /**
+     * 获取最近一段时间的任务排队等待时间分位数
+     * 默认返回整个统计窗口的结果
+     * @param window 统计时长
+     * @return 分位数统计，未开启延迟统计时返回null
+     */
+    default LatencyPercentiles getQueueWaitPercentiles(Duration window) {
+        return getQueueWaitPercentiles();
+    }
+
+    /**
+     * 获取最近一段时间的任务执行时间分位数
+     * 默认返回整个统计窗口的结果
+     * @param window 统计时长
+     * @return 分位数统计，未开启延迟统计时返回null
+     */
+    default LatencyPercentiles getExecutionPercentiles(Duration window) {
+        return getExecutionPercentiles();
+    }
+}
@@ -1,5 +1,6 @@
 package com.konors.threadpool.monitor.core.abstraction;
 
+import com.konors.threadpool.monitor.core.alert.AlertDispatcher;
 import lombok.Builder;
 import lombok.Data;
 
@@ -42,6 +43,14 @@ public class MonitorConfiguration {
     @Builder.Default
     private boolean adaptiveMonitoringEnabled = true;
     
+    /** 自适应监控的最小采样间隔（高压时收缩到该值） */
+    @Builder.Default
+    private Duration minMonitorInterval = Duration.ofMillis(500);
+    
+    /** 自适应监控的最大采样间隔（空闲时放宽到该值） */
+    @Builder.Default
+    private Duration maxMonitorInterval = Duration.ofSeconds(30);
+    
     /** 是否启用预测性告警 */
     @Builder.Default
     private boolean predictiveAlertingEnabled = false;
@@ -54,10 +63,38 @@ public class MonitorConfiguration {
     @Builder.Default
     private Duration alertSuppressionPeriod = Duration.ofMinutes(5);
     
+    /** 每个告警输出的待发送队列容量 */
+    @Builder.Default
+    private int alertDispatchQueueCapacity = 1000;
+    
+    /** 告警输出每批最多发送的事件数 */
+    @Builder.Default
+    private int alertDispatchBatchSize = 50;
+    
+    /** 告警输出凑批的最长等待时间 */
+    @Builder.Default
+    private Duration alertDispatchBatchDelay = Duration.ofSeconds(1);
+    
+    /** 告警输出队列满时的丢弃策略 */
+    @Builder.Default
+    private AlertDispatcher.DropPolicy alertDropPolicy = AlertDispatcher.DropPolicy.DROP_OLDEST;
+    
+    /** performMonitorCheck 是否只返回级别变化或指标越过滞回带的结果 */
+    @Builder.Default
+    private boolean transitionOnlyResults = false;
+    
+    /** 结果变化的滞回带，比例类指标为绝对变化，计数类指标为相对上次返回值的变化比例 */
+    @Builder.Default
+    private double resultHysteresis = 0.1;
+    
     /** 批量处理大小 */
     @Builder.Default
     private int batchSize = 100;
     
+    /** 单个监控周期的耗时预算，耗尽后低优先级线程池推迟到下一周期，为0时使用监控间隔 */
+    @Builder.Default
+    private Duration monitorCycleBudget = Duration.ZERO;
+    
     /** 异步处理超时时间 */
     @Builder.Default
     private Duration asyncProcessingTimeout = Duration.ofSeconds(30);
@@ -114,6 +151,13 @@ public class MonitorConfiguration {
         extendedConfig.put(key, value);
     }
     
+    /**
+     * 获取实际生效的监控周期耗时预算
+     */
+    public Duration getEffectiveCycleBudget() {
+        return monitorCycleBudget == null || monitorCycleBudget.isZero() ? monitorInterval : monitorCycleBudget;
+    }
+    
     /**
      * 验证配置有效性
      */
@@ -122,6 +166,12 @@ public class MonitorConfiguration {
             && alertCheckInterval != null && !alertCheckInterval.isNegative()
             && metricsCollectionInterval != null && !metricsCollectionInterval.isNegative()
             && historyRetentionPeriod != null && !historyRetentionPeriod.isNegative()
+            && minMonitorInterval != null && maxMonitorInterval != null
+            && !minMonitorInterval.isNegative() && minMonitorInterval.compareTo(maxMonitorInterval) <= 0
+            && monitorCycleBudget != null && !monitorCycleBudget.isNegative()
+            && alertDispatchQueueCapacity > 0 && alertDispatchBatchSize > 0
+            && alertDispatchBatchDelay != null && !alertDispatchBatchDelay.isNegative()
+            && resultHysteresis >= 0
             && maxHistoryRecords > 0
             && monitorThreadPoolSize > 0
             && batchSize > 0;
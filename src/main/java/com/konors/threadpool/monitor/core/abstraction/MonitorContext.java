@@ -1,15 +1,25 @@
 package com.konors.threadpool.monitor.core.abstraction;
 
+import com.konors.threadpool.monitor.core.metrics.GroupAggregate;
+import com.konors.threadpool.monitor.core.metrics.MetricsHistory;
+import com.konors.threadpool.monitor.core.metrics.MonitorHistoryStore;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.metrics.PoolStateSlots;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 监控上下文
- * 封装监控过程中的上下文信息，便于策略间共享数据
+ * 封装监控过程中的上下文信息，便于策略间共享数据。
+ * 监控器持有一个长期存在的上下文，每个周期通过 {@link #nextCycle()} 生成只更新监控时间的视图；
+ * 有状态策略通过 {@link #getPoolState(String, PoolStateKey)} 跨周期保存每个线程池的状态。
  * 
  * @author zhangYh
  * @Date 2025/1/20
@@ -39,21 +49,128 @@ public class MonitorContext {
     /** 扩展属性 */
     private final Map<String, Object> attributes;
     
+    /** 线程池历史指标存储，可能为空 */
+    private final MonitorHistoryStore historyStore;
+    
+    /** 策略是否可复用按线程池预分配的结果对象，仅监控循环开启 */
+    private final boolean reuseResults;
+    
+    /** 未注册到历史存储的线程池的状态槽，随上下文存在 */
+    @Builder.Default
+    private final Map<String, PoolStateSlots> localPoolStates = new ConcurrentHashMap<>();
+    
     /**
      * 创建默认监控上下文
      */
     public static MonitorContext createDefault() {
+        return create(MonitorConfiguration.createDefault(), null);
+    }
+    
+    /**
+     * 创建带历史指标存储的监控上下文
+     */
+    public static MonitorContext create(MonitorConfiguration configuration, MonitorHistoryStore historyStore) {
+        return create(configuration, historyStore, false);
+    }
+    
+    /**
+     * 创建监控循环使用的上下文，结果对象在下一个周期前有效
+     */
+    public static MonitorContext createReusable(MonitorConfiguration configuration, MonitorHistoryStore historyStore) {
+        return create(configuration, historyStore, true);
+    }
+    
+    private static MonitorContext create(MonitorConfiguration configuration, MonitorHistoryStore historyStore,
+                                         boolean reuseResults) {
         return MonitorContext.builder()
                 .monitorTime(LocalDateTime.now())
                 .sessionId(java.util.UUID.randomUUID().toString())
-                .configuration(MonitorConfiguration.createDefault())
+                .configuration(configuration)
                 .historicalData(new ConcurrentHashMap<>())
                 .temporaryData(new ConcurrentHashMap<>())
                 .globalStats(new GlobalMonitorStats())
                 .attributes(new ConcurrentHashMap<>())
+                .historyStore(historyStore)
+                .reuseResults(reuseResults)
                 .build();
     }
     
+    /**
+     * 生成下一个监控周期的视图：共享状态、统计和数据，只更新监控时间并清理临时数据
+     */
+    public MonitorContext nextCycle() {
+        temporaryData.clear();
+        return copy(LocalDateTime.now(), historyStore);
+    }
+    
+    /**
+     * 生成使用指定历史存储的视图，其余数据共享
+     */
+    public MonitorContext withHistoryStore(MonitorHistoryStore store) {
+        return copy(monitorTime, store);
+    }
+    
+    private MonitorContext copy(LocalDateTime time, MonitorHistoryStore store) {
+        return MonitorContext.builder()
+                .monitorTime(time)
+                .sessionId(sessionId)
+                .configuration(configuration)
+                .historicalData(historicalData)
+                .temporaryData(temporaryData)
+                .globalStats(globalStats)
+                .attributes(attributes)
+                .historyStore(store)
+                .reuseResults(reuseResults)
+                .localPoolStates(localPoolStates)
+                .build();
+    }
+    
+    /**
+     * 获取线程池的跨周期状态，不存在时创建
+     * 已注册线程池的状态保存在历史存储中，注销时清除；其他情况保存在上下文中
+     */
+    public <T> T getPoolState(String poolName, PoolStateKey<T> key) {
+        PoolStateSlots slots = historyStore != null ? historyStore.getStateSlots(poolName) : null;
+        if (slots == null) {
+            slots = localPoolStates.computeIfAbsent(poolName, name -> new PoolStateSlots());
+        }
+        return slots.get(key);
+    }
+    
+    /**
+     * 清除线程池的某项状态，下次获取时重新初始化
+     */
+    public void clearPoolState(String poolName, PoolStateKey<?> key) {
+        PoolStateSlots slots = historyStore != null ? historyStore.getStateSlots(poolName) : null;
+        if (slots == null) {
+            slots = localPoolStates.get(poolName);
+        }
+        if (slots != null) {
+            slots.clear(key);
+        }
+    }
+    
+    /**
+     * 获取分组汇总，供策略按线程池类型或业务标签分组判断
+     * @param group 分组名称，如 {@code tag:team=payments} 或 {@code type:FIXED}
+     */
+    public Optional<GroupAggregate> getGroupAggregate(String group) {
+        if (historyStore == null) {
+            return Optional.empty();
+        }
+        return historyStore.getRollups().getAggregate(group);
+    }
+    
+    /**
+     * 获取线程池最近一段时间的历史指标
+     */
+    public Optional<MetricsHistory> getHistory(String poolName, Duration range) {
+        if (historyStore == null) {
+            return Optional.empty();
+        }
+        return historyStore.getHistory(poolName, range);
+    }
+    
     /**
      * 获取历史数据
      */
@@ -130,15 +247,19 @@ public class MonitorContext {
         /** 告警线程池数量 */
         private volatile int alertingPools = 0;
         /** 监控周期计数 */
-        private volatile long monitorCycles = 0;
+        private final LongAdder monitorCycles = new LongAdder();
         /** 最后更新时间 */
         private volatile LocalDateTime lastUpdateTime = LocalDateTime.now();
         
         public void incrementMonitorCycles() {
-            monitorCycles++;
+            monitorCycles.increment();
             lastUpdateTime = LocalDateTime.now();
         }
         
+        public long getMonitorCycles() {
+            return monitorCycles.sum();
+        }
+        
         public void updatePoolCounts(int total, int healthy, int alerting) {
             this.totalMonitoredPools = total;
             this.healthyPools = healthy;
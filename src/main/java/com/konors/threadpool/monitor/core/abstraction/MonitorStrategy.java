@@ -4,7 +4,8 @@ import com.konors.threadpool.monitor.core.ThreadPoolStatus;
 
 /**
  * 监控策略接口
- * 使用策略模式定义不同的监控行为，支持灵活的监控策略扩展
+ * 使用策略模式定义不同的监控行为，支持灵活的监控策略扩展。
+ * 监控器对同一线程池的检查串行执行，策略保存在监控上下文中的线程池状态不会被并发修改
  * 
  * @author zhangYh
  * @Date 2025/1/20
@@ -27,11 +28,20 @@ public interface MonitorStrategy {
     
     /**
      * 判断是否支持指定的线程池
+     * 只在构建线程池执行计划时调用，结果应只取决于线程池结构而非运行时状态
      * @param threadPool 可监控线程池
      * @return true表示支持，false表示不支持
      */
     boolean supports(MonitorableThreadPool threadPool);
     
+    /**
+     * 获取策略检查间隔
+     * @return 检查间隔（毫秒），小于等于0表示跟随全局监控间隔
+     */
+    default long getCheckInterval() {
+        return 0L;
+    }
+    
     /**
      * 执行监控逻辑
      * @param threadPool 被监控的线程池
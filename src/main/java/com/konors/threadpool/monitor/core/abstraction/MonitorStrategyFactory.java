@@ -102,6 +102,8 @@ public interface MonitorStrategyFactory {
         TREND_PREDICTION,
         /** 异常检测 */
         ANOMALY_DETECTION,
+        /** 分组汇总监控 */
+        GROUP_ROLLUP,
         /** 自定义策略 */
         CUSTOM
     }
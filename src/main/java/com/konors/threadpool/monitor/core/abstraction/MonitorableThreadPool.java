@@ -44,8 +44,8 @@ public interface MonitorableThreadPool {
     
     /**
      * 获取线程池的业务标签
-     * 用于分类和过滤不同业务场景的线程池
-     * @return 业务标签集合
+     * 用于分类和过滤不同业务场景的线程池，监控器在注册时读取并据此建立索引和汇总分组，注册期间不应变化
+     * @return 业务标签的只读视图
      */
     Map<String, String> getBusinessTags();
     
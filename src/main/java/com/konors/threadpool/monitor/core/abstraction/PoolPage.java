@@ -0,0 +1,26 @@
+package com.konors.threadpool.monitor.core.abstraction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 线程池查询的一页结果
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+@AllArgsConstructor
+public class PoolPage {
+
+    /** 匹配的线程池总数 */
+    private long total;
+
+    /** 本页起始位置 */
+    private int offset;
+
+    /** 本页的线程池名称，按名称排序 */
+    private List<String> poolNames;
+}
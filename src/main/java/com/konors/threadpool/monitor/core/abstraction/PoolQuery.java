@@ -0,0 +1,48 @@
+package com.konors.threadpool.monitor.core.abstraction;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 线程池查询条件
+ * 所有条件同时满足才算匹配，结果按线程池名称排序后分页
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+@Builder
+public class PoolQuery {
+
+    /** 线程池类型，为空表示不限 */
+    private final MonitorableThreadPool.ThreadPoolType type;
+
+    /** 业务标签，值为空表示只要求存在该标签 */
+    @Builder.Default
+    private final Map<String, String> tags = Collections.emptyMap();
+
+    /** 跳过的匹配数 */
+    @Builder.Default
+    private final int offset = 0;
+
+    /** 最多返回的数量 */
+    @Builder.Default
+    private final int limit = Integer.MAX_VALUE;
+
+    /**
+     * 不带条件的查询，返回全部线程池
+     */
+    public static PoolQuery all() {
+        return PoolQuery.builder().build();
+    }
+
+    /**
+     * 是否带有过滤条件
+     */
+    public boolean hasFilter() {
+        return type != null || (tags != null && !tags.isEmpty());
+    }
+}
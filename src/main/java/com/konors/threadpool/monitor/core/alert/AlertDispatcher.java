@@ -0,0 +1,280 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 告警分发器
+ * 每个输出拥有独立的有界队列和分发线程：监控线程只做非阻塞入队，
+ * 分发线程按数量（batchSize）或时间（batchDelay）凑批后调用输出。
+ * 队列满时按丢弃策略丢弃事件并计数，慢输出不会拖慢监控周期或其他输出。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class AlertDispatcher {
+
+    /**
+     * 队列满时的丢弃策略
+     */
+    public enum DropPolicy {
+        /** 丢弃新事件 */
+        DROP_NEWEST,
+        /** 丢弃最早的事件，保留新事件 */
+        DROP_OLDEST
+    }
+
+    /** 唤醒空闲分发线程的停止标记，不会交给输出 */
+    private static final AlertEvent STOP = AlertEvent.builder().build();
+
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long batchDelayNanos;
+    private final DropPolicy dropPolicy;
+    private final Map<String, SinkWorker> workers = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    public AlertDispatcher(int queueCapacity, int batchSize, Duration batchDelay, DropPolicy dropPolicy) {
+        if (queueCapacity <= 0 || batchSize <= 0 || batchDelay == null || batchDelay.isNegative()) {
+            throw new IllegalArgumentException("Invalid alert dispatcher settings: capacity=" + queueCapacity
+                    + ", batchSize=" + batchSize + ", batchDelay=" + batchDelay);
+        }
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.batchDelayNanos = batchDelay.toNanos();
+        this.dropPolicy = dropPolicy != null ? dropPolicy : DropPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * 添加输出，同名输出会被替换
+     */
+    public void addSink(AlertSink sink) {
+        if (shutdown) {
+            throw new IllegalStateException("Alert dispatcher is shut down");
+        }
+        SinkWorker worker = new SinkWorker(sink);
+        SinkWorker previous = workers.put(sink.getName(), worker);
+        if (previous != null) {
+            previous.stop();
+        }
+        worker.start();
+        log.info("Added alert sink: {}", sink.getName());
+    }
+
+    /**
+     * 移除输出，队列中剩余事件会先发送完
+     */
+    public boolean removeSink(String name) {
+        SinkWorker worker = workers.remove(name);
+        if (worker == null) {
+            return false;
+        }
+        worker.stop();
+        log.info("Removed alert sink: {}", name);
+        return true;
+    }
+
+    /**
+     * 是否有已注册的输出
+     */
+    public boolean hasSinks() {
+        return !workers.isEmpty();
+    }
+
+    /**
+     * 非阻塞地把事件投递给所有输出
+     */
+    public void publish(AlertEvent event) {
+        if (shutdown) {
+            return;
+        }
+        for (SinkWorker worker : workers.values()) {
+            worker.offer(event);
+        }
+    }
+
+    /**
+     * 各输出的分发统计：sent、failed、dropped、queued
+     */
+    public Map<String, Map<String, Long>> getSinkStats() {
+        Map<String, Map<String, Long>> stats = new ConcurrentHashMap<>();
+        workers.forEach((name, worker) -> stats.put(name, Map.of(
+                "sent", worker.sent.get(),
+                "failed", worker.failed.get(),
+                "dropped", worker.dropped.get(),
+                "queued", (long) worker.queue.size())));
+        return stats;
+    }
+
+    /**
+     * 累计丢弃的事件数
+     */
+    public long getDroppedCount() {
+        return workers.values().stream().mapToLong(worker -> worker.dropped.get()).sum();
+    }
+
+    /**
+     * 关闭分发器，在超时时间内等待各输出发送完队列中的事件，超时后中断发送
+     */
+    public void shutdown(Duration timeout) {
+        shutdown = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<SinkWorker> stopping = new ArrayList<>(workers.values());
+        workers.clear();
+        stopping.forEach(SinkWorker::stop);
+        for (SinkWorker worker : stopping) {
+            try {
+                worker.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (worker.thread.isAlive()) {
+                worker.abandon();
+            }
+        }
+    }
+
+    /**
+     * 单个输出的队列和分发线程
+     */
+    private final class SinkWorker implements Runnable {
+        private final AlertSink sink;
+        private final BlockingQueue<AlertEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean running = true;
+        private volatile boolean abandoned;
+
+        private SinkWorker(AlertSink sink) {
+            this.sink = sink;
+            this.thread = new Thread(this, "ThreadPoolMonitor-AlertSink-" + sink.getName());
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        /**
+         * 停止接收新批次，发送完队列中剩余事件后退出
+         * 不中断分发线程，正在进行的发送不受影响；只在空闲等待时用停止标记唤醒
+         */
+        void stop() {
+            running = false;
+            // 队列已满时分发线程不会阻塞在 take()，放不进停止标记也无妨
+            queue.offer(STOP);
+        }
+
+        /**
+         * 放弃剩余事件并中断正在进行的发送
+         */
+
+        void abandon() {
+            abandoned = true;
+            thread.interrupt();
+        }
+
+        void offer(AlertEvent event) {
+            if (queue.offer(event)) {
+                return;
+            }
+            if (dropPolicy == DropPolicy.DROP_OLDEST) {
+                // 腾出位置后重试一次，仍失败说明被其他生产者抢占
+                AlertEvent oldest = queue.poll();
+                if (oldest != null && oldest != STOP) {
+                    dropped.incrementAndGet();
+                }
+                if (queue.offer(event)) {
+                    return;
+                }
+            }
+            if (dropped.incrementAndGet() % 100 == 1) {
+                log.warn("Alert sink {} is falling behind, {} events dropped", sink.getName(), dropped.get());
+            }
+        }
+
+        @Override
+        public void run() {
+            List<AlertEvent> batch = new ArrayList<>(batchSize);
+            while ((running || !queue.isEmpty()) && !abandoned) {
+                try {
+                    collectBatch(batch);
+                } catch (InterruptedException e) {
+                    // 只有 abandon() 会中断分发线程
+                    discard(batch);
+                    break;
+                }
+                batch.removeIf(event -> event == STOP);
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                    batch.clear();
+                }
+            }
+            try {
+                sink.close();
+            } catch (Exception e) {
+                log.warn("Failed to close alert sink {}", sink.getName(), e);
+            }
+        }
+
+        /**
+         * 阻塞等待第一条事件，之后在 batchDelay 内继续凑满 batchSize
+         */
+        private void collectBatch(List<AlertEvent> batch) throws InterruptedException {
+            AlertEvent first = running ? queue.take() : queue.poll();
+            if (first == null || first == STOP) {
+                return;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + batchDelayNanos;
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    break;
+                }
+                AlertEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+
+        private void deliver(List<AlertEvent> batch) {
+            try {
+                sink.send(List.copyOf(batch));
+                sent.addAndGet(batch.size());
+            } catch (InterruptedException e) {
+                // 发送过程中被强制停止，放弃剩余事件
+                failed.addAndGet(batch.size());
+                batch.clear();
+                discard(batch);
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.warn("Alert sink {} failed to send {} events: {}", sink.getName(), batch.size(), e.getMessage());
+            }
+        }
+
+        private void discard(List<AlertEvent> batch) {
+            queue.drainTo(batch);
+            batch.removeIf(event -> event == STOP);
+            dropped.addAndGet(batch.size());
+            batch.clear();
+            abandoned = true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 告警事件
+ * 由告警抑制引擎在状态变化、升级、抑制期满重复或恢复时产生
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+@Builder
+public class AlertEvent {
+
+    /** 线程池名称 */
+    private final String poolName;
+
+    /** 产生告警的策略名称 */
+    private final String strategyName;
+
+    /** 事件类型 */
+    private final Type type;
+
+    /** 当前告警级别，恢复事件为恢复前的级别 */
+    private final AlertLevel level;
+
+    /** 上一次发出的告警级别，首次触发时为空 */
+    private final AlertLevel previousLevel;
+
+    /** 告警消息 */
+    private final String message;
+
+    /** 建议操作 */
+    private final String suggestedAction;
+
+    /** 自上次发出以来被抑制的重复告警次数 */
+    private final int suppressedCount;
+
+    /** 事件时间 */
+    private final LocalDateTime timestamp;
+
+    /** 扩展数据 */
+    private final Map<String, Object> extendedData;
+
+    /**
+     * 告警事件类型
+     */
+    public enum Type {
+        /** 首次触发 */
+        FIRED,
+        /** 级别升高 */
+        ESCALATED,
+        /** 级别降低但仍在告警 */
+        DEESCALATED,
+        /** 抑制期满后仍在告警 */
+        REPEATED,
+        /** 告警恢复 */
+        RESOLVED
+    }
+}
@@ -0,0 +1,32 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import java.util.List;
+
+/**
+ * 告警输出扩展点
+ * 由告警分发器在独立线程中按批调用，实现可以是阻塞的（HTTP、邮件等），
+ * 慢的输出只会导致自身队列积压和丢弃，不会影响监控周期。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public interface AlertSink {
+
+    /**
+     * 获取输出名称，同一监控器内唯一
+     */
+    String getName();
+
+    /**
+     * 发送一批告警事件
+     * @param events 按发生顺序排列的告警事件，不为空
+     * @throws Exception 发送失败，该批事件不重试
+     */
+    void send(List<AlertEvent> events) throws Exception;
+
+    /**
+     * 释放资源，分发器关闭时调用
+     */
+    default void close() {
+    }
+}
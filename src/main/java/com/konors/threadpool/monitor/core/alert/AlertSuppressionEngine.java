@@ -0,0 +1,183 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 告警抑制与去重引擎
+ * 按（线程池, 策略）维护当前告警级别：首次触发、级别升高或降低时立即发出，
+ * 同级别告警在抑制期内只计数不发出，期满后带上抑制次数重复发出一次，告警消失时发出恢复事件。
+ * 每个键的状态是不可变对象，通过 CAS 替换，没有全局锁。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class AlertSuppressionEngine {
+
+    private final long defaultPeriodNanos;
+    private final Map<AlertKey, AtomicReference<AlertState>> states = new ConcurrentHashMap<>();
+    private final Map<String, Long> poolPeriodNanos = new ConcurrentHashMap<>();
+
+    public AlertSuppressionEngine(Duration defaultPeriod) {
+        this.defaultPeriodNanos = defaultPeriod == null || defaultPeriod.isNegative() ? 0 : defaultPeriod.toNanos();
+    }
+
+    /**
+     * 设置线程池级别的抑制时间，对应 ThreadPoolAlertConfig.alertInterval
+     * @param period 抑制时间，为空时恢复全局配置
+     */
+    public void setSuppressionPeriod(String poolName, Duration period) {
+        if (period == null) {
+            poolPeriodNanos.remove(poolName);
+        } else {
+            poolPeriodNanos.put(poolName, Math.max(0, period.toNanos()));
+        }
+    }
+
+    /**
+     * 评估一条监控结果
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     * @return 需要发出的告警事件，被抑制或无状态变化时为空
+     */
+    public Optional<AlertEvent> evaluate(String poolName, String strategyName, MonitorResult result, long nowNanos) {
+        AlertKey key = new AlertKey(poolName, strategyName);
+        if (!result.shouldAlert()) {
+            AtomicReference<AlertState> ref = states.get(key);
+            if (ref == null) {
+                return Optional.empty();
+            }
+            AlertState resolved = ref.get();
+            // 只有移除成功的线程发出恢复事件
+            if (resolved == null || !states.remove(key, ref)) {
+                return Optional.empty();
+            }
+            return Optional.of(createEvent(key, AlertEvent.Type.RESOLVED, resolved.level, resolved.level,
+                    result, resolved.suppressedCount));
+        }
+
+        AlertLevel level = result.getAlertLevel() != null ? result.getAlertLevel() : AlertLevel.WARN;
+        AtomicReference<AlertState> ref = states.get(key);
+        if (ref == null) {
+            AtomicReference<AlertState> created = new AtomicReference<>(new AlertState(level, nowNanos, 0));
+            AtomicReference<AlertState> existing = states.putIfAbsent(key, created);
+            if (existing == null) {
+                return Optional.of(createEvent(key, AlertEvent.Type.FIRED, level, null, result, 0));
+            }
+            ref = existing;
+        }
+
+        long periodNanos = poolPeriodNanos.getOrDefault(poolName, defaultPeriodNanos);
+        while (true) {
+            AlertState current = ref.get();
+            AlertEvent.Type type;
+            AlertState next;
+            if (level != current.level) {
+                type = level.isHigherThan(current.level) ? AlertEvent.Type.ESCALATED : AlertEvent.Type.DEESCALATED;
+                next = new AlertState(level, nowNanos, 0);
+            } else if (nowNanos - current.lastEmitNanos >= periodNanos) {
+                type = AlertEvent.Type.REPEATED;
+                next = new AlertState(level, nowNanos, 0);
+            } else {
+                type = null;
+                next = new AlertState(level, current.lastEmitNanos, current.suppressedCount + 1);
+            }
+            if (ref.compareAndSet(current, next)) {
+                if (type == null) {
+                    return Optional.empty();
+                }
+                return Optional.of(createEvent(key, type, level, current.level, result, current.suppressedCount));
+            }
+        }
+    }
+
+    /**
+     * 清除线程池的所有告警状态（线程池注销时调用），不发出恢复事件
+     */
+    public void removePool(String poolName) {
+        states.keySet().removeIf(key -> key.poolName.equals(poolName));
+        poolPeriodNanos.remove(poolName);
+    }
+
+    /**
+     * 清除策略的所有告警状态（策略移除时调用），不发出恢复事件
+     */
+    public void removeStrategy(String strategyName) {
+        states.keySet().removeIf(key -> key.strategyName.equals(strategyName));
+    }
+
+    /**
+     * 当前处于告警状态的键数量
+     */
+    public int getActiveAlertCount() {
+        return states.size();
+    }
+
+    private AlertEvent createEvent(AlertKey key, AlertEvent.Type type, AlertLevel level, AlertLevel previousLevel,
+                                   MonitorResult result, int suppressedCount) {
+        return AlertEvent.builder()
+                .poolName(key.poolName)
+                .strategyName(key.strategyName)
+                .type(type)
+                .level(level)
+                .previousLevel(previousLevel)
+                .message(result.getMessage())
+                .suggestedAction(result.getSuggestedAction())
+                .suppressedCount(suppressedCount)
+                .timestamp(LocalDateTime.now())
+                .extendedData(result.getExtendedData())
+                .build();
+    }
+
+    /**
+     * 去重键
+     */
+    private static final class AlertKey {
+        private final String poolName;
+        private final String strategyName;
+        private final int hash;
+
+        private AlertKey(String poolName, String strategyName) {
+            this.poolName = poolName;
+            this.strategyName = strategyName;
+            this.hash = 31 * poolName.hashCode() + strategyName.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AlertKey other)) {
+                return false;
+            }
+            return hash == other.hash && poolName.equals(other.poolName) && strategyName.equals(other.strategyName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 单个键的告警状态（不可变）
+     */
+    private static final class AlertState {
+        private final AlertLevel level;
+        private final long lastEmitNanos;
+        private final int suppressedCount;
+
+        private AlertState(AlertLevel level, long lastEmitNanos, int suppressedCount) {
+            this.level = level;
+            this.lastEmitNanos = lastEmitNanos;
+            this.suppressedCount = suppressedCount;
+        }
+    }
+}
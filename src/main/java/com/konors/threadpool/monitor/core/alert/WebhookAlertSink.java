@@ -0,0 +1,142 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP Webhook 告警输出
+ * 每批事件以 JSON 数组 POST 到目标地址，非 2xx 响应视为发送失败。
+ * 扩展数据只输出数字、布尔和字符串类型的值。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class WebhookAlertSink implements AlertSink {
+
+    private final String name;
+    private final URI endpoint;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+
+    public WebhookAlertSink(String name, URI endpoint, Duration requestTimeout) {
+        if (endpoint == null || !("http".equals(endpoint.getScheme()) || "https".equals(endpoint.getScheme()))) {
+            throw new IllegalArgumentException("Invalid webhook endpoint: " + endpoint);
+        }
+        this.name = name;
+        this.endpoint = endpoint;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    public WebhookAlertSink(URI endpoint) {
+        this("webhook", endpoint, Duration.ofSeconds(5));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public void send(List<AlertEvent> events) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(events), StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + endpoint + " responded with status " + response.statusCode());
+        }
+    }
+
+    /**
+     * 序列化一批告警事件
+     */
+    static String toJson(List<AlertEvent> events) {
+        StringBuilder json = new StringBuilder(events.size() * 256).append('[');
+        for (int i = 0; i < events.size(); i++) {
+            AlertEvent event = events.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            appendField(json, "poolName", event.getPoolName()).append(',');
+            appendField(json, "strategyName", event.getStrategyName()).append(',');
+            appendField(json, "type", event.getType()).append(',');
+            appendField(json, "level", event.getLevel()).append(',');
+            appendField(json, "previousLevel", event.getPreviousLevel()).append(',');
+            appendField(json, "message", event.getMessage()).append(',');
+            appendField(json, "suggestedAction", event.getSuggestedAction()).append(',');
+            appendField(json, "suppressedCount", event.getSuppressedCount()).append(',');
+            appendField(json, "timestamp", event.getTimestamp());
+            if (event.getExtendedData() != null && !event.getExtendedData().isEmpty()) {
+                json.append(",\"extendedData\":{");
+                boolean first = true;
+                for (Map.Entry<String, Object> entry : event.getExtendedData().entrySet()) {
+                    Object value = entry.getValue();
+                    if (value instanceof Number || value instanceof Boolean || value instanceof CharSequence) {
+                        if (!first) {
+                            json.append(',');
+                        }
+                        appendField(json, entry.getKey(), value);
+                        first = false;
+                    }
+                }
+                json.append('}');
+            }
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder json, String key, Object value) {
+        appendString(json, key).append(':');
+        if (value == null) {
+            return json.append("null");
+        }
+        if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+            return json.append(value);
+        }
+        if (value instanceof Number number) {
+            double d = number.doubleValue();
+            return Double.isFinite(d) ? json.append(d) : json.append("null");
+        }
+        return appendString(json, value.toString());
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+}
@@ -4,6 +4,7 @@ import com.konors.threadpool.monitor.core.abstraction.*;
 import com.konors.threadpool.monitor.core.factory.DefaultMonitorStrategyFactory;
 import com.konors.threadpool.monitor.core.impl.DefaultAdvancedThreadPoolMonitor;
 import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.InstrumentedThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -121,6 +122,23 @@ public class ThreadPoolMonitorBuilder {
         return this;
     }
     
+    /**
+     * 设置单个监控周期的耗时预算
+     */
+    public ThreadPoolMonitorBuilder withMonitorCycleBudget(Duration budget) {
+        configBuilder.monitorCycleBudget(budget);
+        return this;
+    }
+    
+    /**
+     * 设置自适应监控的采样间隔范围
+     */
+    public ThreadPoolMonitorBuilder withAdaptiveIntervalRange(Duration minInterval, Duration maxInterval) {
+        configBuilder.minMonitorInterval(minInterval);
+        configBuilder.maxMonitorInterval(maxInterval);
+        return this;
+    }
+    
     /**
      * 设置是否启用预测性告警
      */
@@ -272,6 +290,18 @@ public class ThreadPoolMonitorBuilder {
         return this;
     }
     
+    /**
+     * 添加响应时间监控策略
+     */
+    public ThreadPoolMonitorBuilder addResponseTimeStrategy(double p95ThresholdMillis, double p99ThresholdMillis,
+                                                            double queueWaitP99ThresholdMillis) {
+        strategyFactory.createStrategy(MonitorStrategyFactory.StrategyType.RESPONSE_TIME_MONITOR,
+                DefaultStrategyConfig.createResponseTimeConfig(p95ThresholdMillis, p99ThresholdMillis,
+                        queueWaitP99ThresholdMillis))
+                .ifPresent(customStrategies::add);
+        return this;
+    }
+    
     /**
      * 添加健康检查策略
      */
@@ -346,10 +376,10 @@ public class ThreadPoolMonitorBuilder {
                 .corePoolSize(executor.getCorePoolSize())
                 .maximumPoolSize(executor.getMaximumPoolSize())
                 .keepAliveTime(executor.getKeepAliveTime(java.util.concurrent.TimeUnit.MILLISECONDS))
-                .queueType(executor.getQueue().getClass().getSimpleName())
+                .queueType(InstrumentedThreadPoolExecutor.workQueueOf(executor).getClass().getSimpleName())
                 .queueCapacity(getQueueCapacity(executor))
                 .rejectedExecutionHandlerType(executor.getRejectedExecutionHandler().getClass().getSimpleName())
-                .threadFactoryType(executor.getThreadFactory().getClass().getSimpleName())
+                .threadFactoryType(InstrumentedThreadPoolExecutor.threadFactoryOf(executor).getClass().getSimpleName())
                 .build();
     }
     
@@ -1,6 +1,5 @@
 package com.konors.threadpool.monitor.core.factory;
 
-import com.konors.threadpool.monitor.core.ThreadPoolStatus;
 import com.konors.threadpool.monitor.core.abstraction.*;
 import com.konors.threadpool.monitor.core.strategy.*;
 import lombok.extern.slf4j.Slf4j;
@@ -33,15 +32,23 @@ public class DefaultMonitorStrategyFactory implements MonitorStrategyFactory {
         registerStrategyCreator(StrategyType.UTILIZATION_MONITOR, UtilizationMonitorStrategy::new);
         registerStrategyCreator(StrategyType.QUEUE_MONITOR, QueueMonitorStrategy::new);
         registerStrategyCreator(StrategyType.REJECTION_MONITOR, this::createRejectionMonitorStrategy);
+        registerStrategyCreator(StrategyType.RESPONSE_TIME_MONITOR, ResponseTimeMonitorStrategy::new);
         registerStrategyCreator(StrategyType.HEALTH_CHECK, this::createHealthCheckStrategy);
         registerStrategyCreator(StrategyType.PERFORMANCE_ANALYSIS, this::createPerformanceAnalysisStrategy);
+        registerStrategyCreator(StrategyType.TREND_PREDICTION, TrendPredictionStrategy::new);
+        registerStrategyCreator(StrategyType.ANOMALY_DETECTION, AnomalyDetectionStrategy::new);
+        registerStrategyCreator(StrategyType.GROUP_ROLLUP, GroupRollupStrategy::new);
         
         // 注册名称映射
         registerStrategyCreator("utilization", UtilizationMonitorStrategy::new);
         registerStrategyCreator("queue", QueueMonitorStrategy::new);
         registerStrategyCreator("rejection", this::createRejectionMonitorStrategy);
+        registerStrategyCreator("responsetime", ResponseTimeMonitorStrategy::new);
         registerStrategyCreator("health", this::createHealthCheckStrategy);
         registerStrategyCreator("performance", this::createPerformanceAnalysisStrategy);
+        registerStrategyCreator("trend", TrendPredictionStrategy::new);
+        registerStrategyCreator("anomaly", AnomalyDetectionStrategy::new);
+        registerStrategyCreator("group", GroupRollupStrategy::new);
         
         log.info("DefaultMonitorStrategyFactory initialized with {} built-in strategies", typeCreators.size());
     }
@@ -106,6 +113,11 @@ public class DefaultMonitorStrategyFactory implements MonitorStrategyFactory {
                 DefaultStrategyConfig.createHealthCheckConfig())
                 .ifPresent(strategies::add);
         
+        // 创建默认的响应时间监控策略（仅对开启延迟统计的线程池生效）
+        createStrategy(StrategyType.RESPONSE_TIME_MONITOR, 
+                DefaultStrategyConfig.createResponseTimeConfig(500, 2000, 1000))
+                .ifPresent(strategies::add);
+        
         log.info("Created {} default strategies", strategies.size());
         return strategies;
     }
@@ -203,97 +215,23 @@ public class DefaultMonitorStrategyFactory implements MonitorStrategyFactory {
     }
     
     /**
-     * 创建拒绝任务监控策略（占位实现）
+     * 创建拒绝任务监控策略
      */
     private MonitorStrategy createRejectionMonitorStrategy(StrategyConfig config) {
-        // 这里应该实现具体的拒绝任务监控策略
-        // 为了演示，返回一个简单的实现
-        return new SimpleMonitorStrategy("RejectionMonitor", 80);
+        return new RejectionMonitorStrategy(config);
     }
     
     /**
-     * 创建健康检查策略（占位实现）
+     * 创建健康检查策略
      */
     private MonitorStrategy createHealthCheckStrategy(StrategyConfig config) {
-        // 这里应该实现具体的健康检查策略
-        return new SimpleMonitorStrategy("HealthCheck", 70);
+        return new HealthCheckStrategy(config);
     }
     
     /**
-     * 创建性能分析策略（占位实现）
+     * 创建性能分析策略
      */
     private MonitorStrategy createPerformanceAnalysisStrategy(StrategyConfig config) {
-        // 这里应该实现具体的性能分析策略
-        return new SimpleMonitorStrategy("PerformanceAnalysis", 60);
-    }
-    
-    /**
-     * 简单监控策略实现（用于占位）
-     */
-    private static class SimpleMonitorStrategy implements MonitorStrategy {
-        private final String name;
-        private final int priority;
-        
-        public SimpleMonitorStrategy(String name, int priority) {
-            this.name = name;
-            this.priority = priority;
-        }
-        
-        @Override
-        public String getName() {
-            return name;
-        }
-
-        @Override
-        public String getStrategyName() {
-            return null;
-        }
-
-        @Override
-        public int getPriority() {
-            return priority;
-        }
-        
-        @Override
-        public boolean supports(MonitorableThreadPool threadPool) {
-            return true;
-        }
-
-        @Override
-        public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
-            return null;
-        }
-
-        @Override
-        public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
-            // 简单的占位实现
-            return new MonitorResult() {
-
-                @Override
-                public boolean shouldAlert() {
-                    return true;
-                }
-
-                @Override
-                public AlertLevel getAlertLevel() {
-                    return AlertLevel.INFO;
-                }
-                
-                @Override
-                public String getMessage() {
-                    return name + " monitoring completed for " + threadPool.getPoolName();
-                }
-                
-                @Override
-                public String getSuggestedAction() {
-                    return "No action required";
-                }
-                
-                @Override
-                public Map<String, Object> getExtendedData() {
-                    return new HashMap<>();
-                }
-            };
-        }
+        return new PerformanceAnalysisStrategy(config);
     }
-}
\ No newline at end of file
+}
@@ -51,6 +51,11 @@ public class PropertyBasedMonitorStrategyFactory extends DefaultMonitorStrategyF
                 DefaultStrategyConfig.createHealthCheckConfig()
         ).ifPresent(strategies::add);
 
+        // 响应时间：沿用父类默认
+        createStrategy(StrategyType.RESPONSE_TIME_MONITOR,
+                DefaultStrategyConfig.createResponseTimeConfig(500, 2000, 1000)
+        ).ifPresent(strategies::add);
+
         return strategies;
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 自适应监控频率控制器
+ * 根据线程池压力（利用率、队列增长、排队延迟趋势）计算每个线程池的采样间隔：
+ * 压力上升时立即收缩到下限附近，空闲时逐步放宽到上限，线程池优先级作为压力权重。
+ * 队列增长取平滑后的趋势并外推若干次采样，有界队列按外推后的占用比例、无界队列按外推增量相对当前积压的比例换算压力，
+ * 队列长度的小幅抖动不会把间隔压到下限。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class AdaptiveIntervalController {
+
+    /** 优先级基准，与 ThreadPoolUtil 默认优先级一致 */
+    private static final double BASE_PRIORITY = 100.0;
+    /** 每次采样最多放宽的倍数，避免间隔来回跳动 */
+    private static final double MAX_RELAX_FACTOR = 1.5;
+    /** 间隔变化小于该比例时不调整调度 */
+    private static final double MIN_CHANGE_RATIO = 0.1;
+    /** 队列增长趋势的平滑系数 */
+    private static final double QUEUE_TREND_ALPHA = 0.3;
+    /** 按当前趋势外推的采样次数 */
+    private static final int QUEUE_TREND_HORIZON = 5;
+
+    private final long baseIntervalMillis;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final Map<String, PressureState> states = new ConcurrentHashMap<>();
+
+    AdaptiveIntervalController(long baseIntervalMillis, long minIntervalMillis, long maxIntervalMillis) {
+        this.minIntervalMillis = Math.max(1, Math.min(minIntervalMillis, baseIntervalMillis));
+        this.maxIntervalMillis = Math.max(maxIntervalMillis, baseIntervalMillis);
+        this.baseIntervalMillis = baseIntervalMillis;
+    }
+
+    long getMinIntervalMillis() {
+        return minIntervalMillis;
+    }
+
+    /**
+     * 根据最新状态更新线程池的采样间隔
+     * @return 新的采样间隔（毫秒），变化不明显时返回 -1
+     */
+    long update(String poolName, int priority, ThreadPoolStatus status) {
+        PressureState state = states.computeIfAbsent(poolName, k -> new PressureState(baseIntervalMillis));
+        synchronized (state) {
+            double pressure = computePressure(state, status);
+            double weight = Math.max(0.5, Math.min(2.0, priority / BASE_PRIORITY));
+            double weighted = Math.min(1.0, pressure * weight);
+
+            long target = Math.round(maxIntervalMillis - (maxIntervalMillis - minIntervalMillis) * weighted);
+            long current = state.intervalMillis;
+            long next = target < current
+                    ? target
+                    : Math.min(target, Math.round(current * MAX_RELAX_FACTOR));
+            next = Math.max(minIntervalMillis, Math.min(maxIntervalMillis, next));
+
+            if (Math.abs(next - current) < current * MIN_CHANGE_RATIO) {
+                return -1;
+            }
+            state.intervalMillis = next;
+            return next;
+        }
+    }
+
+    /**
+     * 按当前采样间隔换算策略的检查间隔
+     */
+    long scaleCheckInterval(String poolName, long checkIntervalMillis) {
+        PressureState state = states.get(poolName);
+        long poolInterval = state != null ? state.intervalMillis : baseIntervalMillis;
+        long scaled = Math.round((double) checkIntervalMillis * poolInterval / baseIntervalMillis);
+        return Math.max(minIntervalMillis, Math.min(Math.max(maxIntervalMillis, checkIntervalMillis), scaled));
+    }
+
+    /**
+     * 获取线程池当前采样间隔
+     */
+    long getIntervalMillis(String poolName) {
+        PressureState state = states.get(poolName);
+        return state != null ? state.intervalMillis : baseIntervalMillis;
+    }
+
+    void remove(String poolName) {
+        states.remove(poolName);
+    }
+
+    /**
+     * 计算压力值，范围 [0, 1]
+     */
+    private double computePressure(PressureState state, ThreadPoolStatus status) {
+        double pressure = Math.max(status.getUtilization(), status.getQueueUtilization());
+
+        // 队列增长按容量或当前积压换算压力
+        int queueSize = status.getQueueSize();
+        if (state.sampled) {
+            state.queueTrend += QUEUE_TREND_ALPHA * ((queueSize - state.lastQueueSize) - state.queueTrend);
+        }
+        state.lastQueueSize = queueSize;
+        state.sampled = true;
+        if (state.queueTrend > 0) {
+            int remaining = status.getQueueRemainingCapacity();
+            double growthPressure;
+            if (remaining == Integer.MAX_VALUE) {
+                // 无界队列：外推增量相对当前积压（至少按最大线程数计）的比例
+                growthPressure = state.queueTrend * QUEUE_TREND_HORIZON
+                        / Math.max(queueSize, Math.max(1, status.getMaximumPoolSize()));
+            } else {
+                long capacity = (long) queueSize + remaining;
+                growthPressure = capacity > 0
+                        ? (queueSize + state.queueTrend * QUEUE_TREND_HORIZON) / capacity : 0.0;
+            }
+            pressure = Math.max(pressure, Math.min(1.0, growthPressure));
+        }
+
+        // 排队延迟 p99 明显上升视为高压
+        LatencyPercentiles queueWait = status.getQueueWaitLatency();
+        if (queueWait != null && queueWait.getCount() > 0) {
+            double p99 = queueWait.getP99Millis();
+            if (state.lastQueueWaitP99 > 0 && p99 > state.lastQueueWaitP99 * 1.5) {
+                pressure = Math.max(pressure, 0.8);
+            }
+            state.lastQueueWaitP99 = p99;
+        }
+        return Math.max(0.0, Math.min(1.0, pressure));
+    }
+
+    /**
+     * 单个线程池的压力状态
+     */
+    private static final class PressureState {
+        private volatile long intervalMillis;
+        private boolean sampled;
+        private int lastQueueSize;
+        /** 每次采样队列长度变化的平滑值 */
+        private double queueTrend;
+        private double lastQueueWaitP99;
+
+        private PressureState(long intervalMillis) {
+            this.intervalMillis = intervalMillis;
+        }
+    }
+}
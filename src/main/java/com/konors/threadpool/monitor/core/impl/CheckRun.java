@@ -0,0 +1,73 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 一次检查的共享游标
+ * 检查列表按优先级从高到低排列，所有检查线程从同一游标依次领取，预算耗尽或取消时停止领取，
+ * 未领取的部分总是优先级最低的检查，且只会被一个调用方取走。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class CheckRun {
+
+    /** 按需检查不设预算 */
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final List<PoolExecutionPlan.Check> checks;
+    private final long deadlineNanos;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    CheckRun(List<PoolExecutionPlan.Check> checks, long deadlineNanos) {
+        this.checks = checks;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 领取下一个检查
+     * @return 下一个检查；已取消、预算耗尽或已全部领取时返回null
+     */
+    PoolExecutionPlan.Check claim() {
+        if (cancelled.get() || isOverBudget()) {
+            return null;
+        }
+        int index = cursor.getAndIncrement();
+        return index < checks.size() ? checks.get(index) : null;
+    }
+
+    /**
+     * 停止领取并取走剩余检查
+     * @return 尚未被领取的检查，多个调用方中只有一个能拿到
+     */
+    List<PoolExecutionPlan.Check> drainUnclaimed() {
+        int total = checks.size();
+        int from = cursor.getAndSet(total);
+        return from < total ? checks.subList(from, total) : Collections.emptyList();
+    }
+
+    /**
+     * 取消本次检查
+     * @return 是否由本次调用取消，多个检查线程超时时只有第一次返回true
+     */
+    boolean cancel() {
+        return cancelled.compareAndSet(false, true);
+    }
+
+    boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /** 只有监控循环设置预算，未执行的检查推迟到后续周期；按需检查不推迟 */
+    boolean defersChecks() {
+        return deadlineNanos != NO_DEADLINE;
+    }
+
+    boolean isOverBudget() {
+        return defersChecks() && System.nanoTime() - deadlineNanos > 0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.metrics.SlidingWindowCounter;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 计数拒绝策略装饰器
+ * 在委托给原拒绝策略之前记录一次拒绝，按时间桶统计最近一段时间的拒绝次数，
+ * 线程池注册到监控器时自动安装，注销时恢复原拒绝策略
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    /** 注册时安装的计数器的统计窗口，拒绝监控策略的 timeWindow 不能超过它 */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+    private static final int DEFAULT_BUCKETS = 60;
+    /** 安装和卸载很少发生，使用私有锁，不锁用户持有的执行器对象 */
+    private static final Object INSTALL_LOCK = new Object();
+
+    private final RejectedExecutionHandler delegate;
+    private final SlidingWindowCounter counter;
+    /** 健康检查探测任务不是业务任务，采集状态时从任务数和完成数中扣除 */
+    private final LongAdder submittedProbes = new LongAdder();
+    private final LongAdder finishedProbes = new LongAdder();
+
+    public CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+        this(delegate, DEFAULT_WINDOW, DEFAULT_BUCKETS);
+    }
+
+    public CountingRejectedExecutionHandler(RejectedExecutionHandler delegate, Duration window, int buckets) {
+        this.delegate = delegate != null ? delegate : new ThreadPoolExecutor.AbortPolicy();
+        this.counter = new SlidingWindowCounter(window, buckets);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        // 健康检查探测任务被拒绝时只做标记
+        if (InstrumentedThreadPoolExecutor.unwrap(r) instanceof HealthProbeTask probe) {
+            probe.markRejected();
+            if (probe.getOwner() == this) {
+                submittedProbes.decrement();
+            }
+            return;
+        }
+        counter.increment(System.nanoTime());
+        delegate.rejectedExecution(r, executor);
+    }
+
+    /**
+     * 累计拒绝次数
+     */
+    public long getRejectedCount() {
+        return counter.getTotal();
+    }
+
+    /**
+     * 最近一段时间内的拒绝次数
+     */
+    public long getRejectedCount(Duration window) {
+        return counter.sum(window, System.nanoTime());
+    }
+
+    /**
+     * 可统计的最大窗口
+     */
+    public Duration getWindow() {
+        return counter.getWindow();
+    }
+
+    /**
+     * 记录一次提交到执行器的探测任务，被拒绝时自动扣除
+     */
+    public void recordProbeSubmitted() {
+        submittedProbes.increment();
+    }
+
+    void recordProbeFinished() {
+        finishedProbes.increment();
+    }
+
+    /**
+     * 被执行器接受的探测任务数
+     */
+    public long getSubmittedProbeCount() {
+        return submittedProbes.sum();
+    }
+
+    /**
+     * 已执行的探测任务数
+     */
+    public long getFinishedProbeCount() {
+        return finishedProbes.sum();
+    }
+
+    public RejectedExecutionHandler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 为执行器安装计数拒绝策略
+     * @return 执行器原本不是计数拒绝策略、本次新安装时返回true
+     */
+    public static boolean install(ThreadPoolExecutor executor) {
+        synchronized (INSTALL_LOCK) {
+            RejectedExecutionHandler current = executor.getRejectedExecutionHandler();
+            if (current instanceof CountingRejectedExecutionHandler) {
+                return false;
+            }
+            executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(current));
+            return true;
+        }
+    }
+
+    /**
+     * 恢复执行器原拒绝策略
+     */
+    public static void uninstall(ThreadPoolExecutor executor) {
+        synchronized (INSTALL_LOCK) {
+            if (executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler counting) {
+                executor.setRejectedExecutionHandler(counting.getDelegate());
+            }
+        }
+    }
+
+    /**
+     * 获取执行器上的计数拒绝策略
+     * @return 未安装时返回null
+     */
+    public static CountingRejectedExecutionHandler of(ThreadPoolExecutor executor) {
+        return executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler counting
+                ? counting : null;
+    }
+}
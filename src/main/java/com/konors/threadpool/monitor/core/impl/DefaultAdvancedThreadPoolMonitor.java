@@ -2,12 +2,32 @@ package com.konors.threadpool.monitor.core.impl;
 
 import com.konors.threadpool.monitor.core.ThreadPoolStatus;
 import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.alert.AlertDispatcher;
+import com.konors.threadpool.monitor.core.alert.AlertEvent;
+import com.konors.threadpool.monitor.core.alert.AlertSink;
+import com.konors.threadpool.monitor.core.alert.AlertSuppressionEngine;
 import com.konors.threadpool.monitor.core.factory.DefaultMonitorStrategyFactory;
+import com.konors.threadpool.monitor.core.strategy.ResultSlot;
+import com.konors.threadpool.monitor.core.metrics.CheckCost;
+import com.konors.threadpool.monitor.core.metrics.GroupAggregate;
+import com.konors.threadpool.monitor.core.metrics.GroupRollupStore;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+import com.konors.threadpool.monitor.core.metrics.WindowedLatencyHistogram;
+import com.konors.threadpool.monitor.core.metrics.MetricsHistory;
+import com.konors.threadpool.monitor.core.metrics.MonitorHistoryStore;
+import com.konors.threadpool.monitor.core.metrics.PoolStateSlots;
+import com.konors.threadpool.monitor.core.metrics.StatusSnapshot;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -22,17 +42,67 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     
     private final Map<String, MonitorableThreadPool> registeredPools = new ConcurrentHashMap<>();
     private final Map<String, MonitorStrategy> strategies = new ConcurrentHashMap<>();
+    // 线程池类型专用策略，按类型只创建一次
+    private final Map<MonitorableThreadPool.ThreadPoolType, List<MonitorStrategy>> typeStrategies =
+            new ConcurrentHashMap<>();
+    // 各线程池的执行计划，线程池或策略变更时整体写时复制
+    private volatile PlanTable planTable = PlanTable.EMPTY;
+    // 按名称、类型和业务标签索引的已注册线程池，注册/注销时整体替换
+    private volatile PoolRegistryIndex registryIndex = PoolRegistryIndex.EMPTY;
+    private final Object planLock = new Object();
     private final MonitorStrategyFactory strategyFactory;
     private final MonitorConfiguration configuration;
     private final ScheduledExecutorService monitorExecutor;
     private final ExecutorService asyncExecutor;
+    private final ForkJoinPool cycleExecutor;
+    private final MonitorHistoryStore historyStore;
+    // 监控循环的长期上下文，每个周期只生成轻量视图
+    private final MonitorContext monitorContext;
+    // 由监控器安装了计数拒绝策略的执行器，注销后恢复原拒绝策略
+    private final Set<ThreadPoolExecutor> installedRejectionCounters = ConcurrentHashMap.newKeySet();
+    
+    // 调度时间轮：线程池名称 -> （策略名称 -> 周期任务），采样任务使用 POOL_SAMPLING_KEY
+    private static final String POOL_SAMPLING_KEY = "";
+    private final MonitorTimingWheel timingWheel;
+    private final Map<String, Map<String, MonitorTimingWheel.Timeout>> scheduledChecks = new ConcurrentHashMap<>();
+    private volatile long wheelStartNanos = -1;
+    
+    // 自适应监控频率控制器，未启用时为空
+    private final AdaptiveIntervalController adaptiveController;
+    
+    // 告警抑制与去重
+    private final AlertSuppressionEngine alertSuppressionEngine;
+    private final ResultTransitionTracker resultTransitionTracker;
+    // 告警输出分发，发送在独立线程中进行
+    private final AlertDispatcher alertDispatcher;
     
     private volatile MonitoringState currentState = MonitoringState.NOT_STARTED;
     private volatile ScheduledFuture<?> monitoringTask;
     private final Object stateLock = new Object();
     
-    // 统计信息
-    private final MonitorStatisticsImpl statistics = new MonitorStatisticsImpl();
+    // 监控循环代数，启动/停止时递增，旧循环不再自我调度
+    private long loopGeneration = 0;
+    // 连续失败达到该次数才进入ERROR状态，成功一次即恢复
+    private static final int ERROR_THRESHOLD = 3;
+    private int consecutiveFailures = 0;
+    // 上一周期因预算耗尽推迟的检查
+    private final Queue<PoolExecutionPlan.Check> deferredChecks = new ConcurrentLinkedQueue<>();
+    
+    // 各线程池最近一次采集的状态，每个周期结束时发布为只读快照，读取方不再访问执行器
+    private final Map<String, ThreadPoolStatus> latestStatuses = new ConcurrentHashMap<>();
+    private final Object snapshotLock = new Object();
+    private long snapshotEpoch = 0;
+    private volatile StatusSnapshot statusSnapshot = StatusSnapshot.empty();
+    // 进行中的按需全量采集，并发调用方共享同一次采集
+    private final AtomicReference<CompletableFuture<StatusSnapshot>> statusRefresh = new AtomicReference<>();
+    /** 正在进行的单个线程池采集，同一线程池的并发按需读取共享一次采集 */
+    private final Map<String, CompletableFuture<ThreadPoolStatus>> poolRefreshes = new ConcurrentHashMap<>();
+    
+    // 统计信息，健康/告警线程池数量按检查结果增量维护
+    private final PoolHealthTracker poolHealthTracker = new PoolHealthTracker();
+    // 每次策略调用的耗时，按策略和线程池汇总
+    private final MonitorCostTracker costTracker = new MonitorCostTracker();
+    private final MonitorStatisticsImpl statistics = new MonitorStatisticsImpl(poolHealthTracker, costTracker);
     
     public DefaultAdvancedThreadPoolMonitor() {
         this(MonitorConfiguration.createDefault(), new DefaultMonitorStrategyFactory());
@@ -46,6 +116,19 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
                                            MonitorStrategyFactory strategyFactory) {
         this.configuration = configuration;
         this.strategyFactory = strategyFactory;
+        this.historyStore = new MonitorHistoryStore(
+                configuration.getMaxHistoryRecords(), configuration.getHistoryRetentionPeriod());
+        this.monitorContext = MonitorContext.createReusable(configuration, historyStore);
+        this.adaptiveController = configuration.isAdaptiveMonitoringEnabled()
+                ? new AdaptiveIntervalController(configuration.getMonitorInterval().toMillis(),
+                        configuration.getMinMonitorInterval().toMillis(), configuration.getMaxMonitorInterval().toMillis())
+                : null;
+        this.timingWheel = new MonitorTimingWheel(resolveTickMillis(configuration), 512);
+        this.alertSuppressionEngine = new AlertSuppressionEngine(configuration.getAlertSuppressionPeriod());
+        this.resultTransitionTracker = new ResultTransitionTracker(configuration.getResultHysteresis());
+        this.alertDispatcher = new AlertDispatcher(configuration.getAlertDispatchQueueCapacity(),
+                configuration.getAlertDispatchBatchSize(), configuration.getAlertDispatchBatchDelay(),
+                configuration.getAlertDropPolicy());
         
         // 创建监控线程池
         this.monitorExecutor = Executors.newScheduledThreadPool(
@@ -67,6 +150,19 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
                 }
         );
         
+        // 创建分批并行检查线程池
+        this.cycleExecutor = new ForkJoinPool(
+                configuration.getMonitorThreadPoolSize(),
+                pool -> {
+                    ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    t.setName("ThreadPoolMonitor-Worker-" + t.getPoolIndex());
+                    t.setDaemon(true);
+                    return t;
+                },
+                null,
+                false
+        );
+        
         // 初始化默认策略
         initializeDefaultStrategies();
         
@@ -81,6 +177,13 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         for (MonitorStrategy strategy : defaultStrategies) {
             strategies.put(strategy.getName(), strategy);
         }
+        
+        // 开启预测性告警时追加趋势预测策略
+        if (configuration.isPredictiveAlertingEnabled()) {
+            strategyFactory.createStrategy(MonitorStrategyFactory.StrategyType.TREND_PREDICTION,
+                            DefaultStrategyConfig.createTrendPredictionConfig(120000L, 30000L))
+                    .ifPresent(strategy -> strategies.put(strategy.getName(), strategy));
+        }
     }
     
     @Override
@@ -105,10 +208,34 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         
         try {
             registeredPools.put(poolName, threadPool);
+            if (threadPool instanceof DefaultMonitorableThreadPool pool) {
+                // 索引和汇总分组按此刻的业务标签建立
+                pool.attach();
+            }
+            if (CountingRejectedExecutionHandler.install(threadPool.getExecutor())) {
+                installedRejectionCounters.add(threadPool.getExecutor());
+            }
+            historyStore.register(poolName, GroupRollupStore.groupsOf(threadPool));
+            poolHealthTracker.register(poolName);
+            costTracker.register(poolName);
             statistics.incrementRegisteredPools();
             
-            // 为特定类型的线程池添加专用策略
-            addStrategiesForThreadPool(threadPool);
+            // 构建执行计划（含该类型线程池的专用策略）并创建周期任务
+            try {
+                synchronized (planLock) {
+                    PoolExecutionPlan plan = buildPlan(threadPool);
+                    publishPlans(planTable.with(plan));
+                    scheduleThreadPool(plan);
+                    registryIndex = registryIndex.with(threadPool);
+                }
+            } catch (IllegalStateException e) {
+                unregisterThreadPool(poolName);
+                log.error("Failed to register thread pool {}: {}", poolName, e.getMessage());
+                return new RegistrationResultImpl(false, e.getMessage(), "TOO_MANY_STRATEGIES");
+            }
+            // 注册时采集一次初始状态，快照立即包含新线程池
+            recordLatestStatus(threadPool);
+            publishStatusSnapshot();
             
             log.info("Successfully registered thread pool: {} (type: {})", poolName, threadPool.getPoolType());
             return new RegistrationResultImpl(true, "Thread pool registered successfully", null);
@@ -138,21 +265,51 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     }
 
     /**
-     * 为线程池添加专用策略
+     * 构建线程池的执行计划
+     * 类型专用策略只作用于该类型的线程池，同名时覆盖全局策略
      */
-    private void addStrategiesForThreadPool(MonitorableThreadPool threadPool) {
-        List<MonitorStrategy> typeSpecificStrategies = 
-                strategyFactory.createStrategiesForThreadPoolType(threadPool.getPoolType());
-        
-        for (MonitorStrategy strategy : typeSpecificStrategies) {
-            if (!strategies.containsKey(strategy.getName())) {
-                strategies.put(strategy.getName(), strategy);
-                log.debug("Added type-specific strategy: {} for thread pool: {}", 
-                        strategy.getName(), threadPool.getPoolName());
-            }
+    private PoolExecutionPlan buildPlan(MonitorableThreadPool threadPool) {
+        MonitorableThreadPool.ThreadPoolType type = threadPool.getPoolType();
+        List<MonitorStrategy> specific = type == null ? Collections.emptyList()
+                : typeStrategies.computeIfAbsent(type, strategyFactory::createStrategiesForThreadPoolType);
+        PoolExecutionPlan plan = PoolExecutionPlan.build(threadPool, strategies.values(), specific);
+        if (log.isDebugEnabled()) {
+            log.debug("Execution plan for thread pool {}: {}", threadPool.getPoolName(),
+                    plan.getStrategies().stream().map(MonitorStrategy::getName).collect(Collectors.toList()));
+        }
+        return plan;
+    }
+    
+    /**
+     * 策略变更后重建所有线程池的执行计划，并同步周期任务
+     */
+    private void rebuildPlans() {
+        applyPlans(buildPlans());
+    }
+    
+    /**
+     * 为所有已注册线程池构建执行计划，不修改当前计划
+     * @throws IllegalStateException 某个线程池适用的策略超过上限
+     */
+    private List<PoolExecutionPlan> buildPlans() {
+        List<PoolExecutionPlan> plans = new ArrayList<>(registeredPools.size());
+        for (MonitorableThreadPool threadPool : registeredPools.values()) {
+            plans.add(buildPlan(threadPool));
+        }
+        return plans;
+    }
+    
+    private void applyPlans(List<PoolExecutionPlan> plans) {
+        publishPlans(PlanTable.of(plans));
+        for (PoolExecutionPlan plan : plans) {
+            scheduleThreadPool(plan);
         }
     }
     
+    private void publishPlans(PlanTable table) {
+        planTable = table;
+    }
+    
     @Override
     public boolean unregisterThreadPool(String poolName) {
         if (poolName == null || poolName.trim().isEmpty()) {
@@ -161,7 +318,26 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         
         MonitorableThreadPool removed = registeredPools.remove(poolName);
         if (removed != null) {
+            if (removed instanceof DefaultMonitorableThreadPool pool) {
+                pool.detach();
+            }
+            synchronized (planLock) {
+                publishPlans(planTable.without(poolName));
+                registryIndex = registryIndex.without(poolName);
+            }
+            historyStore.unregister(poolName);
+            restoreRejectedExecutionHandler(removed.getExecutor());
+            unscheduleThreadPool(poolName);
+            if (adaptiveController != null) {
+                adaptiveController.remove(poolName);
+            }
+            alertSuppressionEngine.removePool(poolName);
+            resultTransitionTracker.removePool(poolName);
+            poolHealthTracker.removePool(poolName);
+            costTracker.removePool(poolName);
             statistics.decrementRegisteredPools();
+            latestStatuses.remove(poolName);
+            publishStatusSnapshot();
             log.info("Successfully unregistered thread pool: {}", poolName);
             return true;
         }
@@ -170,10 +346,42 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         return false;
     }
     
+    /**
+     * 执行器不再被任何已注册线程池使用时，恢复监控器安装前的拒绝策略
+     */
+    private void restoreRejectedExecutionHandler(ThreadPoolExecutor executor) {
+        if (executor == null || !installedRejectionCounters.contains(executor)) {
+            return;
+        }
+        boolean stillRegistered = registeredPools.values().stream()
+                .anyMatch(pool -> pool.getExecutor() == executor);
+        if (!stillRegistered && installedRejectionCounters.remove(executor)) {
+            CountingRejectedExecutionHandler.uninstall(executor);
+        }
+    }
+    
     @Override
     public void addMonitorStrategy(MonitorStrategy strategy) {
         if (strategy != null && strategy.getName() != null) {
-            strategies.put(strategy.getName(), strategy);
+            synchronized (planLock) {
+                MonitorStrategy previous = strategies.put(strategy.getName(), strategy);
+                List<PoolExecutionPlan> plans;
+                try {
+                    plans = buildPlans();
+                } catch (IllegalStateException e) {
+                    // 超过策略上限时保持原有策略和计划不变
+                    if (previous != null) {
+                        strategies.put(previous.getName(), previous);
+                    } else {
+                        strategies.remove(strategy.getName());
+                    }
+                    throw e;
+                }
+                if (previous != null) {
+                    unscheduleStrategy(previous.getName());
+                }
+                applyPlans(plans);
+            }
             log.info("Added monitor strategy: {} (priority: {})", strategy.getName(), strategy.getPriority());
         }
     }
@@ -181,8 +389,19 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     @Override
     public boolean removeMonitorStrategy(String strategyName) {
         if (strategyName != null) {
-            MonitorStrategy removed = strategies.remove(strategyName);
+            MonitorStrategy removed;
+            synchronized (planLock) {
+                removed = strategies.remove(strategyName);
+                if (removed != null) {
+                    unscheduleStrategy(strategyName);
+                    rebuildPlans();
+                }
+            }
             if (removed != null) {
+                alertSuppressionEngine.removeStrategy(strategyName);
+                resultTransitionTracker.removeStrategy(strategyName);
+                poolHealthTracker.removeStrategy(strategyName);
+                costTracker.removeStrategy(strategyName);
                 log.info("Removed monitor strategy: {}", strategyName);
                 return true;
             }
@@ -192,18 +411,89 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     
     @Override
     public Map<String, ThreadPoolStatus> getAllThreadPoolStatus() {
-        Map<String, ThreadPoolStatus> statusMap = new HashMap<>();
-        
-        for (Map.Entry<String, MonitorableThreadPool> entry : registeredPools.entrySet()) {
-            try {
-                ThreadPoolStatus status = collectThreadPoolStatus(entry.getValue());
-                statusMap.put(entry.getKey(), status);
-            } catch (Exception e) {
-                log.error("Failed to collect status for thread pool: {}", entry.getKey(), e);
+        return refreshStatusSnapshot().getStatuses();
+    }
+    
+    @Override
+    public StatusSnapshot getStatusSnapshot(boolean fresh) {
+        return fresh ? refreshStatusSnapshot() : statusSnapshot;
+    }
+    
+    /**
+     * 立即采集所有线程池并发布新快照
+     * 同一时间只进行一次采集，采集期间到达的调用方等待并共享该次结果
+     */
+    private StatusSnapshot refreshStatusSnapshot() {
+        CompletableFuture<StatusSnapshot> refresh = new CompletableFuture<>();
+        CompletableFuture<StatusSnapshot> inFlight = statusRefresh.compareAndExchange(null, refresh);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+        try {
+            for (PoolExecutionPlan plan : planTable.plans) {
+                recordLatestStatus(plan.threadPool);
             }
+            StatusSnapshot snapshot = publishStatusSnapshot();
+            refresh.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            statusRefresh.set(null);
+        }
+    }
+    
+    private void recordLatestStatus(MonitorableThreadPool threadPool) {
+        refreshPoolStatus(threadPool);
+    }
+    
+    /**
+     * 立即采集单个线程池并记录为最近状态
+     * 同一线程池同一时间只进行一次采集，采集期间到达的调用方等待并共享该次结果
+     * @return 线程池状态，采集失败时返回 null
+     */
+    private ThreadPoolStatus refreshPoolStatus(MonitorableThreadPool threadPool) {
+        String poolName = threadPool.getPoolName();
+        CompletableFuture<ThreadPoolStatus> refresh = new CompletableFuture<>();
+        CompletableFuture<ThreadPoolStatus> inFlight = poolRefreshes.putIfAbsent(poolName, refresh);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+        ThreadPoolStatus status = null;
+        try {
+            status = collectThreadPoolStatus(threadPool);
+            if (status != null) {
+                latestStatuses.put(poolName, status);
+            }
+        } catch (Exception e) {
+            log.error("Failed to collect status for thread pool: {}", poolName, e);
+        } finally {
+            poolRefreshes.remove(poolName, refresh);
+            refresh.complete(status);
+        }
+        return status;
+    }
+    
+    /**
+     * 将各线程池最近一次采集的状态发布为新快照，按线程池优先级排列，纪元号递增
+     */
+    private StatusSnapshot publishStatusSnapshot() {
+        synchronized (snapshotLock) {
+            PlanTable table = planTable;
+            Map<String, ThreadPoolStatus> statuses = new LinkedHashMap<>(table.plans.size() * 2);
+            for (PoolExecutionPlan plan : table.plans) {
+                ThreadPoolStatus status = latestStatuses.get(plan.getPoolName());
+                if (status != null) {
+                    statuses.put(plan.getPoolName(), status);
+                }
+            }
+            // 注销与采集并发时可能残留已注销线程池的状态
+            latestStatuses.keySet().retainAll(table.byName.keySet());
+            StatusSnapshot snapshot = new StatusSnapshot(++snapshotEpoch, LocalDateTime.now(), statuses);
+            statusSnapshot = snapshot;
+            return snapshot;
         }
-        
-        return statusMap;
     }
     
     @Override
@@ -217,14 +507,38 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         if (threadPool == null) {
             return Optional.empty();
         }
-        
-        try {
-            ThreadPoolStatus status = collectThreadPoolStatus(threadPool);
-            return Optional.ofNullable(status);
-        } catch (Exception e) {
-            log.error("Failed to collect status for thread pool: {}", poolName, e);
-            return Optional.empty();
+        return Optional.ofNullable(refreshPoolStatus(threadPool));
+    }
+    
+    @Override
+    public Map<String, GroupAggregate> getGroupAggregates() {
+        return historyStore.getRollups().getAggregates();
+    }
+    
+    @Override
+    public PoolPage queryThreadPools(PoolQuery query) {
+        return registryIndex.query(query != null ? query : PoolQuery.all());
+    }
+    
+    @Override
+    public Map<String, ThreadPoolStatus> queryThreadPoolStatus(PoolQuery query, boolean fresh) {
+        PoolPage page = queryThreadPools(query);
+        Map<String, ThreadPoolStatus> snapshot = statusSnapshot.getStatuses();
+        Map<String, ThreadPoolStatus> statusMap = new LinkedHashMap<>(page.getPoolNames().size() * 2);
+        for (String poolName : page.getPoolNames()) {
+            ThreadPoolStatus status = fresh
+                    ? getThreadPoolStatus(poolName).orElse(null)
+                    : snapshot.get(poolName);
+            if (status != null) {
+                statusMap.put(poolName, status);
+            }
         }
+        return statusMap;
+    }
+    
+    @Override
+    public Optional<MetricsHistory> getThreadPoolHistory(String poolName, Duration range) {
+        return historyStore.getHistory(poolName, range);
     }
     
     @Override
@@ -233,12 +547,14 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
             return new HashMap<>();
         }
         
+        Map<String, ThreadPoolStatus> snapshot = statusSnapshot.getStatuses();
         Map<String, ThreadPoolStatus> statusMap = new HashMap<>();
-        
         for (String poolName : poolNames) {
-            getThreadPoolStatus(poolName).ifPresent(status -> statusMap.put(poolName, status));
+            ThreadPoolStatus status = snapshot.get(poolName);
+            if (status != null) {
+                statusMap.put(poolName, status);
+            }
         }
-        
         return statusMap;
     }
     
@@ -260,41 +576,226 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     
     @Override
     public List<MonitorStrategy.MonitorResult> performMonitorCheck(MonitorContext context) {
-        List<MonitorStrategy.MonitorResult> results = new ArrayList<>();
-        
-        // 按优先级排序策略
-        List<MonitorStrategy> sortedStrategies = strategies.values().stream()
-                .sorted(Comparator.comparingInt(MonitorStrategy::getPriority).reversed())
-                .collect(Collectors.toList());
-        
-        for (Map.Entry<String, MonitorableThreadPool> entry : registeredPools.entrySet()) {
-            MonitorableThreadPool threadPool = entry.getValue();
-            
-            for (MonitorStrategy strategy : sortedStrategies) {
-                if (strategy.supports(threadPool)) {
-                    try {
-                        MonitorStrategy.MonitorResult result = strategy.monitor(threadPool, context);
-                        if (result != null) {
-                            results.add(result);
-                            
-                            if (result.shouldAlert()) {
-                                statistics.incrementAlerts();
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.error("Strategy {} failed for thread pool {}", 
-                                strategy.getName(), threadPool.getPoolName(), e);
-                    }
-                }
-            }
+        // 策略状态保存在监控器的历史存储中，与监控循环共享
+        if (context == null) {
+            context = MonitorContext.create(configuration, historyStore);
+        } else if (context.getHistoryStore() == null) {
+            context = context.withHistoryStore(historyStore);
         }
+        long startNanos = System.nanoTime();
+        // 直接使用预先计算的执行计划，按线程池优先级排列
+        List<MonitorStrategy.MonitorResult> results =
+                evaluateInBatches(planTable.fullChecks, context, CheckRun.NO_DEADLINE);
         
         statistics.incrementMonitorCycles();
         statistics.updateLastMonitorTime();
+        statistics.recordCycleDuration(System.nanoTime() - startNanos, Long.MAX_VALUE);
+        publishStatusSnapshot();
         
+        return snapshots(configuration.isTransitionOnlyResults() ? filterTransitions(results) : results);
+    }
+    
+    /**
+     * 复用的结果槽位在下次检查时会被覆盖，返回给调用方前转换为不可变快照
+     */
+    private static List<MonitorStrategy.MonitorResult> snapshots(List<MonitorStrategy.MonitorResult> results) {
+        results.replaceAll(result -> result instanceof ResultSlot slot ? slot.snapshot() : result);
         return results;
     }
     
+    /**
+     * 只保留相对上次返回发生变化的结果
+     */
+    private List<MonitorStrategy.MonitorResult> filterTransitions(List<MonitorStrategy.MonitorResult> results) {
+        List<MonitorStrategy.MonitorResult> transitions = new ArrayList<>();
+        for (MonitorStrategy.MonitorResult result : results) {
+            boolean changed;
+            if (result instanceof ResultSlot slot) {
+                changed = resultTransitionTracker.isTransition(slot.getPoolName(), slot.getStrategyName(), slot);
+            } else if (result instanceof AttributedResult attributed) {
+                changed = resultTransitionTracker.isTransition(
+                        attributed.poolName, attributed.strategyName, attributed.delegate);
+            } else {
+                changed = true;
+            }
+            if (changed) {
+                transitions.add(result);
+            }
+        }
+        return transitions;
+    }
+    
+    /**
+     * 并行执行检查
+     * 每 batchSize 个检查启用一个检查线程（不超过检查线程池大小），调用线程也参与检查；
+     * 所有线程从共享游标按优先级顺序领取检查，预算耗尽时只有优先级最低的检查被推迟。
+     * 等待检查线程超过 asyncProcessingTimeout 时标记本次检查已取消并取走剩余检查：ForkJoin 任务无法被中断，
+     * 检查线程在领取下一个检查前读取取消标志，正在执行的检查完成后停止
+     * @param deadlineNanos 周期截止时间（nanoTime），到达后剩余检查推迟到下一周期
+     */
+    private List<MonitorStrategy.MonitorResult> evaluateInBatches(List<PoolExecutionPlan.Check> checks, MonitorContext context,
+                                                                 long deadlineNanos) {
+        CheckRun run = new CheckRun(checks, deadlineNanos);
+        int batchSize = Math.max(1, configuration.getBatchSize());
+        int helpers = Math.min(cycleExecutor.getParallelism(), (checks.size() - 1) / batchSize);
+        if (helpers <= 0) {
+            return countAlerts(evaluateClaimed(run, context));
+        }
+        
+        List<Future<List<MonitorStrategy.MonitorResult>>> futures = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            futures.add(cycleExecutor.submit(() -> evaluateClaimed(run, context)));
+        }
+        List<MonitorStrategy.MonitorResult> results = evaluateClaimed(run, context);
+        long deadline = System.nanoTime() + configuration.getAsyncProcessingTimeout().toNanos();
+        for (int i = 0; i < futures.size(); i++) {
+            Future<List<MonitorStrategy.MonitorResult>> future = futures.get(i);
+            try {
+                results.addAll(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // 未完成的检查线程读到取消标志后停止，不会与后续周期并发检查同一线程池；
+                // 截止时间过后其余检查线程立即超时，每次检查只计一次
+                if (run.cancel()) {
+                    statistics.incrementTimedOutBatches();
+                    log.warn("Monitor worker {} timed out after {}", i + 1, configuration.getAsyncProcessingTimeout());
+                }
+                deferUnclaimed(run);
+            } catch (ExecutionException e) {
+                log.error("Monitor worker {} failed", i + 1, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.cancel();
+                deferUnclaimed(run);
+                break;
+            }
+        }
+        return countAlerts(results);
+    }
+    
+    private List<MonitorStrategy.MonitorResult> countAlerts(List<MonitorStrategy.MonitorResult> results) {
+        for (MonitorStrategy.MonitorResult result : results) {
+            if (result.shouldAlert()) {
+                statistics.incrementAlerts();
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * 从共享游标依次领取并执行检查
+     */
+    private List<MonitorStrategy.MonitorResult> evaluateClaimed(CheckRun run, MonitorContext context) {
+        List<MonitorStrategy.MonitorResult> results = new ArrayList<>();
+        PoolExecutionPlan.Check check;
+        while ((check = run.claim()) != null) {
+            evaluateCheck(run, check, context, results);
+        }
+        if (run.isCancelled() || run.isOverBudget()) {
+            deferUnclaimed(run);
+        }
+        return results;
+    }
+    
+    /**
+     * 持有线程池的评估锁执行检查
+     * 监控循环中线程池仍被上一周期超时的检查占用时推迟该检查；按需检查等待评估锁
+     */
+    private void evaluateCheck(CheckRun run, PoolExecutionPlan.Check check, MonitorContext context,
+                               List<MonitorStrategy.MonitorResult> results) {
+        PoolStateSlots slots = historyStore.getStateSlots(check.threadPool.getPoolName());
+        if (slots == null) {
+            // 检查期间线程池已注销，状态不再保留
+            monitorThreadPool(check.threadPool, check.strategies, context, results);
+            return;
+        }
+        ReentrantLock lock = slots.getEvaluationLock();
+        if (!run.defersChecks()) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            deferCheck(check);
+            return;
+        }
+        try {
+            if (run.isCancelled()) {
+                // 等待评估锁期间本次检查已超时取消
+                if (run.defersChecks()) {
+                    deferCheck(check);
+                }
+                return;
+            }
+            monitorThreadPool(check.threadPool, check.strategies, context, results);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * 取走尚未领取的（优先级最低的）检查，监控循环中推迟到后续周期
+     */
+    private void deferUnclaimed(CheckRun run) {
+        List<PoolExecutionPlan.Check> unclaimed = run.drainUnclaimed();
+        if (run.defersChecks() && !unclaimed.isEmpty()) {
+            deferredChecks.addAll(unclaimed);
+            statistics.addDeferredPoolChecks(unclaimed.size());
+        }
+    }
+    
+    private void deferCheck(PoolExecutionPlan.Check check) {
+        deferredChecks.add(check);
+        statistics.addDeferredPoolChecks(1);
+    }
+    
+    /**
+     * 对单个线程池执行一组策略
+     * 每次只采集一次状态并写入历史，所有策略共享同一快照
+     */
+    private void monitorThreadPool(MonitorableThreadPool threadPool, List<MonitorStrategy> strategiesToRun,
+                                   MonitorContext context, List<MonitorStrategy.MonitorResult> results) {
+        ThreadPoolStatus status;
+        try {
+            status = collectThreadPoolStatus(threadPool);
+        } catch (Exception e) {
+            log.error("Failed to collect status for thread pool: {}", threadPool.getPoolName(), e);
+            return;
+        }
+        if (status == null) {
+            return;
+        }
+        historyStore.record(threadPool.getPoolName(), status);
+        latestStatuses.put(threadPool.getPoolName(), status);
+        adjustMonitorInterval(threadPool, status);
+        PoolHealthTracker.PoolHealth health = poolHealthTracker.get(threadPool.getPoolName());
+        MonitorCostTracker.PoolCost cost = costTracker.get(threadPool.getPoolName());
+        
+        // 执行计划中的策略已按优先级排序并过滤
+        for (int i = 0; i < strategiesToRun.size(); i++) {
+            MonitorStrategy strategy = strategiesToRun.get(i);
+            long startNanos = System.nanoTime();
+            try {
+                MonitorStrategy.MonitorResult result = strategy.monitor(threadPool, status, context);
+                if (health != null && result != null) {
+                    health.recordStrategy(strategy.getName(), result.shouldAlert());
+                }
+                if (result instanceof ResultSlot) {
+                    results.add(result);
+                } else if (result != null) {
+                    results.add(new AttributedResult(threadPool.getPoolName(), strategy.getName(), result));
+                }
+            } catch (Exception e) {
+                log.error("Strategy {} failed for thread pool {}", 
+                        strategy.getName(), threadPool.getPoolName(), e);
+            } finally {
+                if (cost != null) {
+                    cost.record(strategy.getName(), System.nanoTime() - startNanos);
+                }
+            }
+        }
+        if (health != null) {
+            // 健康检查策略会更新线程池的健康标志，因此在所有策略执行后读取
+            health.recordHealthy(isThreadPoolHealthy(threadPool));
+        }
+    }
+    
     @Override
     public CompletableFuture<List<MonitorStrategy.MonitorResult>> performMonitorCheckAsync(MonitorContext context) {
         return CompletableFuture.supplyAsync(() -> performMonitorCheck(context), asyncExecutor);
@@ -314,15 +815,16 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
             }
             
             try {
-                monitoringTask = monitorExecutor.scheduleAtFixedRate(
-                        this::executeMonitoringCycle,
-                        0,
-                        configuration.getMonitorInterval().toMillis(),
-                        TimeUnit.MILLISECONDS
-                );
-                
+                if (wheelStartNanos < 0) {
+                    wheelStartNanos = System.nanoTime();
+                }
+                long generation = ++loopGeneration;
+                consecutiveFailures = 0;
                 currentState = MonitoringState.RUNNING;
-                log.info("Thread pool monitoring started with interval: {}", configuration.getMonitorInterval());
+                scheduleNextCycle(generation, 0);
+                
+                log.info("Thread pool monitoring started with interval: {}, tick: {}ms", 
+                        configuration.getMonitorInterval(), timingWheel.getTickMillis());
                 
             } catch (Exception e) {
                 currentState = MonitoringState.ERROR;
@@ -335,6 +837,7 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     @Override
     public void stopMonitoring() {
         synchronized (stateLock) {
+            loopGeneration++;
             if (monitoringTask != null) {
                 monitoringTask.cancel(false);
                 monitoringTask = null;
@@ -348,7 +851,8 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     @Override
     public void pauseMonitoring() {
         synchronized (stateLock) {
-            if (currentState == MonitoringState.RUNNING) {
+            if (currentState == MonitoringState.RUNNING || currentState == MonitoringState.ERROR) {
+                loopGeneration++;
                 if (monitoringTask != null) {
                     monitoringTask.cancel(false);
                     monitoringTask = null;
@@ -374,66 +878,341 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         return currentState;
     }
     
+    /**
+     * 调度下一次监控周期
+     * 每个周期结束后按时间轮tick边界自我调度，周期耗时超过tick时不会连续补跑
+     */
+    private void scheduleNextCycle(long generation, long delayNanos) {
+        synchronized (stateLock) {
+            if (generation != loopGeneration
+                    || (currentState != MonitoringState.RUNNING && currentState != MonitoringState.ERROR)) {
+                return;
+            }
+            try {
+                monitoringTask = monitorExecutor.schedule(
+                        () -> runMonitoringLoop(generation), delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                currentState = MonitoringState.ERROR;
+                log.error("Failed to schedule next monitoring cycle", e);
+            }
+        }
+    }
+    
+    private void runMonitoringLoop(long generation) {
+        try {
+            executeMonitoringCycle();
+        } finally {
+            long tickNanos = TimeUnit.MILLISECONDS.toNanos(timingWheel.getTickMillis());
+            long elapsed = System.nanoTime() - wheelStartNanos;
+            long nextTickNanos = (elapsed / tickNanos + 1) * tickNanos;
+            scheduleNextCycle(generation, nextTickNanos - elapsed);
+        }
+    }
+    
     /**
      * 执行监控周期
+     * 推进时间轮，只对本次到期的（线程池，策略）组合执行检查；
+     * 上一周期推迟的检查优先执行，其余按线程池优先级从高到低执行，预算耗尽后剩余检查推迟到下一周期
      */
     private void executeMonitoringCycle() {
         try {
-            long startTime = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
+            long budgetNanos = configuration.getEffectiveCycleBudget().toNanos();
+            
+            long tick = (startNanos - wheelStartNanos) / TimeUnit.MILLISECONDS.toNanos(timingWheel.getTickMillis());
+            PlanTable table = planTable;
+            timingWheel.advanceTo(tick, timeout -> collectDueCheck(timeout, table));
+            
+            boolean hasDeferred = false;
+            PoolExecutionPlan.Check deferred;
+            while ((deferred = deferredChecks.poll()) != null) {
+                PoolExecutionPlan plan = table.byName.get(deferred.threadPool.getPoolName());
+                if (plan == null || plan.threadPool != deferred.threadPool) {
+                    continue;
+                }
+                plan.deferredMask |= plan == deferred.plan ? deferred.mask : plan.maskOf(deferred.strategies);
+                plan.deferred = true;
+                hasDeferred = true;
+            }
+            
+            // 计划表已按线程池优先级排序，推迟的检查先执行
+            List<PoolExecutionPlan.Check> checks = null;
+            if (hasDeferred) {
+                for (PoolExecutionPlan plan : table.plans) {
+                    if (plan.deferred) {
+                        checks = appendCheck(checks, plan.checkFor(plan.deferredMask | plan.dueMask));
+                        plan.deferred = false;
+                        plan.deferredMask = 0;
+                        plan.due = false;
+                        plan.dueMask = 0;
+                    }
+                }
+            }
+            for (PoolExecutionPlan plan : table.plans) {
+                if (plan.due) {
+                    checks = appendCheck(checks, plan.checkFor(plan.dueMask));
+                    plan.due = false;
+                    plan.dueMask = 0;
+                }
+            }
+            if (checks == null) {
+                return;
+            }
             
-            MonitorContext context = MonitorContext.createDefault();
-            List<MonitorStrategy.MonitorResult> results = performMonitorCheck(context);
+            MonitorContext context = monitorContext.nextCycle();
+            List<MonitorStrategy.MonitorResult> results = evaluateInBatches(checks, context, startNanos + budgetNanos);
+            statistics.incrementMonitorCycles();
+            statistics.updateLastMonitorTime();
+            context.getGlobalStats().incrementMonitorCycles();
+            context.getGlobalStats().updatePoolCounts(statistics.getTotalRegisteredPools(),
+                    statistics.getHealthyPools(), statistics.getAlertingPools());
+            publishStatusSnapshot();
             
             // 处理监控结果
             processMonitorResults(results);
             
-            long endTime = System.currentTimeMillis();
-            statistics.updateMonitoringLatency(endTime - startTime);
+            long durationNanos = System.nanoTime() - startNanos;
+            statistics.recordCycleDuration(durationNanos, budgetNanos);
+            onCycleCompleted(null);
             
         } catch (Exception e) {
-            log.error("Error during monitoring cycle", e);
-            currentState = MonitoringState.ERROR;
+            onCycleCompleted(e);
+        }
+    }
+    
+    /**
+     * 更新循环健康状态：连续失败达到阈值才进入ERROR，成功后恢复RUNNING
+     */
+    private void onCycleCompleted(Exception error) {
+        synchronized (stateLock) {
+            if (error == null) {
+                consecutiveFailures = 0;
+                if (currentState == MonitoringState.ERROR) {
+                    currentState = MonitoringState.RUNNING;
+                    log.info("Monitoring cycle recovered");
+                }
+                return;
+            }
+            consecutiveFailures++;
+            log.error("Error during monitoring cycle ({} consecutive)", consecutiveFailures, error);
+            if (consecutiveFailures >= ERROR_THRESHOLD && currentState == MonitoringState.RUNNING) {
+                currentState = MonitoringState.ERROR;
+            }
+        }
+    }
+    
+    private static List<PoolExecutionPlan.Check> appendCheck(List<PoolExecutionPlan.Check> checks,
+                                                             PoolExecutionPlan.Check check) {
+        if (checks == null) {
+            checks = new ArrayList<>();
+        }
+        checks.add(check);
+        return checks;
+    }
+    
+    /**
+     * 将到期任务记入所属线程池的执行计划
+     * 采样任务展开为计划中所有跟随全局间隔的策略，策略任务只执行自身
+     */
+    private void collectDueCheck(MonitorTimingWheel.Timeout timeout, PlanTable table) {
+        PoolExecutionPlan plan = table.byName.get(timeout.getPoolName());
+        if (plan == null) {
+            return;
+        }
+        if (timeout.getStrategyName() == null) {
+            plan.due = true;
+            plan.dueMask |= plan.getSamplingMask();
+        } else {
+            int index = plan.indexOf(timeout.getStrategyName());
+            if (index >= 0) {
+                plan.due = true;
+                plan.dueMask |= 1L << index;
+            }
+        }
+    }
+    
+    /**
+     * 按执行计划为线程池创建采样任务和各策略的周期任务，移除计划外的策略任务
+     */
+    private void scheduleThreadPool(PoolExecutionPlan plan) {
+        String poolName = plan.getPoolName();
+        scheduleCheck(poolName, POOL_SAMPLING_KEY, samplingInterval(poolName));
+        for (int i = 0; i < plan.size(); i++) {
+            MonitorStrategy strategy = plan.getStrategy(i);
+            if (strategy.getCheckInterval() > 0) {
+                scheduleCheck(poolName, strategy.getName(), checkInterval(poolName, strategy));
+            }
+        }
+        Map<String, MonitorTimingWheel.Timeout> poolChecks = scheduledChecks.get(poolName);
+        if (poolChecks != null) {
+            poolChecks.entrySet().removeIf(entry -> {
+                if (POOL_SAMPLING_KEY.equals(entry.getKey()) || plan.indexOf(entry.getKey()) >= 0) {
+                    return false;
+                }
+                entry.getValue().cancel();
+                return true;
+            });
+        }
+    }
+    
+    /**
+     * 创建周期任务，首次触发相位按（线程池，策略）哈希打散，已存在时不重复创建
+     */
+    private void scheduleCheck(String poolName, String key, long intervalMillis) {
+        Map<String, MonitorTimingWheel.Timeout> poolChecks =
+                scheduledChecks.computeIfAbsent(poolName, k -> new ConcurrentHashMap<>());
+        poolChecks.compute(key, (k, existing) -> {
+            if (existing != null && !existing.isCancelled()) {
+                return existing;
+            }
+            long phase = Math.floorMod((poolName + '/' + key).hashCode(), intervalMillis);
+            return timingWheel.schedule(poolName, key.isEmpty() ? null : key, intervalMillis, phase);
+        });
+    }
+    
+    private void unscheduleThreadPool(String poolName) {
+        Map<String, MonitorTimingWheel.Timeout> poolChecks = scheduledChecks.remove(poolName);
+        if (poolChecks != null) {
+            poolChecks.values().forEach(MonitorTimingWheel.Timeout::cancel);
+        }
+    }
+    
+    private void unscheduleStrategy(String strategyName) {
+        for (Map<String, MonitorTimingWheel.Timeout> poolChecks : scheduledChecks.values()) {
+            MonitorTimingWheel.Timeout timeout = poolChecks.remove(strategyName);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+    
+    /**
+     * 线程池当前的采样间隔
+     */
+    private long samplingInterval(String poolName) {
+        return adaptiveController != null
+                ? adaptiveController.getIntervalMillis(poolName)
+                : configuration.getMonitorInterval().toMillis();
+    }
+    
+    /**
+     * 策略在线程池上的检查间隔，启用自适应监控时随采样间隔等比例缩放
+     */
+    private long checkInterval(String poolName, MonitorStrategy strategy) {
+        return adaptiveController != null
+                ? adaptiveController.scaleCheckInterval(poolName, strategy.getCheckInterval())
+                : strategy.getCheckInterval();
+    }
+    
+    /**
+     * 根据最新状态调整线程池的采样间隔和策略检查间隔
+     */
+    private void adjustMonitorInterval(MonitorableThreadPool threadPool, ThreadPoolStatus status) {
+        if (adaptiveController == null) {
+            return;
+        }
+        String poolName = threadPool.getPoolName();
+        long intervalMillis = adaptiveController.update(poolName, threadPool.getPriority(), status);
+        if (intervalMillis < 0) {
+            return;
+        }
+        Map<String, MonitorTimingWheel.Timeout> poolChecks = scheduledChecks.get(poolName);
+        if (poolChecks == null) {
+            return;
+        }
+        PoolExecutionPlan plan = planTable.byName.get(poolName);
+        for (Map.Entry<String, MonitorTimingWheel.Timeout> entry : poolChecks.entrySet()) {
+            if (POOL_SAMPLING_KEY.equals(entry.getKey())) {
+                timingWheel.reschedule(entry.getValue(), intervalMillis);
+            } else {
+                int index = plan != null ? plan.indexOf(entry.getKey()) : -1;
+                if (index >= 0) {
+                    timingWheel.reschedule(entry.getValue(), checkInterval(poolName, plan.getStrategy(index)));
+                }
+            }
+        }
+        log.debug("Adjusted monitor interval for thread pool {} to {}ms", poolName, intervalMillis);
+    }
+    
+    /**
+     * 计算时间轮tick：全局监控间隔的1/10，启用自适应监控时不超过最小采样间隔的1/4，限制在10ms到1s之间
+     */
+    private static long resolveTickMillis(MonitorConfiguration configuration) {
+        long tickMillis = configuration.getMonitorInterval().toMillis() / 10;
+        if (configuration.isAdaptiveMonitoringEnabled()) {
+            tickMillis = Math.min(tickMillis, configuration.getMinMonitorInterval().toMillis() / 4);
         }
+        return Math.max(10L, Math.min(1000L, tickMillis));
     }
     
     /**
      * 处理监控结果
      */
     private void processMonitorResults(List<MonitorStrategy.MonitorResult> results) {
+        long now = System.nanoTime();
         for (MonitorStrategy.MonitorResult result : results) {
-            if (result.shouldAlert()) {
-                log.warn("Alert: {} - {}", result.getAlertLevel(), result.getMessage());
-                // 这里可以集成告警系统
+            Optional<AlertEvent> event;
+            if (result instanceof ResultSlot slot) {
+                event = alertSuppressionEngine.evaluate(slot.getPoolName(), slot.getStrategyName(), slot, now);
+            } else if (result instanceof AttributedResult attributed) {
+                event = alertSuppressionEngine.evaluate(
+                        attributed.poolName, attributed.strategyName, attributed.delegate, now);
             } else {
+                continue;
+            }
+            if (event.isPresent()) {
+                statistics.incrementAlertEvents();
+                publishAlertEvent(event.get());
+            } else if (result.shouldAlert()) {
+                statistics.incrementSuppressedAlerts();
+            } else if (log.isDebugEnabled()) {
                 log.debug("Monitor result: {}", result.getMessage());
             }
         }
     }
     
+    /**
+     * 发出告警事件：记录日志并非阻塞地投递给告警输出
+     */
+    private void publishAlertEvent(AlertEvent event) {
+        if (event.getType() == AlertEvent.Type.RESOLVED) {
+            log.info("Alert resolved: [{}/{}] was {}", event.getPoolName(), event.getStrategyName(), event.getLevel());
+        } else if (event.getSuppressedCount() > 0) {
+            log.warn("Alert {}: {} - {} ({} repeats suppressed)", event.getType(), event.getLevel(),
+                    event.getMessage(), event.getSuppressedCount());
+        } else {
+            log.warn("Alert {}: {} - {}", event.getType(), event.getLevel(), event.getMessage());
+        }
+        alertDispatcher.publish(event);
+    }
+    
+    @Override
+    public void addAlertSink(AlertSink sink) {
+        if (sink != null && sink.getName() != null) {
+            alertDispatcher.addSink(sink);
+        }
+    }
+    
+    @Override
+    public boolean removeAlertSink(String sinkName) {
+        return sinkName != null && alertDispatcher.removeSink(sinkName);
+    }
+    
+    @Override
+    public Map<String, Map<String, Long>> getAlertSinkStats() {
+        return alertDispatcher.getSinkStats();
+    }
+    
+    @Override
+    public void setAlertSuppressionPeriod(String poolName, Duration period) {
+        alertSuppressionEngine.setSuppressionPeriod(poolName, period);
+    }
+    
     /**
      * 收集线程池状态
      */
     private ThreadPoolStatus collectThreadPoolStatus(MonitorableThreadPool threadPool) {
-        // 这里应该调用现有的状态收集逻辑
-        // 为了演示，创建一个简化的实现
-        ThreadPoolStatus status = new ThreadPoolStatus();
-        status.setPoolName(threadPool.getPoolName());
-        status.setTimestamp(LocalDateTime.now());
-        
-        ThreadPoolExecutor executor = (ThreadPoolExecutor) threadPool.getExecutor();
-        status.setCorePoolSize(executor.getCorePoolSize());
-        status.setMaximumPoolSize(executor.getMaximumPoolSize());
-        status.setActiveCount(executor.getActiveCount());
-        status.setPoolSize(executor.getPoolSize());
-        status.setTaskCount(executor.getTaskCount());
-        status.setCompletedTaskCount(executor.getCompletedTaskCount());
-        
-        // 计算利用率
-        double utilization = status.getMaximumPoolSize() > 0 ? 
-                (double) status.getActiveCount() / status.getMaximumPoolSize() : 0.0;
-        status.setUtilization(utilization);
-        
-        return status;
+        return ThreadPoolStatusCollector.collect(threadPool);
     }
     
     /**
@@ -441,8 +1220,8 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
      */
     private boolean isThreadPoolHealthy(MonitorableThreadPool threadPool) {
         try {
-            ThreadPoolExecutor executor = (ThreadPoolExecutor) threadPool.getExecutor();
-            return !executor.isShutdown() && !executor.isTerminated();
+            // 包含健康检查策略写入的停滞/探测结果
+            return threadPool.isHealthy();
         } catch (Exception e) {
             return false;
         }
@@ -453,9 +1232,11 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
      */
     public void shutdown() {
         stopMonitoring();
+        alertDispatcher.shutdown(Duration.ofSeconds(5));
         
         monitorExecutor.shutdown();
         asyncExecutor.shutdown();
+        cycleExecutor.shutdown();
         
         try {
             if (!monitorExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -464,15 +1245,108 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
             if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
                 asyncExecutor.shutdownNow();
             }
+            if (!cycleExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                cycleExecutor.shutdownNow();
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             monitorExecutor.shutdownNow();
             asyncExecutor.shutdownNow();
+            cycleExecutor.shutdownNow();
         }
         
         log.info("DefaultAdvancedThreadPoolMonitor shutdown completed");
     }
     
+    /**
+     * 所有线程池的执行计划，不可变，变更时整体替换
+     */
+    private static final class PlanTable {
+        private static final PlanTable EMPTY = new PlanTable(Collections.emptyList());
+        private static final Comparator<PoolExecutionPlan> BY_POOL_PRIORITY =
+                Comparator.comparingInt((PoolExecutionPlan plan) -> plan.threadPool.getPriority()).reversed();
+        
+        /** 按线程池优先级从高到低排列 */
+        private final List<PoolExecutionPlan> plans;
+        private final Map<String, PoolExecutionPlan> byName;
+        private final List<PoolExecutionPlan.Check> fullChecks;
+        
+        private PlanTable(List<PoolExecutionPlan> plans) {
+            Map<String, PoolExecutionPlan> index = new HashMap<>(plans.size() * 2);
+            List<PoolExecutionPlan.Check> checks = new ArrayList<>(plans.size());
+            for (PoolExecutionPlan plan : plans) {
+                index.put(plan.getPoolName(), plan);
+                checks.add(plan.getFullCheck());
+            }
+            this.plans = plans;
+            this.byName = index;
+            this.fullChecks = Collections.unmodifiableList(checks);
+        }
+        
+        private static PlanTable of(List<PoolExecutionPlan> plans) {
+            List<PoolExecutionPlan> sorted = new ArrayList<>(plans);
+            sorted.sort(BY_POOL_PRIORITY);
+            return new PlanTable(Collections.unmodifiableList(sorted));
+        }
+        
+        private PlanTable with(PoolExecutionPlan plan) {
+            List<PoolExecutionPlan> updated = new ArrayList<>(plans.size() + 1);
+            for (PoolExecutionPlan existing : plans) {
+                if (!existing.getPoolName().equals(plan.getPoolName())) {
+                    updated.add(existing);
+                }
+            }
+            updated.add(plan);
+            return of(updated);
+        }
+        
+        private PlanTable without(String poolName) {
+            List<PoolExecutionPlan> updated = new ArrayList<>(plans);
+            updated.removeIf(plan -> plan.getPoolName().equals(poolName));
+            return of(updated);
+        }
+    }
+    
+    /**
+     * 带线程池和策略名称的监控结果，用于告警去重
+     */
+    private static final class AttributedResult implements MonitorStrategy.MonitorResult {
+        private final String poolName;
+        private final String strategyName;
+        private final MonitorStrategy.MonitorResult delegate;
+        
+        private AttributedResult(String poolName, String strategyName, MonitorStrategy.MonitorResult delegate) {
+            this.poolName = poolName;
+            this.strategyName = strategyName;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public boolean shouldAlert() {
+            return delegate.shouldAlert();
+        }
+        
+        @Override
+        public MonitorStrategy.AlertLevel getAlertLevel() {
+            return delegate.getAlertLevel();
+        }
+        
+        @Override
+        public String getMessage() {
+            return delegate.getMessage();
+        }
+        
+        @Override
+        public String getSuggestedAction() {
+            return delegate.getSuggestedAction();
+        }
+        
+        @Override
+        public Map<String, Object> getExtendedData() {
+            return delegate.getExtendedData();
+        }
+    }
+    
     /**
      * 注册结果实现
      */
@@ -505,49 +1379,73 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
     
     /**
      * 监控统计实现
+     * 计数器使用 {@link LongAdder}，并发的按需检查与监控循环同时更新时不会丢失计数，也不会在同一缓存行上竞争；
+     * 健康/告警线程池数量由 {@link PoolHealthTracker} 增量维护。
      */
     private static class MonitorStatisticsImpl implements MonitorStatistics {
-        private volatile int totalRegisteredPools = 0;
-        private volatile long totalMonitorCycles = 0;
-        private volatile long totalAlerts = 0;
+        private static final double NANOS_PER_MILLI = 1_000_000.0;
+        private static final int DEFAULT_EXPENSIVE_CHECKS = 10;
+        
+        private final PoolHealthTracker poolHealthTracker;
+        private final MonitorCostTracker costTracker;
+        private final AtomicInteger totalRegisteredPools = new AtomicInteger();
+        private final LongAdder totalMonitorCycles = new LongAdder();
+        private final LongAdder totalAlerts = new LongAdder();
         private volatile LocalDateTime lastMonitorTime;
-        private volatile double totalLatency = 0;
-        private volatile long latencyCount = 0;
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAdder latencyCount = new LongAdder();
         private final Map<String, Object> extendedStats = new ConcurrentHashMap<>();
+        private final LongAdder timedOutBatches = new LongAdder();
+        private final LongAdder cycleOverruns = new LongAdder();
+        private final LongAdder deferredPoolChecks = new LongAdder();
+        private final LongAdder alertEvents = new LongAdder();
+        private final LongAdder suppressedAlerts = new LongAdder();
+        private final WindowedLatencyHistogram cycleDurations = new WindowedLatencyHistogram(Duration.ofMinutes(5), 10);
+        
+        MonitorStatisticsImpl(PoolHealthTracker poolHealthTracker, MonitorCostTracker costTracker) {
+            this.poolHealthTracker = poolHealthTracker;
+            this.costTracker = costTracker;
+        }
         
         @Override
         public int getTotalRegisteredPools() {
-            return totalRegisteredPools;
+            return totalRegisteredPools.get();
         }
         
         @Override
         public int getActiveMonitoringPools() {
-            return totalRegisteredPools; // 简化实现
+            return totalRegisteredPools.get(); // 简化实现
         }
         
         @Override
         public int getHealthyPools() {
-            return totalRegisteredPools; // 简化实现
+            return Math.max(0, totalRegisteredPools.get() - poolHealthTracker.getUnhealthyPools());
         }
         
         @Override
         public int getUnhealthyPools() {
-            return 0; // 简化实现
+            return poolHealthTracker.getUnhealthyPools();
+        }
+        
+        @Override
+        public int getAlertingPools() {
+            return poolHealthTracker.getAlertingPools();
         }
         
         @Override
         public long getTotalMonitorCycles() {
-            return totalMonitorCycles;
+            return totalMonitorCycles.sum();
         }
         
         @Override
         public long getTotalAlerts() {
-            return totalAlerts;
+            return totalAlerts.sum();
         }
         
         @Override
         public double getAverageMonitoringLatency() {
-            return latencyCount > 0 ? totalLatency / latencyCount : 0.0;
+            long count = latencyCount.sum();
+            return count > 0 ? totalLatencyNanos.sum() / NANOS_PER_MILLI / count : 0.0;
         }
         
         @Override
@@ -557,34 +1455,85 @@ public class DefaultAdvancedThreadPoolMonitor implements AdvancedThreadPoolMonit
         
         @Override
         public Map<String, Object> getExtendedStats() {
-            return new HashMap<>(extendedStats);
+            Map<String, Object> stats = new HashMap<>(extendedStats);
+            stats.put("timedOutBatches", timedOutBatches.sum());
+            stats.put("cycleOverruns", cycleOverruns.sum());
+            stats.put("deferredPoolChecks", deferredPoolChecks.sum());
+            stats.put("alertEvents", alertEvents.sum());
+            stats.put("suppressedAlerts", suppressedAlerts.sum());
+            stats.put("strategyCost", costTracker.strategyPercentiles());
+            stats.put("poolCost", costTracker.poolPercentiles());
+            stats.put("expensiveChecks", costTracker.mostExpensiveChecks(DEFAULT_EXPENSIVE_CHECKS));
+            return stats;
+        }
+        
+        @Override
+        public List<CheckCost> getMostExpensiveChecks(int limit) {
+            return costTracker.mostExpensiveChecks(limit);
+        }
+        
+        @Override
+        public long getCycleOverruns() {
+            return cycleOverruns.sum();
+        }
+        
+        @Override
+        public long getDeferredPoolChecks() {
+            return deferredPoolChecks.sum();
+        }
+        
+        @Override
+        public LatencyPercentiles getCycleDurationPercentiles() {
+            return cycleDurations.percentiles();
         }
         
         public void incrementRegisteredPools() {
-            totalRegisteredPools++;
+            totalRegisteredPools.incrementAndGet();
         }
         
         public void decrementRegisteredPools() {
-            if (totalRegisteredPools > 0) {
-                totalRegisteredPools--;
-            }
+            totalRegisteredPools.updateAndGet(count -> count > 0 ? count - 1 : 0);
         }
         
         public void incrementMonitorCycles() {
-            totalMonitorCycles++;
+            totalMonitorCycles.increment();
         }
         
         public void incrementAlerts() {
-            totalAlerts++;
+            totalAlerts.increment();
         }
         
-        public void updateLastMonitorTime() {
-            lastMonitorTime = LocalDateTime.now();
+        public void incrementAlertEvents() {
+            alertEvents.increment();
         }
         
-        public void updateMonitoringLatency(long latency) {
-            totalLatency += latency;
-            latencyCount++;
+        public void incrementSuppressedAlerts() {
+            suppressedAlerts.increment();
+        }
+        
+        public void incrementTimedOutBatches() {
+            timedOutBatches.increment();
+        }
+        
+        public void addDeferredPoolChecks(int count) {
+            deferredPoolChecks.add(count);
+        }
+        
+        /**
+         * 记录一次监控周期或按需检查的耗时
+         * @param budgetNanos 周期耗时预算，按需检查传入 {@link Long#MAX_VALUE}
+         */
+        public void recordCycleDuration(long durationNanos, long budgetNanos) {
+            cycleDurations.record(durationNanos, System.nanoTime());
+            if (durationNanos > budgetNanos) {
+                cycleOverruns.increment();
+            }
+            totalLatencyNanos.add(durationNanos);
+            latencyCount.increment();
+        }
+        
+        public void updateLastMonitorTime() {
+            lastMonitorTime = LocalDateTime.now();
         }
     }
 }
\ No newline at end of file
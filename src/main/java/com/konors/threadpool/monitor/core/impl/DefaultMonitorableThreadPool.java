@@ -5,9 +5,11 @@ import com.konors.threadpool.monitor.core.abstraction.ThreadPoolConfiguration;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 可监控线程池的默认实现
@@ -32,6 +34,9 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
     @Builder.Default
     private volatile boolean healthy = true;
     
+    /** 已注册的监控器数量，监控器按注册时的业务标签建立索引和汇总分组，注册期间标签不可修改 */
+    private final AtomicInteger registrations = new AtomicInteger();
+    
     public DefaultMonitorableThreadPool(String name, ThreadPoolExecutor executor, 
                                        ThreadPoolType type, ThreadPoolConfiguration configuration, 
                                        int priority, Map<String, String> businessTags, boolean healthy) {
@@ -85,7 +90,7 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
     
     @Override
     public Map<String, String> getBusinessTags() {
-        return new ConcurrentHashMap<>(businessTags);
+        return Collections.unmodifiableMap(businessTags);
     }
     
     @Override
@@ -102,8 +107,10 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
     
     /**
      * 添加业务标签
+     * @throws IllegalStateException 线程池已注册到监控器
      */
-    public void addBusinessTag(String key, String value) {
+    public synchronized void addBusinessTag(String key, String value) {
+        checkTagsMutable();
         if (key != null && value != null) {
             businessTags.put(key, value);
         }
@@ -111,13 +118,45 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
     
     /**
      * 移除业务标签
+     * @throws IllegalStateException 线程池已注册到监控器
      */
-    public void removeBusinessTag(String key) {
+    public synchronized void removeBusinessTag(String key) {
+        checkTagsMutable();
         if (key != null) {
             businessTags.remove(key);
         }
     }
     
+    /**
+     * 替换全部业务标签
+     * @throws IllegalStateException 线程池已注册到监控器
+     */
+    public synchronized void setBusinessTags(Map<String, String> businessTags) {
+        checkTagsMutable();
+        this.businessTags = businessTags != null ? new ConcurrentHashMap<>(businessTags) : new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * 注册到监控器时调用，之后的标签修改被拒绝
+     */
+    synchronized void attach() {
+        registrations.incrementAndGet();
+    }
+    
+    /**
+     * 从监控器注销时调用
+     */
+    void detach() {
+        registrations.updateAndGet(count -> count > 0 ? count - 1 : 0);
+    }
+    
+    private void checkTagsMutable() {
+        if (registrations.get() > 0) {
+            throw new IllegalStateException("Business tags of thread pool " + name
+                    + " cannot be changed while it is registered; unregister it first");
+        }
+    }
+    
     /**
      * 获取业务标签值
      */
@@ -170,7 +209,7 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
                 .corePoolSize(executor.getCorePoolSize())
                 .maximumPoolSize(executor.getMaximumPoolSize())
                 .keepAliveTime(executor.getKeepAliveTime(java.util.concurrent.TimeUnit.MILLISECONDS))
-                .queueType(executor.getQueue().getClass().getSimpleName())
+                .queueType(InstrumentedThreadPoolExecutor.workQueueOf(executor).getClass().getSimpleName())
                 .build();
         
         return DefaultMonitorableThreadPool.builder()
@@ -192,7 +231,7 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
                 .corePoolSize(executor.getCorePoolSize())
                 .maximumPoolSize(executor.getMaximumPoolSize())
                 .keepAliveTime(executor.getKeepAliveTime(java.util.concurrent.TimeUnit.MILLISECONDS))
-                .queueType(executor.getQueue().getClass().getSimpleName())
+                .queueType(InstrumentedThreadPoolExecutor.workQueueOf(executor).getClass().getSimpleName())
                 .build();
         
         return DefaultMonitorableThreadPool.builder()
@@ -214,7 +253,7 @@ public class DefaultMonitorableThreadPool implements MonitorableThreadPool {
                 .corePoolSize(1)
                 .maximumPoolSize(1)
                 .keepAliveTime(executor.getKeepAliveTime(java.util.concurrent.TimeUnit.MILLISECONDS))
-                .queueType(executor.getQueue().getClass().getSimpleName())
+                .queueType(InstrumentedThreadPoolExecutor.workQueueOf(executor).getClass().getSimpleName())
                 .build();
         
         return DefaultMonitorableThreadPool.builder()
@@ -0,0 +1,69 @@
+package com.konors.threadpool.monitor.core.impl;
+
+/**
+ * 健康检查探测任务
+ * 空任务，只记录从提交到开始执行的耗时；被拒绝时由 {@link CountingRejectedExecutionHandler} 标记，
+ * 不计入拒绝统计，也不交给原拒绝策略处理。探测任务的提交和完成记录在计数拒绝策略上，
+ * 采集状态时从任务数和完成数中扣除
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class HealthProbeTask implements Runnable {
+
+    private final long submitNanos = System.nanoTime();
+    private final CountingRejectedExecutionHandler owner;
+    private long startNanos;
+    private volatile boolean started;
+    private volatile boolean rejected;
+
+    public HealthProbeTask() {
+        this(null);
+    }
+
+    /**
+     * @param owner 执行器上的计数拒绝策略，为null时不记录探测任务数
+     */
+    public HealthProbeTask(CountingRejectedExecutionHandler owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public void run() {
+        startNanos = System.nanoTime();
+        started = true;
+        if (owner != null) {
+            owner.recordProbeFinished();
+        }
+    }
+
+    public long getSubmitNanos() {
+        return submitNanos;
+    }
+
+    /**
+     * 是否已开始执行
+     */
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * 从提交到开始执行的耗时（纳秒），未执行时返回-1
+     */
+    public long getLatencyNanos() {
+        return started ? startNanos - submitNanos : -1;
+    }
+
+    public boolean isRejected() {
+        return rejected;
+    }
+
+    CountingRejectedExecutionHandler getOwner() {
+        return owner;
+    }
+
+    void markRejected() {
+        rejected = true;
+    }
+}
@@ -0,0 +1,494 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.InstrumentedExecutor;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+import com.konors.threadpool.monitor.core.metrics.WindowedLatencyHistogram;
+
+import java.time.Duration;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带无锁计数器的线程池执行器
+ * 在 execute/beforeExecute/afterExecute 中维护提交、活跃、完成、失败计数，
+ * 计数器基于 LongAdder（分段且缓存行填充），采样为 O(1) 且不会与 execute() 竞争 mainLock
+ * <p>
+ * 开启延迟统计后，提交的任务会被包装并在提交、出队、完成三个时间点打点，
+ * 排队等待时间和执行时间分别记录到滑动窗口直方图中；包装对调用方不可见，
+ * {@link #getQueue()} 和拒绝策略看到的都是原始任务。
+ * 线程工厂包装后由 {@link #getThreadFactory()} 原样返回，工作线程经由它创建才能被统计
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor implements InstrumentedExecutor {
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder running = new LongAdder();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder liveThreads = new LongAdder();
+    private final LongAdder createdThreads = new LongAdder();
+
+    /** 延迟统计窗口 */
+    private static final Duration LATENCY_WINDOW = Duration.ofMinutes(1);
+    private static final int LATENCY_WINDOW_SLOTS = 12;
+
+    private final WindowedLatencyHistogram queueWaitHistogram =
+            new WindowedLatencyHistogram(LATENCY_WINDOW, LATENCY_WINDOW_SLOTS);
+    private final WindowedLatencyHistogram executionHistogram =
+            new WindowedLatencyHistogram(LATENCY_WINDOW, LATENCY_WINDOW_SLOTS);
+    private volatile boolean latencyTrackingEnabled;
+    private final UnwrappingQueue queueView;
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                Executors.defaultThreadFactory(), new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                          ThreadFactory threadFactory) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                threadFactory, new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                          RejectedExecutionHandler handler) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                Executors.defaultThreadFactory(), handler);
+    }
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                          ThreadFactory threadFactory, RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        // 父类构造器不会回调 setter，这里显式包装以统计工作线程和拒绝
+        super.setThreadFactory(new CountingThreadFactory(threadFactory));
+        super.setRejectedExecutionHandler(new UnwrappingRejectedHandler(handler));
+        this.queueView = new UnwrappingQueue(workQueue);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        // 被拒绝的任务在拒绝策略包装中扣除，无论拒绝策略是否抛出异常
+        submitted.increment();
+        super.execute(latencyTrackingEnabled ? new TimedTask(command, System.nanoTime()) : command);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        running.increment();
+        if (r instanceof TimedTask task) {
+            long now = System.nanoTime();
+            task.startNanos = now;
+            queueWaitHistogram.record(now - task.submitNanos, now);
+        }
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        try {
+            super.afterExecute(r, t);
+        } finally {
+            if (r instanceof TimedTask task) {
+                long now = System.nanoTime();
+                executionHistogram.record(now - task.startNanos, now);
+            }
+            running.decrement();
+            finished.increment();
+            if (t != null || isFailedFuture(unwrap(r))) {
+                failed.increment();
+            }
+        }
+    }
+
+    /**
+     * 通过 submit() 提交的任务异常被 FutureTask 吞掉，这里从已完成的 Future 中识别失败
+     */
+    private boolean isFailedFuture(Runnable r) {
+        if (!(r instanceof Future<?> future) || !future.isDone() || future.isCancelled()) {
+            return false;
+        }
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (CancellationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        if (super.remove(task)) {
+            return true;
+        }
+        // 开启延迟统计时队列中保存的是包装后的任务
+        for (Runnable queued : super.getQueue()) {
+            if (queued instanceof TimedTask timed && timed.delegate == task) {
+                return super.remove(queued);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        for (Runnable queued : super.getQueue()) {
+            if (queued instanceof TimedTask timed
+                    && timed.delegate instanceof Future<?> future && future.isCancelled()) {
+                super.remove(queued);
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = super.shutdownNow();
+        List<Runnable> unwrapped = new ArrayList<>(pending.size());
+        for (Runnable r : pending) {
+            unwrapped.add(unwrap(r));
+        }
+        return unwrapped;
+    }
+
+    /**
+     * 返回去除包装的任务队列视图，读写都直接作用于底层队列
+     * 视图在构造时创建，重复调用不产生新对象；只读取大小和容量时优先使用 {@link #workQueueOf}
+     */
+    @Override
+    public BlockingQueue<Runnable> getQueue() {
+        return queueView;
+    }
+
+    /**
+     * 获取底层任务队列，用于判断队列类型
+     */
+    public BlockingQueue<Runnable> getWorkQueue() {
+        return super.getQueue();
+    }
+
+    /**
+     * 获取执行器的底层任务队列，非本类执行器直接返回 {@link ThreadPoolExecutor#getQueue()}
+     */
+    public static BlockingQueue<Runnable> workQueueOf(ThreadPoolExecutor executor) {
+        return executor instanceof InstrumentedThreadPoolExecutor instrumented
+                ? instrumented.getWorkQueue() : executor.getQueue();
+    }
+
+    /**
+     * 获取执行器的原始线程工厂，去除本类的计数包装，用于展示线程工厂类型
+     */
+    public static ThreadFactory threadFactoryOf(ThreadPoolExecutor executor) {
+        ThreadFactory factory = executor.getThreadFactory();
+        return factory instanceof InstrumentedThreadPoolExecutor.CountingThreadFactory counting
+                ? counting.delegate : factory;
+    }
+
+    /**
+     * 开启或关闭任务延迟统计
+     * 仅对开启之后提交的任务生效
+     */
+    public void setLatencyTrackingEnabled(boolean enabled) {
+        this.latencyTrackingEnabled = enabled;
+    }
+
+    public boolean isLatencyTrackingEnabled() {
+        return latencyTrackingEnabled;
+    }
+
+    @Override
+    public LatencyPercentiles getQueueWaitPercentiles() {
+        return latencyTrackingEnabled ? queueWaitHistogram.percentiles() : null;
+    }
+
+    @Override
+    public LatencyPercentiles getExecutionPercentiles() {
+        return latencyTrackingEnabled ? executionHistogram.percentiles() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 时长按 5 秒的时间槽向上取整并额外包含未写满的当前时间槽
+     */
+    @Override
+    public LatencyPercentiles getQueueWaitPercentiles(Duration window) {
+        return latencyTrackingEnabled ? queueWaitHistogram.percentiles(window) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 时长按 5 秒的时间槽向上取整并额外包含未写满的当前时间槽
+     */
+    @Override
+    public LatencyPercentiles getExecutionPercentiles(Duration window) {
+        return latencyTrackingEnabled ? executionHistogram.percentiles(window) : null;
+    }
+
+    /**
+     * 获取被延迟统计包装前的原始任务
+     */
+    public static Runnable unwrap(Runnable r) {
+        return r instanceof TimedTask task ? task.delegate : r;
+    }
+
+    /**
+     * 包装线程工厂以统计工作线程
+     * 不覆写 getThreadFactory()：ThreadPoolExecutor 通过它创建工作线程，返回原始工厂会绕过计数
+     */
+    @Override
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        if (threadFactory == null) {
+            throw new NullPointerException();
+        }
+        super.setThreadFactory(threadFactory instanceof CountingThreadFactory
+                ? threadFactory : new CountingThreadFactory(threadFactory));
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        if (handler == null) {
+            throw new NullPointerException();
+        }
+        super.setRejectedExecutionHandler(new UnwrappingRejectedHandler(handler));
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+        return handler instanceof UnwrappingRejectedHandler unwrapping ? unwrapping.delegate : handler;
+    }
+
+    @Override
+    public int getRunningTaskCount() {
+        return (int) running.sum();
+    }
+
+    @Override
+    public long getSubmittedTaskCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getFinishedTaskCount() {
+        return finished.sum();
+    }
+
+    @Override
+    public long getFailedTaskCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public int getLiveThreadCount() {
+        return (int) liveThreads.sum();
+    }
+
+    @Override
+    public long getCreatedThreadCount() {
+        return createdThreads.sum();
+    }
+
+    /**
+     * 带时间戳的任务包装
+     */
+    private static final class TimedTask implements Runnable {
+        private final Runnable delegate;
+        private final long submitNanos;
+        /** 仅由执行该任务的工作线程读写 */
+        private long startNanos;
+
+        private TimedTask(Runnable delegate, long submitNanos) {
+            this.delegate = delegate;
+            this.submitNanos = submitNanos;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    /**
+     * 统计工作线程生命周期的线程工厂包装
+     */
+    private final class CountingThreadFactory implements ThreadFactory {
+        private final ThreadFactory delegate;
+
+        private CountingThreadFactory(ThreadFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Thread newThread(Runnable worker) {
+            Thread thread = delegate.newThread(() -> {
+                liveThreads.increment();
+                try {
+                    worker.run();
+                } finally {
+                    liveThreads.decrement();
+                }
+            });
+            if (thread != null) {
+                createdThreads.increment();
+            }
+            return thread;
+        }
+    }
+
+    /**
+     * 拒绝策略包装：扣除被拒绝任务的提交计数，并把原始任务交给调用方的拒绝策略
+     */
+    private final class UnwrappingRejectedHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler delegate;
+
+        private UnwrappingRejectedHandler(RejectedExecutionHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            submitted.decrement();
+            delegate.rejectedExecution(unwrap(r), executor);
+        }
+    }
+
+    /**
+     * 任务队列视图，取出和遍历时去除延迟统计包装
+     */
+    private static final class UnwrappingQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+        private final BlockingQueue<Runnable> queue;
+
+        private UnwrappingQueue(BlockingQueue<Runnable> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public Iterator<Runnable> iterator() {
+            Iterator<Runnable> it = queue.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Runnable next() {
+                    return unwrap(it.next());
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return queue.remainingCapacity();
+        }
+
+        @Override
+        public boolean offer(Runnable r) {
+            return queue.offer(r);
+        }
+
+        @Override
+        public boolean offer(Runnable r, long timeout, TimeUnit unit) throws InterruptedException {
+            return queue.offer(r, timeout, unit);
+        }
+
+        @Override
+        public void put(Runnable r) throws InterruptedException {
+            queue.put(r);
+        }
+
+        @Override
+        public Runnable poll() {
+            Runnable r = queue.poll();
+            return r != null ? unwrap(r) : null;
+        }
+
+        @Override
+        public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+            Runnable r = queue.poll(timeout, unit);
+            return r != null ? unwrap(r) : null;
+        }
+
+        @Override
+        public Runnable take() throws InterruptedException {
+            return unwrap(queue.take());
+        }
+
+        @Override
+        public Runnable peek() {
+            Runnable r = queue.peek();
+            return r != null ? unwrap(r) : null;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (Runnable r : this) {
+                if (r.equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            for (Iterator<Runnable> it = queue.iterator(); it.hasNext(); ) {
+                Runnable r = it.next();
+                if (r.equals(o) || unwrap(r).equals(o)) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c, int maxElements) {
+            List<Runnable> drained = new ArrayList<>();
+            int n = queue.drainTo(drained, maxElements);
+            for (Runnable r : drained) {
+                c.add(unwrap(r));
+            }
+            return n;
+        }
+    }
+}
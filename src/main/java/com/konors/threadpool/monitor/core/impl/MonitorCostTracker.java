@@ -0,0 +1,147 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.metrics.CheckCost;
+import com.konors.threadpool.monitor.core.metrics.LatencyHistogram;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 监控自身开销统计
+ * 记录每次 {@code MonitorStrategy.monitor} 调用的纳秒耗时，按策略名称和线程池分别汇总到直方图，
+ * 并按（线程池，策略）累计次数、总耗时和最大耗时，用于找出在监控线程上做 I/O 等慢操作的策略。
+ * 记录路径只有原子自增，不产生对象分配。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class MonitorCostTracker {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Comparator<CheckCost> BY_TOTAL =
+            Comparator.comparingDouble(CheckCost::getTotalMillis).reversed();
+
+    private final Map<String, LatencyHistogram> strategyCosts = new ConcurrentHashMap<>();
+    private final Map<String, PoolCost> poolCosts = new ConcurrentHashMap<>();
+
+    void register(String poolName) {
+        poolCosts.putIfAbsent(poolName, new PoolCost(poolName));
+    }
+
+    void removePool(String poolName) {
+        poolCosts.remove(poolName);
+    }
+
+    void removeStrategy(String strategyName) {
+        strategyCosts.remove(strategyName);
+        poolCosts.values().forEach(pool -> pool.checks.remove(strategyName));
+    }
+
+    /**
+     * 获取线程池的开销记录，线程池未注册时返回 null
+     */
+    PoolCost get(String poolName) {
+        return poolCosts.get(poolName);
+    }
+
+    /**
+     * 各策略单次调用耗时分位数
+     */
+    Map<String, LatencyPercentiles> strategyPercentiles() {
+        Map<String, LatencyPercentiles> percentiles = new TreeMap<>();
+        strategyCosts.forEach((name, histogram) ->
+                percentiles.put(name, LatencyPercentiles.from(histogram.snapshot())));
+        return percentiles;
+    }
+
+    /**
+     * 各线程池单次策略调用耗时分位数
+     */
+    Map<String, LatencyPercentiles> poolPercentiles() {
+        Map<String, LatencyPercentiles> percentiles = new TreeMap<>();
+        poolCosts.forEach((name, pool) -> {
+            if (pool.histogram.getTotalCount() > 0) {
+                percentiles.put(name, LatencyPercentiles.from(pool.histogram.snapshot()));
+            }
+        });
+        return percentiles;
+    }
+
+    /**
+     * 累计耗时最高的检查
+     */
+    List<CheckCost> mostExpensiveChecks(int limit) {
+        List<CheckCost> costs = new ArrayList<>();
+        for (PoolCost pool : poolCosts.values()) {
+            pool.checks.forEach((strategyName, check) -> costs.add(check.toCost(pool.poolName, strategyName)));
+        }
+        costs.sort(BY_TOTAL);
+        return costs.size() > limit ? new ArrayList<>(costs.subList(0, Math.max(0, limit))) : costs;
+    }
+
+    /**
+     * 单个线程池的开销记录
+     */
+    final class PoolCost {
+        private final String poolName;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final Map<String, CheckCounter> checks = new ConcurrentHashMap<>();
+
+        private PoolCost(String poolName) {
+            this.poolName = poolName;
+        }
+
+        void record(String strategyName, long nanos) {
+            histogram.record(nanos);
+            LatencyHistogram strategyHistogram = strategyCosts.get(strategyName);
+            if (strategyHistogram == null) {
+                strategyHistogram = strategyCosts.computeIfAbsent(strategyName, name -> new LatencyHistogram());
+            }
+            strategyHistogram.record(nanos);
+            CheckCounter check = checks.get(strategyName);
+            if (check == null) {
+                check = checks.computeIfAbsent(strategyName, name -> new CheckCounter());
+            }
+            check.record(nanos);
+        }
+    }
+
+    /**
+     * 单个（线程池，策略）的累计耗时
+     */
+    private static final class CheckCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            long currentMax = maxNanos.get();
+            while (nanos > currentMax && !maxNanos.compareAndSet(currentMax, nanos)) {
+                currentMax = maxNanos.get();
+            }
+        }
+
+        CheckCost toCost(String poolName, String strategyName) {
+            long calls = count.sum();
+            long total = totalNanos.sum();
+            CheckCost cost = new CheckCost();
+            cost.setPoolName(poolName);
+            cost.setStrategyName(strategyName);
+            cost.setCount(calls);
+            cost.setTotalMillis(total / NANOS_PER_MILLI);
+            cost.setAverageMillis(calls > 0 ? total / NANOS_PER_MILLI / calls : 0.0);
+            cost.setMaxMillis(maxNanos.get() / NANOS_PER_MILLI);
+            return cost;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 监控调度时间轮
+ * 哈希时间轮实现，每个（线程池，策略）组合按各自的检查间隔周期触发。
+ * 时间轮只由监控线程推进；其他线程新增的任务先进入待处理队列，在下一次推进时加入时间轮，
+ * 取消只做标记，推进到对应槽位时再移除，因此注册、注销线程池不会影响其他任务的触发相位。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class MonitorTimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> rescheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final List<Timeout> expired = new ArrayList<>();
+
+    /** 已处理到的tick */
+    private long currentTick = -1;
+
+    MonitorTimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickMillis);
+        }
+        int size = 16;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Timeout[size];
+    }
+
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * 新增周期任务
+     * @param poolName 线程池名称
+     * @param strategyName 策略名称，为空表示线程池采样任务
+     * @param intervalMillis 触发间隔
+     * @param initialDelayMillis 首次触发延迟
+     */
+    Timeout schedule(String poolName, String strategyName, long intervalMillis, long initialDelayMillis) {
+        Timeout timeout = new Timeout(poolName, strategyName, intervalMillis, initialDelayMillis);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 修改周期任务的触发间隔
+     * 间隔缩短时在下一次推进时提前下一次触发时间，间隔放宽时在下一次触发后生效
+     */
+    void reschedule(Timeout timeout, long intervalMillis) {
+        long previous = timeout.intervalMillis;
+        timeout.intervalMillis = intervalMillis;
+        if (intervalMillis < previous) {
+            rescheduledTimeouts.add(timeout);
+        }
+    }
+
+    /**
+     * 推进时间轮到指定tick，依次回调到期任务，回调完成后按间隔重新入轮
+     * 落后超过一圈时只扫描一圈，每个到期任务仅触发一次
+     */
+    void advanceTo(long tick, Consumer<Timeout> consumer) {
+        transferPendingTimeouts();
+        transferRescheduledTimeouts();
+        if (tick <= currentTick) {
+            return;
+        }
+
+        long steps = Math.min(tick - currentTick, buckets.length);
+        for (long i = 1; i <= steps; i++) {
+            expireBucket((int) ((currentTick + i) & mask), tick);
+        }
+        currentTick = tick;
+
+        for (int i = 0; i < expired.size(); i++) {
+            Timeout timeout = expired.get(i);
+            consumer.accept(timeout);
+            if (!timeout.cancelled) {
+                long intervalTicks = toTicks(timeout.intervalMillis);
+                long missed = (tick - timeout.deadline) / intervalTicks + 1;
+                timeout.deadline += missed * intervalTicks;
+                addToBucket(timeout);
+            }
+        }
+        expired.clear();
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            timeout.deadline = Math.max(currentTick, 0) + Math.max(1, toTicks(timeout.initialDelayMillis));
+            addToBucket(timeout);
+        }
+    }
+
+    private void transferRescheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = rescheduledTimeouts.poll()) != null) {
+            if (timeout.cancelled || !timeout.scheduled) {
+                continue;
+            }
+            long deadline = Math.max(currentTick, 0) + toTicks(timeout.intervalMillis);
+            if (deadline < timeout.deadline) {
+                removeFromBucket(timeout);
+                timeout.deadline = deadline;
+                addToBucket(timeout);
+            }
+        }
+    }
+
+    private void expireBucket(int index, long tick) {
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.cancelled) {
+                removeFromBucket(timeout);
+            } else if (timeout.deadline <= tick) {
+                removeFromBucket(timeout);
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void addToBucket(Timeout timeout) {
+        int index = (int) (timeout.deadline & mask);
+        Timeout head = buckets[index];
+        timeout.bucket = index;
+        timeout.scheduled = true;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private void removeFromBucket(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.scheduled = false;
+    }
+
+    private long toTicks(long millis) {
+        return Math.max(1, (millis + tickMillis - 1) / tickMillis);
+    }
+
+    /**
+     * 时间轮中的周期任务
+     */
+    static final class Timeout {
+        private final String poolName;
+        private final String strategyName;
+        private final long initialDelayMillis;
+        private volatile long intervalMillis;
+        private volatile boolean cancelled;
+
+        private long deadline;
+        private int bucket;
+        private boolean scheduled;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(String poolName, String strategyName, long intervalMillis, long initialDelayMillis) {
+            this.poolName = poolName;
+            this.strategyName = strategyName;
+            this.intervalMillis = intervalMillis;
+            this.initialDelayMillis = initialDelayMillis;
+        }
+
+        String getPoolName() {
+            return poolName;
+        }
+
+        /** 策略名称，为空表示线程池采样任务 */
+        String getStrategyName() {
+            return strategyName;
+        }
+
+        long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
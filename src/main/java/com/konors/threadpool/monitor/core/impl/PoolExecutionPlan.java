@@ -0,0 +1,193 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 线程池执行计划
+ * 注册线程池或变更策略时预先计算该线程池适用的策略：全局策略加上同类型线程池专用的策略（同名时专用策略覆盖全局策略），
+ * 过滤掉不支持的策略并按优先级排序。策略列表在构建后不再变化，监控周期内直接按位掩码选取到期策略，不再排序、过滤或分配；
+ * 到期和推迟标记是可变的，只由监控循环线程读写。
+ * 到期策略以 long 位掩码表示，单个线程池适用的策略超过 64 个时拒绝构建。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class PoolExecutionPlan {
+
+    /** 到期策略以 long 位掩码表示 */
+    static final int MAX_STRATEGIES = Long.SIZE;
+    /** 策略数不超过该值时缓存所有到期组合对应的检查 */
+    private static final int CACHED_SUBSET_LIMIT = 8;
+
+    private static final Comparator<MonitorStrategy> BY_PRIORITY =
+            Comparator.comparingInt(MonitorStrategy::getPriority).reversed();
+
+    final MonitorableThreadPool threadPool;
+    private final MonitorStrategy[] strategies;
+    private final long samplingMask;
+    private final long fullMask;
+    private final Check fullCheck;
+    private final Check[] subsetChecks;
+
+    /** 本周期是否到期（采样任务到期时即使没有策略也需要采集状态），以下字段仅由监控循环线程读写 */
+    boolean due;
+    /** 本周期到期的策略 */
+    long dueMask;
+    /** 上一周期是否因预算耗尽推迟了检查 */
+    boolean deferred;
+    /** 上一周期推迟的策略 */
+    long deferredMask;
+
+    private PoolExecutionPlan(MonitorableThreadPool threadPool, List<MonitorStrategy> applicable) {
+        this.threadPool = threadPool;
+        this.strategies = applicable.toArray(new MonitorStrategy[0]);
+        long sampling = 0;
+        for (int i = 0; i < strategies.length; i++) {
+            if (strategies[i].getCheckInterval() <= 0) {
+                sampling |= 1L << i;
+            }
+        }
+        this.samplingMask = sampling;
+        this.fullMask = strategies.length == MAX_STRATEGIES ? -1L : (1L << strategies.length) - 1;
+        this.fullCheck = new Check(this, fullMask, Collections.unmodifiableList(Arrays.asList(strategies)));
+        this.subsetChecks = strategies.length <= CACHED_SUBSET_LIMIT ? new Check[1 << strategies.length] : null;
+    }
+
+    /**
+     * 构建线程池的执行计划
+     * @param globalStrategies 全局策略
+     * @param typeStrategies 线程池类型专用策略，同名时覆盖全局策略
+     * @throws IllegalStateException 适用的策略超过 {@link #MAX_STRATEGIES} 个
+     */
+    static PoolExecutionPlan build(MonitorableThreadPool threadPool, Collection<MonitorStrategy> globalStrategies,
+                                   Collection<MonitorStrategy> typeStrategies) {
+        Map<String, MonitorStrategy> selected = new LinkedHashMap<>();
+        for (MonitorStrategy strategy : globalStrategies) {
+            selected.put(strategy.getName(), strategy);
+        }
+        for (MonitorStrategy strategy : typeStrategies) {
+            selected.put(strategy.getName(), strategy);
+        }
+        List<MonitorStrategy> applicable = new ArrayList<>(selected.size());
+        for (MonitorStrategy strategy : selected.values()) {
+            if (strategy.supports(threadPool)) {
+                applicable.add(strategy);
+            }
+        }
+        if (applicable.size() > MAX_STRATEGIES) {
+            throw new IllegalStateException(String.format("Thread pool %s has %d applicable strategies, at most %d are supported",
+                    threadPool.getPoolName(), applicable.size(), MAX_STRATEGIES));
+        }
+        applicable.sort(BY_PRIORITY);
+        return new PoolExecutionPlan(threadPool, applicable);
+    }
+
+    String getPoolName() {
+        return threadPool.getPoolName();
+    }
+
+    int size() {
+        return strategies.length;
+    }
+
+    MonitorStrategy getStrategy(int index) {
+        return strategies[index];
+    }
+
+    List<MonitorStrategy> getStrategies() {
+        return fullCheck.strategies;
+    }
+
+    /**
+     * 策略在计划中的位置，不适用时返回 -1
+     */
+    int indexOf(String strategyName) {
+        for (int i = 0; i < strategies.length; i++) {
+            if (strategies[i].getName().equals(strategyName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 跟随全局采样间隔的策略
+     */
+    long getSamplingMask() {
+        return samplingMask;
+    }
+
+    /**
+     * 按名称把其他计划中的策略映射到本计划，用于计划重建后合并推迟的检查
+     */
+    long maskOf(List<MonitorStrategy> other) {
+        long mask = 0;
+        for (MonitorStrategy strategy : other) {
+            int index = indexOf(strategy.getName());
+            if (index >= 0) {
+                mask |= 1L << index;
+            }
+        }
+        return mask;
+    }
+
+    Check getFullCheck() {
+        return fullCheck;
+    }
+
+    /**
+     * 获取到期策略组合对应的检查，策略保持优先级顺序
+     */
+    Check checkFor(long mask) {
+        mask &= fullMask;
+        if (mask == fullMask) {
+            return fullCheck;
+        }
+        if (subsetChecks != null) {
+            Check cached = subsetChecks[(int) mask];
+            if (cached == null) {
+                cached = createCheck(mask);
+                subsetChecks[(int) mask] = cached;
+            }
+            return cached;
+        }
+        return createCheck(mask);
+    }
+
+    private Check createCheck(long mask) {
+        List<MonitorStrategy> selected = new ArrayList<>(Long.bitCount(mask));
+        for (int i = 0; i < strategies.length; i++) {
+            if ((mask & (1L << i)) != 0) {
+                selected.add(strategies[i]);
+            }
+        }
+        return new Check(this, mask, Collections.unmodifiableList(selected));
+    }
+
+    /**
+     * 一次线程池检查：计划中的一组策略
+     */
+    static final class Check {
+        final PoolExecutionPlan plan;
+        final MonitorableThreadPool threadPool;
+        final long mask;
+        final List<MonitorStrategy> strategies;
+
+        private Check(PoolExecutionPlan plan, long mask, List<MonitorStrategy> strategies) {
+            this.plan = plan;
+            this.threadPool = plan.threadPool;
+            this.mask = mask;
+            this.strategies = strategies;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 线程池健康计数
+ * 每次线程池检查后按检查结果更新该线程池的健康和告警状态，只有状态变化时才调整计数，
+ * 读取健康、不健康、告警线程池数量不需要遍历线程池。
+ * 告警状态按策略记录：只检查部分到期策略时，其他策略之前的告警仍然有效。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class PoolHealthTracker {
+
+    private final Map<String, PoolHealth> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger unhealthyPools = new AtomicInteger();
+    private final AtomicInteger alertingPools = new AtomicInteger();
+
+    void register(String poolName) {
+        pools.putIfAbsent(poolName, new PoolHealth());
+    }
+
+    void removePool(String poolName) {
+        PoolHealth health = pools.remove(poolName);
+        if (health != null) {
+            health.discard();
+        }
+    }
+
+    void removeStrategy(String strategyName) {
+        pools.values().forEach(health -> health.recordStrategy(strategyName, false));
+    }
+
+    /**
+     * 获取线程池的健康状态，线程池未注册时返回 null
+     */
+    PoolHealth get(String poolName) {
+        return pools.get(poolName);
+    }
+
+    int getUnhealthyPools() {
+        return unhealthyPools.get();
+    }
+
+    int getAlertingPools() {
+        return alertingPools.get();
+    }
+
+    /**
+     * 单个线程池的健康状态，首次检查前视为健康且无告警
+     */
+    final class PoolHealth {
+        private boolean unhealthy;
+        private Set<String> alertingStrategies;
+        private boolean discarded;
+
+        synchronized void recordStrategy(String strategyName, boolean alert) {
+            if (discarded) {
+                return;
+            }
+            boolean wasAlerting = isAlerting();
+            if (alert) {
+                if (alertingStrategies == null) {
+                    alertingStrategies = new HashSet<>();
+                }
+                alertingStrategies.add(strategyName);
+            } else if (alertingStrategies != null) {
+                alertingStrategies.remove(strategyName);
+            }
+            boolean alerting = isAlerting();
+            if (alerting != wasAlerting) {
+                alertingPools.addAndGet(alerting ? 1 : -1);
+            }
+        }
+
+        synchronized void recordHealthy(boolean healthy) {
+            if (discarded || unhealthy == !healthy) {
+                return;
+            }
+            unhealthy = !healthy;
+            unhealthyPools.addAndGet(unhealthy ? 1 : -1);
+        }
+
+        private synchronized void discard() {
+            if (unhealthy) {
+                unhealthyPools.decrementAndGet();
+            }
+            if (isAlerting()) {
+                alertingPools.decrementAndGet();
+            }
+            discarded = true;
+        }
+
+        private boolean isAlerting() {
+            return alertingStrategies != null && !alertingStrategies.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool.ThreadPoolType;
+import com.konors.threadpool.monitor.core.abstraction.PoolPage;
+import com.konors.threadpool.monitor.core.abstraction.PoolQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 已注册线程池的索引
+ * 线程池按名称排序，下标即线程池编号；按类型、标签键、标签键值分别保存有序的编号数组。
+ * 查询时从最短的编号数组出发逐个在其他数组中二分查找，只访问匹配条件的线程池。
+ * 索引不可变，注册/注销时整体替换；业务标签在注册时读取，注册期间不可修改。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class PoolRegistryIndex {
+
+    static final PoolRegistryIndex EMPTY = new PoolRegistryIndex(new MonitorableThreadPool[0]);
+
+    private static final int[] NONE = new int[0];
+
+    private final MonitorableThreadPool[] pools;
+    private final Map<ThreadPoolType, int[]> idsByType = new EnumMap<>(ThreadPoolType.class);
+    private final Map<String, int[]> idsByTagKey = new HashMap<>();
+    private final Map<String, int[]> idsByTag = new HashMap<>();
+
+    private PoolRegistryIndex(MonitorableThreadPool[] sortedPools) {
+        this.pools = sortedPools;
+        Map<ThreadPoolType, List<Integer>> byType = new EnumMap<>(ThreadPoolType.class);
+        Map<String, List<Integer>> byTagKey = new HashMap<>();
+        Map<String, List<Integer>> byTag = new HashMap<>();
+        for (int id = 0; id < pools.length; id++) {
+            MonitorableThreadPool pool = pools[id];
+            if (pool.getPoolType() != null) {
+                byType.computeIfAbsent(pool.getPoolType(), type -> new ArrayList<>()).add(id);
+            }
+            Map<String, String> tags = pool.getBusinessTags();
+            if (tags != null) {
+                for (Map.Entry<String, String> tag : tags.entrySet()) {
+                    byTagKey.computeIfAbsent(tag.getKey(), key -> new ArrayList<>()).add(id);
+                    byTag.computeIfAbsent(tagKey(tag.getKey(), tag.getValue()), key -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+        byType.forEach((type, ids) -> idsByType.put(type, toArray(ids)));
+        byTagKey.forEach((key, ids) -> idsByTagKey.put(key, toArray(ids)));
+        byTag.forEach((key, ids) -> idsByTag.put(key, toArray(ids)));
+    }
+
+    private static PoolRegistryIndex of(Collection<MonitorableThreadPool> registered) {
+        MonitorableThreadPool[] sorted = registered.toArray(new MonitorableThreadPool[0]);
+        Arrays.sort(sorted, Comparator.comparing(MonitorableThreadPool::getPoolName));
+        return new PoolRegistryIndex(sorted);
+    }
+
+    PoolRegistryIndex with(MonitorableThreadPool pool) {
+        List<MonitorableThreadPool> updated = new ArrayList<>(pools.length + 1);
+        for (MonitorableThreadPool existing : pools) {
+            if (!existing.getPoolName().equals(pool.getPoolName())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(pool);
+        return of(updated);
+    }
+
+    PoolRegistryIndex without(String poolName) {
+        List<MonitorableThreadPool> updated = new ArrayList<>(Arrays.asList(pools));
+        updated.removeIf(pool -> pool.getPoolName().equals(poolName));
+        return of(updated);
+    }
+
+    /**
+     * 查询匹配条件的线程池，按名称排序分页
+     */
+    PoolPage query(PoolQuery query) {
+        int offset = Math.max(0, query.getOffset());
+        int limit = Math.max(0, query.getLimit());
+        List<String> names = new ArrayList<>(Math.min(limit, 64));
+
+        if (!query.hasFilter()) {
+            for (int id = offset; id < pools.length && names.size() < limit; id++) {
+                names.add(pools[id].getPoolName());
+            }
+            return new PoolPage(pools.length, offset, names);
+        }
+
+        int[][] candidates = candidates(query);
+        Arrays.sort(candidates, Comparator.comparingInt(ids -> ids.length));
+        long total = 0;
+        for (int id : candidates[0]) {
+            if (containedInAll(id, candidates)) {
+                if (total >= offset && names.size() < limit) {
+                    names.add(pools[id].getPoolName());
+                }
+                total++;
+            }
+        }
+        return new PoolPage(total, offset, names);
+    }
+
+    private int[][] candidates(PoolQuery query) {
+        Map<String, String> tags = query.getTags() != null ? query.getTags() : Map.of();
+        int[][] candidates = new int[tags.size() + (query.getType() != null ? 1 : 0)][];
+        int n = 0;
+        if (query.getType() != null) {
+            candidates[n++] = idsByType.getOrDefault(query.getType(), NONE);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            candidates[n++] = tag.getValue() == null
+                    ? idsByTagKey.getOrDefault(tag.getKey(), NONE)
+                    : idsByTag.getOrDefault(tagKey(tag.getKey(), tag.getValue()), NONE);
+        }
+        return candidates;
+    }
+
+    private static boolean containedInAll(int id, int[][] candidates) {
+        for (int i = 1; i < candidates.length; i++) {
+            if (Arrays.binarySearch(candidates[i], id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String tagKey(String key, String value) {
+        return key + '\u0000' + value;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,133 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.strategy.ResultSlot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 监控结果变化跟踪器
+ * 记录每个（线程池，策略）最近一次返回给调用方的级别和数值指标，
+ * 只有级别、告警标志变化，或任一数值指标偏离上次返回值超过滞回带时才视为变化。
+ * 滞回带按 {@code hysteresis * max(|上次值|, 1)} 计算：比例类指标相当于绝对变化，数量类指标相当于相对变化。
+ * 结果槽位按字段下标直接比较原始值，计数字段不参与比较；只有发生变化时才更新记录。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+final class ResultTransitionTracker {
+
+    private final double hysteresis;
+    private final Map<String, Map<String, EmittedState>> states = new ConcurrentHashMap<>();
+
+    ResultTransitionTracker(double hysteresis) {
+        this.hysteresis = Math.max(0.0, hysteresis);
+    }
+
+    /**
+     * 判断结果相对上次返回是否发生变化，变化时更新记录
+     */
+    boolean isTransition(String poolName, String strategyName, MonitorResult result) {
+        EmittedState state = states.computeIfAbsent(poolName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(strategyName, name -> new EmittedState());
+        synchronized (state) {
+            boolean changed = !state.recorded
+                    || state.alert != result.shouldAlert()
+                    || state.level != result.getAlertLevel()
+                    || (result instanceof ResultSlot slot ? crossedBand(state, slot) : crossedBand(state, result));
+            if (changed) {
+                state.record(result);
+            }
+            return changed;
+        }
+    }
+
+    void removePool(String poolName) {
+        states.remove(poolName);
+    }
+
+    void removeStrategy(String strategyName) {
+        states.values().forEach(poolStates -> poolStates.remove(strategyName));
+    }
+
+    private boolean crossedBand(EmittedState state, ResultSlot slot) {
+        long mask = slot.gaugeMask();
+        if (state.metrics != null || mask != state.gaugeMask) {
+            return true;
+        }
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int field = Long.numberOfTrailingZeros(bits);
+            if (exceedsBand(state.gauges[field], slot.getGauge(field))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean crossedBand(EmittedState state, MonitorResult result) {
+        Map<String, Object> extendedData = result.getExtendedData();
+        if (state.metrics == null) {
+            return true;
+        }
+        if (extendedData == null) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : extendedData.entrySet()) {
+            if (entry.getValue() instanceof Number number) {
+                Double last = state.metrics.get(entry.getKey());
+                if (last == null || exceedsBand(last, number.doubleValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean exceedsBand(double last, double current) {
+        return Math.abs(current - last) > hysteresis * Math.max(Math.abs(last), 1.0);
+    }
+
+    /**
+     * 上次返回给调用方的结果状态
+     */
+    private static final class EmittedState {
+        private boolean recorded;
+        private boolean alert;
+        private AlertLevel level;
+        /** 结果槽位的数值字段，按字段下标保存 */
+        private long gaugeMask;
+        private double[] gauges;
+        /** 其他结果的数值扩展数据 */
+        private Map<String, Double> metrics;
+
+        private void record(MonitorResult result) {
+            recorded = true;
+            alert = result.shouldAlert();
+            level = result.getAlertLevel();
+            if (result instanceof ResultSlot slot) {
+                if (gauges == null) {
+                    gauges = new double[Long.SIZE];
+                }
+                gaugeMask = slot.gaugeMask();
+                for (long bits = gaugeMask; bits != 0; bits &= bits - 1) {
+                    int field = Long.numberOfTrailingZeros(bits);
+                    gauges[field] = slot.getGauge(field);
+                }
+                metrics = null;
+                return;
+            }
+            metrics = new HashMap<>();
+            Map<String, Object> extendedData = result.getExtendedData();
+            if (extendedData != null) {
+                for (Map.Entry<String, Object> entry : extendedData.entrySet()) {
+                    if (entry.getValue() instanceof Number number) {
+                        metrics.put(entry.getKey(), number.doubleValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import lombok.Data;
+
+/**
+ * 单个（线程池，策略）检查的累计耗时
+ * 单位为毫秒，用于找出拖慢监控周期的策略或线程池
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+public class CheckCost {
+
+    /** 线程池名称 */
+    private String poolName;
+
+    /** 策略名称 */
+    private String strategyName;
+
+    /** 调用次数 */
+    private long count;
+
+    /** 累计耗时 */
+    private double totalMillis;
+
+    /** 平均耗时 */
+    private double averageMillis;
+
+    /** 最大耗时 */
+    private double maxMillis;
+}
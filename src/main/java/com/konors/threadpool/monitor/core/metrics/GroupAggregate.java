@@ -0,0 +1,36 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import lombok.Data;
+
+/**
+ * 线程池分组汇总
+ * 分组为某个线程池类型（{@code type:FIXED}）或某个业务标签值（{@code tag:team=payments}），
+ * 汇总组内各线程池最近一次采样的数据
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+public class GroupAggregate {
+
+    /** 分组名称 */
+    private String group;
+
+    /** 组内线程池数量 */
+    private int poolCount;
+
+    /** 负责上报分组级告警的线程池（组内名称最小的线程池） */
+    private String reportingPool;
+
+    /** 排队任务总数 */
+    private long queuedTasks;
+
+    /** 活跃线程总数 */
+    private long activeThreads;
+
+    /** 累计拒绝任务总数 */
+    private long rejectedTasks;
+
+    /** 组内最高线程利用率，精度0.1% */
+    private double maxUtilization;
+}
@@ -0,0 +1,228 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按线程池类型和业务标签汇总的分组数据
+ * 每个线程池记住上一次计入分组的数值，采样时只把差值加到所属分组，不重新遍历组内线程池；
+ * 最高利用率通过按 0.1% 分桶的线程池计数维护，线程池利用率变化时从旧桶移到新桶。
+ * 分组成员在注册时确定，注销时扣除该线程池的贡献。组内名称最小的线程池负责上报分组级告警，避免每个成员重复告警。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class GroupRollupStore {
+
+    private static final int UTILIZATION_BUCKETS = 1000;
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+    private final Map<String, PoolContribution> pools = new ConcurrentHashMap<>();
+
+    /**
+     * 线程池类型分组名称
+     */
+    public static String typeGroup(String type) {
+        return "type:" + type;
+    }
+
+    /**
+     * 业务标签分组名称
+     */
+    public static String tagGroup(String key, String value) {
+        return "tag:" + key + "=" + value;
+    }
+
+    /**
+     * 线程池所属的分组：线程池类型和每个业务标签值
+     */
+    public static List<String> groupsOf(MonitorableThreadPool threadPool) {
+        List<String> groupNames = new ArrayList<>();
+        if (threadPool.getPoolType() != null) {
+            groupNames.add(typeGroup(threadPool.getPoolType().name()));
+        }
+        Map<String, String> tags = threadPool.getBusinessTags();
+        if (tags != null) {
+            tags.forEach((key, value) -> groupNames.add(tagGroup(key, value)));
+        }
+        return groupNames;
+    }
+
+    /**
+     * 将线程池加入分组
+     */
+    public void register(String poolName, Collection<String> groupNames) {
+        unregister(poolName);
+        Group[] members = new Group[groupNames.size()];
+        int n = 0;
+        for (String groupName : groupNames) {
+            members[n++] = groups.compute(groupName, (name, group) -> {
+                Group joined = group != null ? group : new Group(name);
+                joined.members.add(poolName);
+                return joined;
+            });
+        }
+        pools.put(poolName, new PoolContribution(poolName, members));
+    }
+
+    /**
+     * 扣除线程池的贡献并退出分组，分组为空时移除
+     */
+    public void unregister(String poolName) {
+        PoolContribution contribution = pools.remove(poolName);
+        if (contribution != null) {
+            leave(contribution);
+        }
+    }
+
+    /**
+     * 按线程池的新采样更新所属分组
+     */
+    public void record(String poolName, ThreadPoolStatus status) {
+        PoolContribution contribution = pools.get(poolName);
+        if (contribution != null && status != null) {
+            contribution.update(status);
+        }
+    }
+
+    public Optional<GroupAggregate> getAggregate(String groupName) {
+        Group group = groups.get(groupName);
+        return group != null ? Optional.of(group.toAggregate()) : Optional.empty();
+    }
+
+    /**
+     * 所有分组的汇总，按分组名称排序
+     */
+    public Map<String, GroupAggregate> getAggregates() {
+        Map<String, GroupAggregate> aggregates = new TreeMap<>();
+        groups.forEach((name, group) -> aggregates.put(name, group.toAggregate()));
+        return aggregates;
+    }
+
+    private void leave(PoolContribution contribution) {
+        contribution.withdraw();
+        for (Group member : contribution.groups) {
+            groups.computeIfPresent(member.name, (name, group) -> {
+                group.members.remove(contribution.poolName);
+                return group.members.isEmpty() ? null : group;
+            });
+        }
+    }
+
+    private static int bucketOf(double utilization) {
+        double clamped = Double.isNaN(utilization) ? 0.0 : Math.max(0.0, Math.min(1.0, utilization));
+        return (int) Math.round(clamped * UTILIZATION_BUCKETS);
+    }
+
+    /**
+     * 单个分组的累加值
+     */
+    private static final class Group {
+        private final String name;
+        /** 组内线程池名称，只在注册和注销时变化 */
+        private final ConcurrentSkipListSet<String> members = new ConcurrentSkipListSet<>();
+        private final AtomicLong queuedTasks = new AtomicLong();
+        private final AtomicLong activeThreads = new AtomicLong();
+        private final AtomicLong rejectedTasks = new AtomicLong();
+        /** 每个利用率桶中的线程池数量 */
+        private final AtomicIntegerArray utilizationBuckets = new AtomicIntegerArray(UTILIZATION_BUCKETS + 1);
+
+        private Group(String name) {
+            this.name = name;
+        }
+
+        private GroupAggregate toAggregate() {
+            GroupAggregate aggregate = new GroupAggregate();
+            aggregate.setGroup(name);
+            aggregate.setPoolCount(members.size());
+            String reportingPool = members.isEmpty() ? null : members.first();
+            aggregate.setReportingPool(reportingPool);
+            aggregate.setQueuedTasks(queuedTasks.get());
+            aggregate.setActiveThreads(activeThreads.get());
+            aggregate.setRejectedTasks(rejectedTasks.get());
+            for (int bucket = UTILIZATION_BUCKETS; bucket >= 0; bucket--) {
+                if (utilizationBuckets.get(bucket) > 0) {
+                    aggregate.setMaxUtilization((double) bucket / UTILIZATION_BUCKETS);
+                    break;
+                }
+            }
+            return aggregate;
+        }
+    }
+
+    /**
+     * 线程池上一次计入分组的数值
+     */
+    private static final class PoolContribution {
+        private final String poolName;
+        private final Group[] groups;
+        private boolean sampled;
+        private boolean withdrawn;
+        private long queuedTasks;
+        private long activeThreads;
+        private long rejectedTasks;
+        private int utilizationBucket;
+
+        private PoolContribution(String poolName, Group[] groups) {
+            this.poolName = poolName;
+            this.groups = groups;
+        }
+
+        synchronized void update(ThreadPoolStatus status) {
+            if (withdrawn) {
+                return;
+            }
+            long queued = status.getQueueSize();
+            long active = status.getActiveCount();
+            long rejected = status.getRejectedTaskCount();
+            int bucket = bucketOf(status.getUtilization());
+            apply(queued - queuedTasks, active - activeThreads, rejected - rejectedTasks,
+                    sampled ? utilizationBucket : -1, bucket);
+            queuedTasks = queued;
+            activeThreads = active;
+            rejectedTasks = rejected;
+            utilizationBucket = bucket;
+            sampled = true;
+        }
+
+        synchronized void withdraw() {
+            if (sampled && !withdrawn) {
+                apply(-queuedTasks, -activeThreads, -rejectedTasks, utilizationBucket, -1);
+            }
+            withdrawn = true;
+        }
+
+        private void apply(long queuedDelta, long activeDelta, long rejectedDelta, int oldBucket, int newBucket) {
+            for (Group group : groups) {
+                if (queuedDelta != 0) {
+                    group.queuedTasks.addAndGet(queuedDelta);
+                }
+                if (activeDelta != 0) {
+                    group.activeThreads.addAndGet(activeDelta);
+                }
+                if (rejectedDelta != 0) {
+                    group.rejectedTasks.addAndGet(rejectedDelta);
+                }
+                if (oldBucket != newBucket) {
+                    if (oldBucket >= 0) {
+                        group.utilizationBuckets.decrementAndGet(oldBucket);
+                    }
+                    if (newBucket >= 0) {
+                        group.utilizationBuckets.incrementAndGet(newBucket);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁对数线性直方图（HdrHistogram 风格）
+ * 以 2 的幂划分主桶，每个主桶再线性划分为 16 个子桶，相对误差不超过 6.25%。
+ * 记录路径只做一次数组下标计算和原子自增，不产生任何对象分配；
+ * 多个直方图的计数可以直接相加合并。
+ * <p>
+ * 数值单位由调用方决定（本项目统一使用纳秒），超过 2^42（约73分钟纳秒）的值记入最后一个桶。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_MSB = 41;
+    private static final long MAX_TRACKABLE = (1L << (MAX_MSB + 1)) - 1;
+
+    /** 桶数量 */
+    public static final int BUCKET_COUNT = ((MAX_MSB - SUB_BITS + 1) << SUB_BITS) + SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * 记录一个数值
+     */
+    public void record(long value) {
+        long v = value < 0 ? 0 : Math.min(value, MAX_TRACKABLE);
+        counts.incrementAndGet(indexOf(v));
+        totalCount.incrementAndGet();
+        long currentMax = maxValue.get();
+        while (v > currentMax && !maxValue.compareAndSet(currentMax, v)) {
+            currentMax = maxValue.get();
+        }
+    }
+
+    /**
+     * 清空计数
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        maxValue.set(0);
+    }
+
+    /**
+     * 获取记录总数
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 获取记录的最大值
+     */
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * 将本直方图的计数累加到目标数组
+     * @param target 长度为 {@link #BUCKET_COUNT} 的计数数组
+     * @return 本直方图的记录总数
+     */
+    public long addTo(long[] target) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = counts.get(i);
+            if (c != 0) {
+                target[i] += c;
+                total += c;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 获取当前计数的快照
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = addTo(copy);
+        return new Snapshot(copy, total, maxValue.get());
+    }
+
+    /**
+     * 计算数值所在的桶下标
+     */
+    static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (msb - SUB_BITS));
+        return ((msb - SUB_BITS + 1) << SUB_BITS) + (sub - SUB_COUNT);
+    }
+
+    /**
+     * 计算桶的代表值（桶中点）
+     */
+    static long valueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int msb = (index >> SUB_BITS) + SUB_BITS - 1;
+        int shift = msb - SUB_BITS;
+        long lower = (long) ((index & (SUB_COUNT - 1)) + SUB_COUNT) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+    /**
+     * 直方图快照，可合并、可计算分位数
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private long totalCount;
+        private long maxValue;
+
+        Snapshot(long[] counts, long totalCount, long maxValue) {
+            this.counts = counts;
+            this.totalCount = totalCount;
+            this.maxValue = maxValue;
+        }
+
+        /**
+         * 创建空快照
+         */
+        public static Snapshot empty() {
+            return new Snapshot(new long[BUCKET_COUNT], 0, 0);
+        }
+
+        /**
+         * 合并一个直方图的当前计数
+         */
+        public Snapshot merge(LatencyHistogram histogram) {
+            totalCount += histogram.addTo(counts);
+            maxValue = Math.max(maxValue, histogram.getMaxValue());
+            return this;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * 计算分位数
+         * @param quantile 分位点，取值 0~1
+         * @return 分位数值，无数据时返回0
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * totalCount));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return Math.min(valueAt(i), maxValue);
+                }
+            }
+            return maxValue;
+        }
+    }
+}
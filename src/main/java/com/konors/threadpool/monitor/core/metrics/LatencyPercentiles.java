@@ -0,0 +1,48 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import lombok.Data;
+
+/**
+ * 延迟分位数统计
+ * 由直方图快照计算得到，单位为毫秒
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Data
+public class LatencyPercentiles {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** 样本数量 */
+    private long count;
+
+    /** 50分位 */
+    private double p50Millis;
+
+    /** 95分位 */
+    private double p95Millis;
+
+    /** 99分位 */
+    private double p99Millis;
+
+    /** 99.9分位 */
+    private double p999Millis;
+
+    /** 最大值 */
+    private double maxMillis;
+
+    /**
+     * 从直方图快照（纳秒）计算分位数
+     */
+    public static LatencyPercentiles from(LatencyHistogram.Snapshot snapshot) {
+        LatencyPercentiles percentiles = new LatencyPercentiles();
+        percentiles.setCount(snapshot.getTotalCount());
+        percentiles.setP50Millis(snapshot.getValueAtQuantile(0.50) / NANOS_PER_MILLI);
+        percentiles.setP95Millis(snapshot.getValueAtQuantile(0.95) / NANOS_PER_MILLI);
+        percentiles.setP99Millis(snapshot.getValueAtQuantile(0.99) / NANOS_PER_MILLI);
+        percentiles.setP999Millis(snapshot.getValueAtQuantile(0.999) / NANOS_PER_MILLI);
+        percentiles.setMaxMillis(snapshot.getMaxValue() / NANOS_PER_MILLI);
+        return percentiles;
+    }
+}
@@ -0,0 +1,75 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 线程池历史指标只读快照
+ * 各数组按时间升序排列，长度均为 {@link #getSize()}
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class MetricsHistory {
+
+    private final String poolName;
+    private final int size;
+    private final long[] timestamps;
+    private final int[] activeCounts;
+    private final int[] poolSizes;
+    private final int[] queueSizes;
+    private final long[] completedCounts;
+    private final long[] rejectedCounts;
+
+    MetricsHistory(String poolName, int size, long[] timestamps, int[] activeCounts, int[] poolSizes,
+                   int[] queueSizes, long[] completedCounts, long[] rejectedCounts) {
+        this.poolName = poolName;
+        this.size = size;
+        this.timestamps = trim(timestamps, size);
+        this.activeCounts = trim(activeCounts, size);
+        this.poolSizes = trim(poolSizes, size);
+        this.queueSizes = trim(queueSizes, size);
+        this.completedCounts = trim(completedCounts, size);
+        this.rejectedCounts = trim(rejectedCounts, size);
+    }
+
+    private static long[] trim(long[] values, int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
+    }
+
+    private static int[] trim(int[] values, int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** 采样时间（纪元纳秒） */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public int[] getActiveCounts() {
+        return activeCounts;
+    }
+
+    public int[] getPoolSizes() {
+        return poolSizes;
+    }
+
+    public int[] getQueueSizes() {
+        return queueSizes;
+    }
+
+    public long[] getCompletedCounts() {
+        return completedCounts;
+    }
+
+    public long[] getRejectedCounts() {
+        return rejectedCounts;
+    }
+}
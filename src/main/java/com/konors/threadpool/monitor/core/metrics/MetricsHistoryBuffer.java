@@ -0,0 +1,136 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 单个线程池的历史指标环形缓冲区
+ * 以列式原始类型数组保存样本（时间戳、活跃线程、线程数、队列长度、完成数、拒绝数），
+ * 写入不产生对象分配，容量达到上限后覆盖最旧样本，读取时过滤超出保留时间的样本。
+ * <p>
+ * 每个槽位带有序号，写入者先写数据再发布序号，读取者通过前后两次比对序号丢弃被并发覆盖的样本，
+ * 与 {@link java.util.concurrent.locks.StampedLock} 的乐观读相同，用内存屏障保证数据读写不越过序号。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class MetricsHistoryBuffer {
+
+    private static final long BASE_EPOCH_NANOS = System.currentTimeMillis() * 1_000_000L;
+    private static final long BASE_NANO_TIME = System.nanoTime();
+
+    private final int capacity;
+    private final long retentionNanos;
+
+    private final long[] timestamps;
+    private final int[] activeCounts;
+    private final int[] poolSizes;
+    private final int[] queueSizes;
+    private final long[] completedCounts;
+    private final long[] rejectedCounts;
+    private final AtomicLongArray sequences;
+    private final AtomicLong writeIndex = new AtomicLong();
+
+    public MetricsHistoryBuffer(int capacity, long retentionNanos) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.retentionNanos = retentionNanos > 0 ? retentionNanos : Long.MAX_VALUE;
+        this.timestamps = new long[capacity];
+        this.activeCounts = new int[capacity];
+        this.poolSizes = new int[capacity];
+        this.queueSizes = new int[capacity];
+        this.completedCounts = new long[capacity];
+        this.rejectedCounts = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 当前时间（纪元纳秒）
+     * 基于 nanoTime 推算，避免每次采样创建 Instant
+     */
+    public static long epochNanos() {
+        return BASE_EPOCH_NANOS + (System.nanoTime() - BASE_NANO_TIME);
+    }
+
+    /**
+     * 追加一个样本
+     */
+    public void append(long epochNanos, int activeCount, int poolSize, int queueSize,
+                       long completedCount, long rejectedCount) {
+        long index = writeIndex.getAndIncrement();
+        int slot = (int) (index % capacity);
+        // 标记槽位正在写入
+        sequences.set(slot, -1);
+        // 数据写入不能重排到标记之前
+        VarHandle.storeStoreFence();
+        timestamps[slot] = epochNanos;
+        activeCounts[slot] = activeCount;
+        poolSizes[slot] = poolSize;
+        queueSizes[slot] = queueSize;
+        completedCounts[slot] = completedCount;
+        rejectedCounts[slot] = rejectedCount;
+        sequences.set(slot, index + 1);
+    }
+
+    /**
+     * 读取指定时间之后且未超出保留时间的样本
+     * @param sinceEpochNanos 起始时间（纪元纳秒），小于等于0表示不限制
+     */
+    public MetricsHistory snapshot(String poolName, long sinceEpochNanos) {
+        long end = writeIndex.get();
+        long start = Math.max(0, end - capacity);
+        long cutoff = Math.max(sinceEpochNanos, retentionNanos == Long.MAX_VALUE ? 0 : epochNanos() - retentionNanos);
+
+        int max = (int) (end - start);
+        long[] ts = new long[max];
+        int[] active = new int[max];
+        int[] pool = new int[max];
+        int[] queue = new int[max];
+        long[] completed = new long[max];
+        long[] rejected = new long[max];
+
+        int count = 0;
+        for (long index = start; index < end; index++) {
+            int slot = (int) (index % capacity);
+            if (sequences.get(slot) != index + 1) {
+                continue;
+            }
+            long t = timestamps[slot];
+            int a = activeCounts[slot];
+            int p = poolSizes[slot];
+            int q = queueSizes[slot];
+            long c = completedCounts[slot];
+            long r = rejectedCounts[slot];
+            // 数据读取不能重排到校验之后；读取期间被覆盖则丢弃
+            VarHandle.acquireFence();
+            if (sequences.get(slot) != index + 1 || t < cutoff) {
+                continue;
+            }
+            ts[count] = t;
+            active[count] = a;
+            pool[count] = p;
+            queue[count] = q;
+            completed[count] = c;
+            rejected[count] = r;
+            count++;
+        }
+        return new MetricsHistory(poolName, count, ts, active, pool, queue, completed, rejected);
+    }
+
+    /**
+     * 获取缓冲区容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 获取累计写入的样本数
+     */
+    public long getTotalAppended() {
+        return writeIndex.get();
+    }
+}
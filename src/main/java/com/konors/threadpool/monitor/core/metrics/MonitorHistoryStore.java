@@ -0,0 +1,111 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 监控历史数据存储
+ * 为每个已注册线程池维护一个 {@link MetricsHistoryBuffer}，
+ * 容量和保留时间分别对应 maxHistoryRecords 和 historyRetentionPeriod；
+ * 同时维护线程池的 {@link PoolStateSlots}，供有状态策略跨周期保存状态，注销时一并清除；
+ * 每次采样同时增量更新线程池所属分组的 {@link GroupRollupStore}
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class MonitorHistoryStore {
+
+    private final Map<String, MetricsHistoryBuffer> buffers = new ConcurrentHashMap<>();
+    private final Map<String, PoolStateSlots> states = new ConcurrentHashMap<>();
+    private final GroupRollupStore rollups = new GroupRollupStore();
+    private final int maxRecords;
+    private final long retentionNanos;
+
+    public MonitorHistoryStore(int maxRecords, Duration retentionPeriod) {
+        this.maxRecords = maxRecords;
+        this.retentionNanos = retentionPeriod != null ? retentionPeriod.toNanos() : 0;
+    }
+
+    /**
+     * 为线程池创建历史缓冲区
+     */
+    public void register(String poolName) {
+        register(poolName, Collections.emptyList());
+    }
+
+    /**
+     * 为线程池创建历史缓冲区，并加入汇总分组
+     * @param groups 分组名称，见 {@link GroupRollupStore#typeGroup} 和 {@link GroupRollupStore#tagGroup}
+     */
+    public void register(String poolName, Collection<String> groups) {
+        buffers.computeIfAbsent(poolName, k -> new MetricsHistoryBuffer(maxRecords, retentionNanos));
+        states.computeIfAbsent(poolName, k -> new PoolStateSlots());
+        rollups.register(poolName, groups);
+    }
+
+    /**
+     * 移除线程池的历史缓冲区
+     */
+    public void unregister(String poolName) {
+        buffers.remove(poolName);
+        states.remove(poolName);
+        rollups.unregister(poolName);
+    }
+
+    /**
+     * 记录一次状态采样
+     */
+    public void record(String poolName, ThreadPoolStatus status) {
+        MetricsHistoryBuffer buffer = buffers.get(poolName);
+        if (buffer == null || status == null) {
+            return;
+        }
+        buffer.append(MetricsHistoryBuffer.epochNanos(),
+                status.getActiveCount(),
+                status.getPoolSize(),
+                status.getQueueSize(),
+                status.getCompletedTaskCount(),
+                status.getRejectedTaskCount());
+        rollups.record(poolName, status);
+    }
+
+    /**
+     * 获取分组汇总
+     */
+    public GroupRollupStore getRollups() {
+        return rollups;
+    }
+
+    /**
+     * 获取线程池的历史缓冲区
+     */
+    public Optional<MetricsHistoryBuffer> getBuffer(String poolName) {
+        return Optional.ofNullable(buffers.get(poolName));
+    }
+
+    /**
+     * 获取线程池的状态槽，未注册时返回 null（每次策略评估都会调用，不包装 Optional）
+     */
+    public PoolStateSlots getStateSlots(String poolName) {
+        return states.get(poolName);
+    }
+
+    /**
+     * 获取最近一段时间的历史数据
+     * @param range 时间范围，为空表示保留时间内的全部数据
+     */
+    public Optional<MetricsHistory> getHistory(String poolName, Duration range) {
+        MetricsHistoryBuffer buffer = buffers.get(poolName);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        long since = range != null ? MetricsHistoryBuffer.epochNanos() - range.toNanos() : 0;
+        return Optional.of(buffer.snapshot(poolName, since));
+    }
+}
@@ -0,0 +1,55 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 线程池状态槽的类型化键
+ * 有状态策略以静态常量声明，每个键分配一个全局下标，线程池的状态按下标存放，读取时无需哈希查找。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class PoolStateKey<T> {
+
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final String name;
+    private final int index;
+    private final Supplier<? extends T> initializer;
+
+    private PoolStateKey(String name, Supplier<? extends T> initializer) {
+        this.name = name;
+        this.index = NEXT_INDEX.getAndIncrement();
+        this.initializer = initializer;
+    }
+
+    /**
+     * 声明状态槽
+     * @param name 名称，仅用于诊断
+     * @param initializer 线程池首次访问该状态时调用
+     */
+    public static <T> PoolStateKey<T> of(String name, Supplier<? extends T> initializer) {
+        if (initializer == null) {
+            throw new IllegalArgumentException("Pool state initializer cannot be null: " + name);
+        }
+        return new PoolStateKey<>(name, initializer);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int index() {
+        return index;
+    }
+
+    T create() {
+        return initializer.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStateKey{" + name + "#" + index + "}";
+    }
+}
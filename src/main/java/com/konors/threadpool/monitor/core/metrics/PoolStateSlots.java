@@ -0,0 +1,75 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单个线程池的状态槽
+ * 按 {@link PoolStateKey} 的下标存放各策略跨周期保留的状态，生命周期与线程池的历史缓冲区一致。
+ * 读取已存在的状态不加锁，首次创建和扩容在锁内完成。
+ * 监控器持有评估锁执行该线程池的检查，超时未完成的检查与后续周期、按需检查不会并发修改同一份状态。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class PoolStateSlots {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private final ReentrantLock evaluationLock = new ReentrantLock();
+
+    /**
+     * 线程池的评估锁
+     */
+    public ReentrantLock getEvaluationLock() {
+        return evaluationLock;
+    }
+
+    /**
+     * 获取状态，不存在时用键的初始化函数创建
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(PoolStateKey<T> key) {
+        AtomicReferenceArray<Object> current = slots;
+        int index = key.index();
+        if (index < current.length()) {
+            Object value = current.get(index);
+            if (value != null) {
+                return (T) value;
+            }
+        }
+        return create(key);
+    }
+
+    /**
+     * 丢弃状态，下次访问时重新创建
+     */
+    public synchronized void clear(PoolStateKey<?> key) {
+        AtomicReferenceArray<Object> current = slots;
+        if (key.index() < current.length()) {
+            current.set(key.index(), null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T create(PoolStateKey<T> key) {
+        int index = key.index();
+        AtomicReferenceArray<Object> current = slots;
+        if (index >= current.length()) {
+            AtomicReferenceArray<Object> grown =
+                    new AtomicReferenceArray<>(Math.max(index + 1, current.length() * 2));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            slots = grown;
+            current = grown;
+        }
+        Object value = current.get(index);
+        if (value == null) {
+            value = key.create();
+            current.set(index, value);
+        }
+        return (T) value;
+    }
+}
@@ -0,0 +1,82 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 滑动窗口计数器
+ * 由固定数量的时间桶组成环形结构，每个桶用一个 long 同时保存时间桶编号（高32位）和计数（低32位），
+ * 写入时一次 CAS 完成过期桶的重置和计数，不加锁也不会在桶轮转时丢失计数。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final AtomicLongArray buckets;
+    private final long bucketNanos;
+    private final LongAdder total = new LongAdder();
+
+    public SlidingWindowCounter(Duration window, int bucketCount) {
+        if (bucketCount <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Invalid counter window: " + window + ", buckets: " + bucketCount);
+        }
+        this.buckets = new AtomicLongArray(bucketCount);
+        this.bucketNanos = Math.max(1, window.toNanos() / bucketCount);
+    }
+
+    /**
+     * 计数加一
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     */
+    public void increment(long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        long tag = epoch & COUNT_MASK;
+        while (true) {
+            long current = buckets.get(index);
+            long next = (current >>> 32) == tag && current != 0
+                    ? current + 1
+                    : (tag << 32) | 1;
+            if (buckets.compareAndSet(index, current, next)) {
+                break;
+            }
+        }
+        total.increment();
+    }
+
+    /**
+     * 统计最近一段时间内的计数
+     * @param window 统计窗口，超过计数器窗口时按计数器窗口计算
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     */
+    public long sum(Duration window, long nowNanos) {
+        long currentEpoch = Math.floorDiv(nowNanos, bucketNanos);
+        long span = Math.min(buckets.length(), Math.max(1, (window.toNanos() + bucketNanos - 1) / bucketNanos));
+        long sum = 0;
+        for (long epoch = currentEpoch - span + 1; epoch <= currentEpoch; epoch++) {
+            long value = buckets.get((int) Math.floorMod(epoch, (long) buckets.length()));
+            if (value != 0 && (value >>> 32) == (epoch & COUNT_MASK)) {
+                sum += value & COUNT_MASK;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 累计总数
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * 计数器可统计的最大窗口
+     */
+    public Duration getWindow() {
+        return Duration.ofNanos(bucketNanos * buckets.length());
+    }
+}
@@ -0,0 +1,54 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 所有线程池状态的只读快照
+ * 由监控周期发布，每次发布纪元号递增；读取快照不会访问线程池，也不会获取执行器的锁。
+ * 线程池按优先级从高到低排列，状态为各线程池最近一次采集的结果。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class StatusSnapshot {
+
+    private static final StatusSnapshot EMPTY = new StatusSnapshot(0, null, Collections.emptyMap());
+
+    private final long epoch;
+    private final LocalDateTime publishTime;
+    private final Map<String, ThreadPoolStatus> statuses;
+
+    public StatusSnapshot(long epoch, LocalDateTime publishTime, Map<String, ThreadPoolStatus> statuses) {
+        this.epoch = epoch;
+        this.publishTime = publishTime;
+        this.statuses = Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * 尚未发布任何快照时的空快照，纪元号为0
+     */
+    public static StatusSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public LocalDateTime getPublishTime() {
+        return publishTime;
+    }
+
+    public Map<String, ThreadPoolStatus> getStatuses() {
+        return statuses;
+    }
+
+    public Optional<ThreadPoolStatus> getStatus(String poolName) {
+        return Optional.ofNullable(statuses.get(poolName));
+    }
+}
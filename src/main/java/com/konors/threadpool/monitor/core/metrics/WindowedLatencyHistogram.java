@@ -0,0 +1,106 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 滑动窗口直方图
+ * 由固定数量的时间槽组成环形结构，每个槽是一个 {@link LatencyHistogram}。
+ * 写入时按当前时间定位槽，槽过期后由首个写入者惰性清空；读取时合并窗口内所有有效槽。
+ * <p>
+ * 槽轮转与并发写入之间不加锁，轮转瞬间可能丢失极少量样本，对分位数统计影响可以忽略。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class WindowedLatencyHistogram {
+
+    /** 未使用槽的纪元号，{@link System#nanoTime()} 可能为负数，不能用 -1 表示 */
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final LatencyHistogram[] slots;
+    private final AtomicLongArray slotEpochs;
+    private final long slotNanos;
+
+    public WindowedLatencyHistogram(Duration window, int slotCount) {
+        if (slotCount <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Invalid histogram window: " + window + ", slots: " + slotCount);
+        }
+        this.slots = new LatencyHistogram[slotCount];
+        this.slotEpochs = new AtomicLongArray(slotCount);
+        this.slotNanos = Math.max(1, window.toNanos() / slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new LatencyHistogram();
+            slotEpochs.set(i, UNUSED);
+        }
+    }
+
+    /**
+     * 记录一个数值
+     * @param value 数值（纳秒）
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     */
+    public void record(long value, long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, slotNanos);
+        int index = (int) Math.floorMod(epoch, (long) slots.length);
+        long slotEpoch = slotEpochs.get(index);
+        if (slotEpoch != epoch && slotEpochs.compareAndSet(index, slotEpoch, epoch)) {
+            slots[index].reset();
+        }
+        slots[index].record(value);
+    }
+
+    /**
+     * 获取窗口内的合并快照
+     */
+    public LatencyHistogram.Snapshot snapshot() {
+        return snapshot(System.nanoTime());
+    }
+
+    /**
+     * 获取截至指定时间的窗口合并快照
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     */
+    public LatencyHistogram.Snapshot snapshot(long nowNanos) {
+        return snapshot(slots.length, nowNanos);
+    }
+
+    /**
+     * 获取最近一段时间的合并快照
+     * 时长按槽向上取整后再加上未写满的当前槽，至少两个槽，最多为整个窗口；
+     * 否则统计时长等于一个槽时只能读到当前槽，刚跨过槽边界时几乎没有样本
+     * @param window 统计时长
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     */
+    public LatencyHistogram.Snapshot snapshot(Duration window, long nowNanos) {
+        long fullSlots = Math.max(1, (window.toNanos() + slotNanos - 1) / slotNanos);
+        long slotCount = Math.min(slots.length, fullSlots + 1);
+        return snapshot((int) slotCount, nowNanos);
+    }
+
+    private LatencyHistogram.Snapshot snapshot(int slotCount, long nowNanos) {
+        long currentEpoch = Math.floorDiv(nowNanos, slotNanos);
+        LatencyHistogram.Snapshot snapshot = LatencyHistogram.Snapshot.empty();
+        for (int i = 0; i < slots.length; i++) {
+            long epoch = slotEpochs.get(i);
+            if (epoch != UNUSED && currentEpoch - epoch < slotCount) {
+                snapshot.merge(slots[i]);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 获取窗口内的分位数统计
+     */
+    public LatencyPercentiles percentiles() {
+        return LatencyPercentiles.from(snapshot());
+    }
+
+    /**
+     * 获取最近一段时间的分位数统计，见 {@link #snapshot(Duration, long)}
+     */
+    public LatencyPercentiles percentiles(Duration window) {
+        return LatencyPercentiles.from(snapshot(window, System.nanoTime()));
+    }
+}
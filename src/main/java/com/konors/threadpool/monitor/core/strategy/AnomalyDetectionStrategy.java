@@ -0,0 +1,249 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 线程池异常检测策略
+ * 为每个线程池的每个指标维护按时间衰减的 EWMA 均值和方差，学习各自的基线，
+ * 当前值偏离基线的 z-score 超过阈值时告警，不依赖固定阈值。
+ * 衰减按半衰期计算，基线会跟随缓慢的日内变化；预热样本数不足时只学习不告警。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class AnomalyDetectionStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "AnomalyDetection";
+    private static final int DEFAULT_PRIORITY = 65;
+
+    /** 线程池跨周期状态，保存在监控上下文中，线程池注销时一并移除 */
+    private static final PoolStateKey<BaselineState> BASELINE_STATE = PoolStateKey.of("anomaly-detection.baseline", BaselineState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    /** 每个指标的均值、标准差字段，按 Metric 序号索引 */
+    private static final int[] MEAN_FIELDS = new int[Metric.VALUES.length];
+    private static final int[] STD_DEV_FIELDS = new int[Metric.VALUES.length];
+    static {
+        for (Metric metric : Metric.VALUES) {
+            MEAN_FIELDS[metric.ordinal()] = SCHEMA.doubleField(metric.key + "Mean");
+            STD_DEV_FIELDS[metric.ordinal()] = SCHEMA.doubleField(metric.key + "StdDev");
+        }
+    }
+    private static final int SAMPLES = SCHEMA.counterField("samples");
+    private static final int WARMUP_SAMPLES = SCHEMA.longField("warmupSamples");
+    private static final int ANOMALY_METRIC = SCHEMA.textField("anomalyMetric");
+    private static final int ANOMALY_VALUE = SCHEMA.doubleField("anomalyValue");
+    private static final int Z_SCORE = SCHEMA.doubleField("zScore");
+    private static final int BASELINE_VALUE = SCHEMA.doubleField("baselineValue");
+
+    private static final ResultSlot.MessageFormatter UNAVAILABLE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' status unavailable", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter BASELINE_STARTED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' anomaly baseline started", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter NO_TIME_ELAPSED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' anomaly check skipped: no time elapsed", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter WARMING_UP_MESSAGE = slot -> String.format(
+            "Thread pool '%s' anomaly baseline warming up (%d/%d samples)",
+            slot.getPoolName(), slot.getLong(SAMPLES), slot.getLong(WARMUP_SAMPLES));
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' metrics within learned baseline", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter ANOMALY_MESSAGE = slot -> {
+        double z = slot.getDouble(Z_SCORE);
+        return String.format("Thread pool '%s' %s is anomalous: %.2f is %.1f sigma %s baseline %.2f",
+                slot.getPoolName(), slot.getText(ANOMALY_METRIC), slot.getDouble(ANOMALY_VALUE), Math.abs(z),
+                z > 0 ? "above" : "below", slot.getDouble(BASELINE_VALUE));
+    };
+
+    private final double warningZScore;
+    private final double criticalZScore;
+    private final long halfLifeNanos;
+    private final int warmupSamples;
+    private final boolean detectDrops;
+    private final long checkInterval;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public AnomalyDetectionStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.warningZScore = config.getParameter("warningZScore", 3.0);
+        this.criticalZScore = Math.max(warningZScore, config.getParameter("criticalZScore", 5.0));
+        this.halfLifeNanos = Math.max(1, config.getParameter("halfLife", 600000L)) * 1_000_000L;
+        this.warmupSamples = Math.max(2, config.getParameter("warmupSamples", 30));
+        this.detectDrops = config.getParameter("detectDrops", false);
+        this.checkInterval = config.getParameter("checkInterval", 0L);
+
+        log.info("AnomalyDetectionStrategy initialized with warningZ={}, criticalZ={}, halfLife={}ms, warmup={}",
+                warningZScore, criticalZScore, halfLifeNanos / 1_000_000L, warmupSamples);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Anomaly Detection Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        ResultSlot slot = slots.acquire(poolName, context);
+        if (status == null) {
+            return slot.reset(false, AlertLevel.INFO, UNAVAILABLE_MESSAGE, "No action required");
+        }
+
+        long now = System.nanoTime();
+        BaselineState state = context.getPoolState(poolName, BASELINE_STATE);
+        if (state.samples == 0) {
+            state.lastNanos = now;
+            state.lastTaskCount = status.getTaskCount();
+            state.samples = 1;
+            return slot.reset(false, AlertLevel.INFO, BASELINE_STARTED_MESSAGE, "No action required");
+        }
+
+        long elapsed = now - state.lastNanos;
+        if (elapsed <= 0) {
+            return slot.reset(false, AlertLevel.INFO, NO_TIME_ELAPSED_MESSAGE, "No action required");
+        }
+        double arrivalRate = Math.max(0, status.getTaskCount() - state.lastTaskCount) * 1_000_000_000.0 / elapsed;
+        state.lastTaskCount = status.getTaskCount();
+        state.lastNanos = now;
+
+        // 按时间衰减，采样间隔变化时基线的记忆长度保持不变
+        double alpha = 1 - Math.pow(0.5, (double) elapsed / halfLifeNanos);
+        boolean seeding = state.samples == 1;
+        boolean warmedUp = state.samples >= warmupSamples;
+        state.samples++;
+
+        Metric worstMetric = null;
+        double worstZ = 0;
+        double worstValue = 0;
+        double worstBaseline = 0;
+        for (Metric metric : Metric.VALUES) {
+            double value = metric.valueOf(status, arrivalRate);
+            double baseline = state.mean[metric.ordinal()];
+            double z = seeding
+                    ? state.seed(metric.ordinal(), value)
+                    : state.update(metric.ordinal(), value, alpha, metric.minStdDev);
+            double score = detectDrops ? Math.abs(z) : z;
+            if (warmedUp && score > Math.abs(worstZ)) {
+                worstMetric = metric;
+                worstZ = z;
+                worstValue = value;
+                worstBaseline = baseline;
+            }
+        }
+
+        boolean anomalous = warmedUp && worstMetric != null && Math.abs(worstZ) >= warningZScore;
+        if (!warmedUp) {
+            slot.reset(false, AlertLevel.INFO, WARMING_UP_MESSAGE, "No action required")
+                    .putLong(WARMUP_SAMPLES, warmupSamples);
+        } else if (!anomalous) {
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
+        } else {
+            AlertLevel level = Math.abs(worstZ) >= criticalZScore ? AlertLevel.ERROR : AlertLevel.WARN;
+            slot.reset(true, level, ANOMALY_MESSAGE, "Compare with recent deployments and upstream traffic")
+                    .putText(ANOMALY_METRIC, worstMetric.key)
+                    .putDouble(ANOMALY_VALUE, worstValue)
+                    .putDouble(Z_SCORE, worstZ)
+                    .putDouble(BASELINE_VALUE, worstBaseline);
+        }
+        for (Metric metric : Metric.VALUES) {
+            slot.putDouble(MEAN_FIELDS[metric.ordinal()], state.mean[metric.ordinal()])
+                    .putDouble(STD_DEV_FIELDS[metric.ordinal()], Math.sqrt(state.variance[metric.ordinal()]));
+        }
+        return slot.putLong(SAMPLES, state.samples);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    /**
+     * 检测的指标，minStdDev 为标准差下限，避免空闲线程池方差接近 0 时偶发任务被判为异常
+     */
+    private enum Metric {
+        UTILIZATION("utilization", 0.05) {
+            @Override
+            double valueOf(ThreadPoolStatus status, double arrivalRate) {
+                return status.getUtilization();
+            }
+        },
+        QUEUE_SIZE("queueSize", 1.0) {
+            @Override
+            double valueOf(ThreadPoolStatus status, double arrivalRate) {
+                return status.getQueueSize();
+            }
+        },
+        ARRIVAL_RATE("arrivalRate", 1.0) {
+            @Override
+            double valueOf(ThreadPoolStatus status, double arrivalRate) {
+                return arrivalRate;
+            }
+        };
+
+        private static final Metric[] VALUES = values();
+
+        private final String key;
+        private final double minStdDev;
+
+        Metric(String key, double minStdDev) {
+            this.key = key;
+            this.minStdDev = minStdDev;
+        }
+
+        abstract double valueOf(ThreadPoolStatus status, double arrivalRate);
+    }
+
+    /**
+     * 单个线程池的基线状态，每个指标占数组的一个槽位，更新过程不分配对象
+     */
+    private static class BaselineState {
+        private final double[] mean = new double[Metric.VALUES.length];
+        private final double[] variance = new double[Metric.VALUES.length];
+        private long lastNanos;
+        private long lastTaskCount;
+        private int samples;
+
+        double seed(int index, double value) {
+            mean[index] = value;
+            variance[index] = 0;
+            return 0;
+        }
+
+        /**
+         * 先用旧基线计算 z-score，再并入当前值
+         */
+        double update(int index, double value, double alpha, double minStdDev) {
+            double diff = value - mean[index];
+            double stdDev = Math.max(minStdDev, Math.sqrt(variance[index]));
+            double z = diff / stdDev;
+
+            double increment = alpha * diff;
+            mean[index] += increment;
+            variance[index] = (1 - alpha) * (variance[index] + diff * increment);
+            return z;
+        }
+    }
+}
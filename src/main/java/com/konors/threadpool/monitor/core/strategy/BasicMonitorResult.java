@@ -0,0 +1,64 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 通用监控结果实现
+ * 供内置策略共享使用，扩展数据以只读视图返回
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public class BasicMonitorResult implements MonitorResult {
+
+    private final boolean needsAlert;
+    private final AlertLevel alertLevel;
+    private final String message;
+    private final String suggestedAction;
+    private final Map<String, Object> extendedData;
+
+    public BasicMonitorResult(boolean needsAlert, AlertLevel alertLevel, String message,
+                              String suggestedAction, Map<String, Object> extendedData) {
+        this.needsAlert = needsAlert;
+        this.alertLevel = alertLevel;
+        this.message = message;
+        this.suggestedAction = suggestedAction;
+        this.extendedData = extendedData != null ? extendedData : new HashMap<>();
+    }
+
+    @Override
+    public boolean shouldAlert() {
+        return needsAlert;
+    }
+
+    @Override
+    public AlertLevel getAlertLevel() {
+        return alertLevel;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getSuggestedAction() {
+        return suggestedAction;
+    }
+
+    @Override
+    public Map<String, Object> getExtendedData() {
+        return Collections.unmodifiableMap(extendedData);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MonitorResult{needsAlert=%s, level=%s, message='%s'}",
+                needsAlert, alertLevel, message);
+    }
+}
@@ -0,0 +1,148 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.metrics.GroupAggregate;
+import com.konors.threadpool.monitor.core.metrics.GroupRollupStore;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * 分组汇总监控策略
+ * 按线程池所属分组（业务标签值、线程池类型）的汇总排队任务数告警，而不是逐个线程池告警。
+ * 每个分组只由组内名称最小的线程池上报，同一分组不会因成员众多而重复告警；
+ * 一个线程池负责多个分组时上报其中最严重的分组。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class GroupRollupStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "GroupRollup";
+    private static final int DEFAULT_PRIORITY = 60;
+
+    /** 线程池所属分组，注册期间业务标签不变，首次检查时计算一次 */
+    private static final PoolStateKey<GroupState> GROUP_STATE = PoolStateKey.of("group-rollup.groups", GroupState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int QUEUED_TASKS = SCHEMA.longField("groupQueuedTasks");
+    private static final int ACTIVE_THREADS = SCHEMA.longField("groupActiveThreads");
+    private static final int POOL_COUNT = SCHEMA.longField("groupPoolCount");
+    private static final int MAX_UTILIZATION = SCHEMA.doubleField("groupMaxUtilization");
+    private static final int GROUP = SCHEMA.textField("group");
+    private static final int WARNING_THRESHOLD = SCHEMA.longField("queueWarningThreshold");
+    private static final int CRITICAL_THRESHOLD = SCHEMA.longField("queueCriticalThreshold");
+
+    private static final ResultSlot.MessageFormatter NOT_REPORTING_MESSAGE = slot -> String.format(
+            "Thread pool '%s' does not report any group", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter CRITICAL_MESSAGE = slot -> String.format(
+            "Group '%s' has %d queued tasks across %d pools, exceeding critical threshold %d",
+            slot.getText(GROUP), slot.getLong(QUEUED_TASKS), slot.getLong(POOL_COUNT), slot.getLong(CRITICAL_THRESHOLD));
+    private static final ResultSlot.MessageFormatter WARNING_MESSAGE = slot -> String.format(
+            "Group '%s' has %d queued tasks across %d pools, exceeding warning threshold %d",
+            slot.getText(GROUP), slot.getLong(QUEUED_TASKS), slot.getLong(POOL_COUNT), slot.getLong(WARNING_THRESHOLD));
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Group '%s' has %d queued tasks across %d pools",
+            slot.getText(GROUP), slot.getLong(QUEUED_TASKS), slot.getLong(POOL_COUNT));
+
+    private final long queueWarningThreshold;
+    private final long queueCriticalThreshold;
+    private final String groupPrefix;
+    private final long checkInterval;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public GroupRollupStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.queueWarningThreshold = config.getParameter("queueWarningThreshold", 1000L);
+        this.queueCriticalThreshold = Math.max(queueWarningThreshold,
+                config.getParameter("queueCriticalThreshold", 5000L));
+        this.groupPrefix = config.getParameter("groupPrefix", "tag:");
+        this.checkInterval = config.getParameter("checkInterval", 0L);
+
+        log.info("GroupRollupStrategy initialized with queueWarning={}, queueCritical={}, groupPrefix='{}'",
+                queueWarningThreshold, queueCriticalThreshold, groupPrefix);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Group Rollup Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        ResultSlot slot = slots.acquire(poolName, context);
+        GroupState state = context.getPoolState(poolName, GROUP_STATE);
+        if (state.groups == null) {
+            state.groups = GroupRollupStore.groupsOf(threadPool).stream()
+                    .filter(group -> group.startsWith(groupPrefix))
+                    .toArray(String[]::new);
+        }
+
+        // 只看本线程池负责上报的分组，取排队任务最多的一个
+        GroupAggregate worst = null;
+        for (String group : state.groups) {
+            Optional<GroupAggregate> aggregate = context.getGroupAggregate(group);
+            if (aggregate.isPresent() && poolName.equals(aggregate.get().getReportingPool())
+                    && (worst == null || aggregate.get().getQueuedTasks() > worst.getQueuedTasks())) {
+                worst = aggregate.get();
+            }
+        }
+        if (worst == null) {
+            return slot.reset(false, AlertLevel.INFO, NOT_REPORTING_MESSAGE, "No action required");
+        }
+
+        long queued = worst.getQueuedTasks();
+        if (queued >= queueCriticalThreshold) {
+            slot.reset(true, AlertLevel.ERROR, CRITICAL_MESSAGE,
+                    "Shed load or add capacity for the whole group; single pools may each look healthy");
+        } else if (queued >= queueWarningThreshold) {
+            slot.reset(true, AlertLevel.WARN, WARNING_MESSAGE,
+                    "Check the shared dependency of the group and its upstream traffic");
+        } else {
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
+        }
+        return slot.putText(GROUP, worst.getGroup())
+                .putLong(QUEUED_TASKS, queued)
+                .putLong(ACTIVE_THREADS, worst.getActiveThreads())
+                .putLong(POOL_COUNT, worst.getPoolCount())
+                .putDouble(MAX_UTILIZATION, worst.getMaxUtilization())
+                .putLong(WARNING_THRESHOLD, queueWarningThreshold)
+                .putLong(CRITICAL_THRESHOLD, queueCriticalThreshold);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    /**
+     * 单个线程池的分组名称
+     */
+    private static class GroupState {
+        private String[] groups;
+    }
+}
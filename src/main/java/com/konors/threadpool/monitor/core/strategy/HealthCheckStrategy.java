@@ -0,0 +1,258 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.HealthProbeTask;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池健康检查策略
+ * 检测吞吐停滞（队列中有可执行的任务但已完成任务数长时间不变，延迟队列中未到期的任务不算），
+ * 开启深度检查时定期提交空探测任务，测量从提交到开始执行的耗时。
+ * 同一线程池同时最多只有一个探测任务，且两次探测间隔不小于 probeInterval。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class HealthCheckStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "HealthCheck";
+    private static final int DEFAULT_PRIORITY = 70;
+
+    /** 线程池跨周期状态，保存在监控上下文中，线程池注销时一并移除 */
+    private static final PoolStateKey<HealthState> HEALTH_STATE = PoolStateKey.of("health-check.health", HealthState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int STALLED_MILLIS = SCHEMA.longField("stalledMillis");
+    private static final int PROBE_LATENCY_MILLIS = SCHEMA.doubleField("probeLatencyMillis");
+    private static final int PROBE_PENDING_MILLIS = SCHEMA.longField("probePendingMillis");
+    private static final int HEALTHY = SCHEMA.booleanField("healthy");
+    private static final int QUEUE_SIZE = SCHEMA.longField("queueSize");
+    private static final int ACTIVE_COUNT = SCHEMA.longField("activeCount");
+    private static final int TIMEOUT_THRESHOLD_MILLIS = SCHEMA.longField("timeoutThresholdMillis");
+
+    private static final ResultSlot.MessageFormatter SHUTDOWN_MESSAGE = slot -> String.format(
+            "Thread pool '%s' is shut down", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter UNAVAILABLE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' status unavailable", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter STALLED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' throughput stalled for %dms with %d queued tasks",
+            slot.getPoolName(), slot.getLong(STALLED_MILLIS), slot.getLong(QUEUE_SIZE));
+    private static final ResultSlot.MessageFormatter PROBE_TIMEOUT_MESSAGE = slot -> String.format(
+            "Thread pool '%s' health probe has not started within %dms",
+            slot.getPoolName(), slot.getLong(TIMEOUT_THRESHOLD_MILLIS));
+    private static final ResultSlot.MessageFormatter PROBE_SLOW_MESSAGE = slot -> String.format(
+            "Thread pool '%s' health probe was slow", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter PROBE_REJECTED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' health probe was rejected", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter HEALTHY_MESSAGE = slot -> String.format(
+            "Thread pool '%s' is healthy", slot.getPoolName());
+
+    private final long checkInterval;
+    private final long timeoutThresholdNanos;
+    private final boolean enableDeepCheck;
+    private final long probeIntervalNanos;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public HealthCheckStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.checkInterval = config.getParameter("checkInterval", 30000L);
+        this.timeoutThresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getParameter("timeoutThreshold", 5000L));
+        this.enableDeepCheck = config.getParameter("enableDeepCheck", true);
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(checkInterval, config.getParameter("probeInterval", 60000L)));
+
+        log.info("HealthCheckStrategy initialized with timeoutThreshold={}ms, enableDeepCheck={}, checkInterval={}ms",
+                TimeUnit.NANOSECONDS.toMillis(timeoutThresholdNanos), enableDeepCheck, checkInterval);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Health Check Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        ThreadPoolExecutor executor = threadPool.getExecutor();
+        ResultSlot slot = slots.acquire(poolName, context);
+
+        if (executor.isShutdown() || executor.isTerminated()) {
+            context.clearPoolState(poolName, HEALTH_STATE);
+            updateHealth(threadPool, false);
+            return slot.reset(true, AlertLevel.CRITICAL, SHUTDOWN_MESSAGE, "Check whether the pool was closed unexpectedly");
+        }
+        if (status == null) {
+            return slot.reset(false, AlertLevel.INFO, UNAVAILABLE_MESSAGE, "No action required");
+        }
+
+        long now = System.nanoTime();
+        HealthState state = context.getPoolState(poolName, HEALTH_STATE);
+        if (!state.started) {
+            state.start(status.getCompletedTaskCount(), now);
+        }
+
+        // 吞吐停滞：队列中有可执行的任务但已完成任务数持续不变
+        boolean hasReadyTasks = hasReadyTasks(executor, status);
+        if (status.getCompletedTaskCount() != state.lastCompleted || !hasReadyTasks) {
+            state.lastCompleted = status.getCompletedTaskCount();
+            state.lastProgressNanos = now;
+        }
+        long stalledNanos = now - state.lastProgressNanos;
+        boolean stalled = hasReadyTasks && stalledNanos >= timeoutThresholdNanos;
+
+        // 深度检查：评估上一个探测任务，必要时提交新的探测任务
+        ProbeOutcome probeOutcome = ProbeOutcome.NONE;
+        long probePendingNanos = -1;
+        if (enableDeepCheck) {
+            probeOutcome = evaluateProbe(state);
+            if (state.probe != null) {
+                probePendingNanos = now - state.probe.getSubmitNanos();
+                // 未超时的探测任务继续等待，超时后保持占位，避免重复提交
+                if (probePendingNanos >= timeoutThresholdNanos) {
+                    probeOutcome = ProbeOutcome.TIMEOUT;
+                }
+            } else if (!stalled && now - state.lastProbeNanos >= probeIntervalNanos
+                    && (executor.getQueue().remainingCapacity() > 0
+                        || status.getPoolSize() < status.getMaximumPoolSize())) {
+                submitProbe(executor, state, now);
+            }
+        }
+
+        boolean healthy = !stalled && probeOutcome != ProbeOutcome.TIMEOUT;
+        updateHealth(threadPool, healthy);
+
+        if (stalled) {
+            slot.reset(true, AlertLevel.CRITICAL, STALLED_MESSAGE, "Workers may be blocked or deadlocked, take a thread dump");
+        } else if (probeOutcome == ProbeOutcome.TIMEOUT) {
+            slot.reset(true, AlertLevel.ERROR, PROBE_TIMEOUT_MESSAGE, "Workers may be saturated or stuck, take a thread dump");
+        } else if (probeOutcome == ProbeOutcome.SLOW) {
+            slot.reset(true, AlertLevel.WARN, PROBE_SLOW_MESSAGE, "Check pool saturation and queue capacity");
+        } else if (probeOutcome == ProbeOutcome.REJECTED) {
+            slot.reset(true, AlertLevel.WARN, PROBE_REJECTED_MESSAGE, "Check pool saturation and queue capacity");
+        } else {
+            slot.reset(false, AlertLevel.INFO, HEALTHY_MESSAGE, "No action required");
+        }
+
+        slot.putLong(STALLED_MILLIS, hasReadyTasks ? TimeUnit.NANOSECONDS.toMillis(stalledNanos) : 0L);
+        if (probePendingNanos >= 0) {
+            slot.putLong(PROBE_PENDING_MILLIS, TimeUnit.NANOSECONDS.toMillis(probePendingNanos));
+        } else if (enableDeepCheck && probeOutcome != ProbeOutcome.REJECTED && state.lastProbeLatencyNanos >= 0) {
+            slot.putDouble(PROBE_LATENCY_MILLIS, state.lastProbeLatencyNanos / 1_000_000.0);
+        }
+        return slot.putBoolean(HEALTHY, healthy)
+                .putLong(QUEUE_SIZE, status.getQueueSize())
+                .putLong(ACTIVE_COUNT, status.getActiveCount())
+                .putLong(TIMEOUT_THRESHOLD_MILLIS, TimeUnit.NANOSECONDS.toMillis(timeoutThresholdNanos));
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    /**
+     * 评估进行中的探测任务，仍未开始执行的探测任务保留在状态中
+     */
+    private ProbeOutcome evaluateProbe(HealthState state) {
+        HealthProbeTask probe = state.probe;
+        if (probe == null) {
+            return ProbeOutcome.NONE;
+        }
+        if (probe.isRejected()) {
+            state.probe = null;
+            return ProbeOutcome.REJECTED;
+        }
+        if (probe.isStarted()) {
+            state.probe = null;
+            state.lastProbeLatencyNanos = probe.getLatencyNanos();
+            return state.lastProbeLatencyNanos >= timeoutThresholdNanos ? ProbeOutcome.SLOW : ProbeOutcome.OK;
+        }
+        return ProbeOutcome.NONE;
+    }
+
+    /**
+     * 队列中是否有可执行的任务
+     * 延迟队列按到期时间排序，队首未到期时其余任务也未到期，定时线程池只持有延迟任务时不算停滞
+     */
+    private static boolean hasReadyTasks(ThreadPoolExecutor executor, ThreadPoolStatus status) {
+        if (status.getQueueSize() == 0) {
+            return false;
+        }
+        Runnable head = executor.getQueue().peek();
+        return head != null && (!(head instanceof Delayed delayed) || delayed.getDelay(TimeUnit.NANOSECONDS) <= 0);
+    }
+
+    private void submitProbe(ThreadPoolExecutor executor, HealthState state, long now) {
+        CountingRejectedExecutionHandler counting = CountingRejectedExecutionHandler.of(executor);
+        HealthProbeTask probe = new HealthProbeTask(counting);
+        state.lastProbeNanos = now;
+        if (counting != null) {
+            counting.recordProbeSubmitted();
+        }
+        try {
+            executor.execute(probe);
+            state.probe = probe;
+        } catch (RejectedExecutionException e) {
+            log.debug("Health probe rejected by executor", e);
+        }
+    }
+
+    private void updateHealth(MonitorableThreadPool threadPool, boolean healthy) {
+        if (threadPool instanceof DefaultMonitorableThreadPool defaultPool) {
+            defaultPool.setHealthy(healthy);
+        }
+    }
+
+    private enum ProbeOutcome {
+        NONE, OK, SLOW, REJECTED, TIMEOUT
+    }
+
+    /**
+     * 单个线程池的健康检查状态
+     */
+    private static class HealthState {
+        private volatile long lastCompleted;
+        private volatile long lastProgressNanos;
+        private volatile HealthProbeTask probe;
+        private volatile long lastProbeNanos;
+        private volatile long lastProbeLatencyNanos = -1;
+        private volatile boolean started;
+
+        void start(long lastCompleted, long now) {
+            this.lastCompleted = lastCompleted;
+            this.lastProgressNanos = now;
+            this.lastProbeNanos = now - Long.MAX_VALUE / 2;
+            this.started = true;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 线程池性能分析策略
+ * 跨监控周期计算到达率、完成率、单线程服务率和线程创建速率的指数加权移动平均（EWMA），
+ * 平滑系数 alpha = 2 / (sampleSize + 1)；到达率持续超过服务能力时判定为瓶颈
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class PerformanceAnalysisStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "PerformanceAnalysis";
+    private static final int DEFAULT_PRIORITY = 60;
+    /** 连续多少次到达率超过服务能力判定为瓶颈 */
+    private static final int BOTTLENECK_SAMPLES = 3;
+    /** 到达率EWMA相对上次变化超过该比例视为趋势变化 */
+    private static final double TREND_THRESHOLD = 0.1;
+
+    /** 线程池跨周期状态，保存在监控上下文中，线程池注销时一并移除 */
+    private static final PoolStateKey<RateState> RATE_STATE = PoolStateKey.of("performance-analysis.rate", RateState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int ARRIVAL_RATE = SCHEMA.doubleField("arrivalRate");
+    private static final int COMPLETION_RATE = SCHEMA.doubleField("completionRate");
+    private static final int SERVICE_RATE = SCHEMA.doubleField("serviceRatePerWorker");
+    private static final int SERVICE_CAPACITY = SCHEMA.doubleField("serviceCapacity");
+    private static final int CHURN_RATE = SCHEMA.doubleField("threadChurnRate");
+    private static final int SAMPLES = SCHEMA.counterField("samples");
+    private static final int MAXIMUM_POOL_SIZE = SCHEMA.longField("maximumPoolSize");
+    private static final int ARRIVAL_TREND = SCHEMA.textField("arrivalTrend");
+    private static final int BOTTLENECK = SCHEMA.booleanField("bottleneck");
+    private static final int RECOMMENDED_POOL_SIZE = SCHEMA.longField("recommendedPoolSize");
+
+    private static final ResultSlot.MessageFormatter UNAVAILABLE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' status unavailable", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter BASELINE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' performance baseline recorded", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter BOTTLENECK_MESSAGE = slot -> String.format(
+            "Thread pool '%s' is a bottleneck: arrival %.2f/s exceeds capacity %.2f/s (%.2f/s per worker x %d workers)",
+            slot.getPoolName(), slot.getDouble(ARRIVAL_RATE), slot.getDouble(SERVICE_CAPACITY),
+            slot.getDouble(SERVICE_RATE), slot.getLong(MAXIMUM_POOL_SIZE));
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' performance: arrival %.2f/s, completion %.2f/s, per-worker %.2f/s",
+            slot.getPoolName(), slot.getDouble(ARRIVAL_RATE), slot.getDouble(COMPLETION_RATE),
+            slot.getDouble(SERVICE_RATE));
+
+    private final int sampleSize;
+    private final double alpha;
+    private final long analysisInterval;
+    private final boolean enableTrendAnalysis;
+    private final boolean enableBottleneckDetection;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public PerformanceAnalysisStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.sampleSize = Math.max(1, config.getParameter("sampleSize", 100));
+        this.alpha = 2.0 / (sampleSize + 1);
+        this.analysisInterval = config.getParameter("analysisInterval", 60000L);
+        this.enableTrendAnalysis = config.getParameter("enableTrendAnalysis", true);
+        this.enableBottleneckDetection = config.getParameter("enableBottleneckDetection", true);
+
+        log.info("PerformanceAnalysisStrategy initialized with sampleSize={}, analysisInterval={}ms, trend={}, bottleneck={}",
+                sampleSize, analysisInterval, enableTrendAnalysis, enableBottleneckDetection);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Performance Analysis Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return analysisInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        ResultSlot slot = slots.acquire(poolName, context);
+        if (status == null) {
+            return slot.reset(false, AlertLevel.INFO, UNAVAILABLE_MESSAGE, "No action required");
+        }
+
+        long now = System.nanoTime();
+        long createdThreads = threadPool.getExecutor() instanceof InstrumentedExecutor instrumented
+                ? instrumented.getCreatedThreadCount() : -1;
+        RateState state = context.getPoolState(poolName, RATE_STATE);
+
+        // 首次采样只记录基线
+        if (!state.initialized) {
+            state.reset(status, createdThreads, now);
+            return slot.reset(false, AlertLevel.INFO, BASELINE_MESSAGE, "No action required");
+        }
+
+        double seconds = (now - state.lastNanos) / 1_000_000_000.0;
+        if (seconds <= 0) {
+            return fillResult(slot, state, status, false);
+        }
+
+        double arrivalRate = Math.max(0, status.getTaskCount() - state.lastTaskCount) / seconds;
+        double completionRate = Math.max(0, status.getCompletedTaskCount() - state.lastCompleted) / seconds;
+        double busyWorkers = (status.getActiveCount() + state.lastActiveCount) / 2.0;
+        double churnRate = createdThreads >= 0
+                ? Math.max(0, createdThreads - state.lastCreatedThreads) / seconds
+                : Math.abs(status.getPoolSize() - state.lastPoolSize) / seconds;
+
+        state.previousArrivalEwma = state.arrivalEwma;
+        state.arrivalEwma = ewma(state.arrivalEwma, arrivalRate, state.samples);
+        state.completionEwma = ewma(state.completionEwma, completionRate, state.samples);
+        state.churnEwma = ewma(state.churnEwma, churnRate, state.samples);
+        // 没有忙碌线程时无法观测服务率，保持原值
+        if (busyWorkers >= 1) {
+            state.serviceRateEwma = ewma(state.serviceRateEwma, completionRate / busyWorkers, state.serviceSamples++);
+        }
+        state.samples++;
+
+        boolean bottleneck = false;
+        if (enableBottleneckDetection && state.serviceSamples > 0) {
+            double capacity = state.serviceRateEwma * status.getMaximumPoolSize();
+            if (state.arrivalEwma > capacity && status.getQueueSize() > 0) {
+                state.overCapacitySamples++;
+            } else {
+                state.overCapacitySamples = 0;
+            }
+            bottleneck = state.overCapacitySamples >= BOTTLENECK_SAMPLES;
+        }
+
+        state.update(status, createdThreads, now);
+        return fillResult(slot, state, status, bottleneck);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    /**
+     * 前几个样本使用算术平均，避免EWMA初值偏差
+     */
+    private double ewma(double current, double sample, int samples) {
+        double weight = Math.max(alpha, 1.0 / (samples + 1));
+        return current + weight * (sample - current);
+    }
+
+    private MonitorResult fillResult(ResultSlot slot, RateState state, ThreadPoolStatus status, boolean bottleneck) {
+        double capacity = state.serviceRateEwma * status.getMaximumPoolSize();
+        if (bottleneck) {
+            slot.reset(true, AlertLevel.WARN, BOTTLENECK_MESSAGE, "Increase maximum pool size or reduce per-task cost");
+        } else {
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
+        }
+
+        slot.putDouble(ARRIVAL_RATE, state.arrivalEwma)
+                .putDouble(COMPLETION_RATE, state.completionEwma)
+                .putDouble(SERVICE_RATE, state.serviceRateEwma)
+                .putDouble(SERVICE_CAPACITY, capacity)
+                .putDouble(CHURN_RATE, state.churnEwma)
+                .putLong(SAMPLES, state.samples)
+                .putLong(MAXIMUM_POOL_SIZE, status.getMaximumPoolSize());
+        if (enableTrendAnalysis) {
+            slot.putText(ARRIVAL_TREND, trendOf(state.previousArrivalEwma, state.arrivalEwma));
+        }
+        if (enableBottleneckDetection) {
+            slot.putBoolean(BOTTLENECK, bottleneck);
+            if (capacity > 0) {
+                // 预估达到当前到达率所需的线程数
+                slot.putLong(RECOMMENDED_POOL_SIZE, (long) Math.ceil(state.arrivalEwma / state.serviceRateEwma));
+            }
+        }
+        return slot;
+    }
+
+    private String trendOf(double previous, double current) {
+        if (previous <= 0) {
+            return current > 0 ? "RISING" : "STABLE";
+        }
+        double change = (current - previous) / previous;
+        if (change > TREND_THRESHOLD) {
+            return "RISING";
+        }
+        return change < -TREND_THRESHOLD ? "FALLING" : "STABLE";
+    }
+
+    /**
+     * 单个线程池的速率状态
+     */
+    private static class RateState {
+        private volatile boolean initialized;
+        private long lastNanos;
+        private long lastTaskCount;
+        private long lastCompleted;
+        private long lastCreatedThreads;
+        private int lastActiveCount;
+        private int lastPoolSize;
+
+        private int samples;
+        private int serviceSamples;
+        private int overCapacitySamples;
+        private double arrivalEwma;
+        private double previousArrivalEwma;
+        private double completionEwma;
+        private double serviceRateEwma;
+        private double churnEwma;
+
+        void reset(ThreadPoolStatus status, long createdThreads, long now) {
+            update(status, createdThreads, now);
+            initialized = true;
+        }
+
+        void update(ThreadPoolStatus status, long createdThreads, long now) {
+            lastNanos = now;
+            lastTaskCount = status.getTaskCount();
+            lastCompleted = status.getCompletedTaskCount();
+            lastCreatedThreads = createdThreads;
+            lastActiveCount = status.getActiveCount();
+            lastPoolSize = status.getPoolSize();
+        }
+    }
+}
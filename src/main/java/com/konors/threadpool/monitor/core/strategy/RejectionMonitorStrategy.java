@@ -0,0 +1,128 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+/**
+ * 线程池拒绝任务监控策略
+ * 统计时间窗口内的任务拒绝次数，超过阈值时触发告警
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class RejectionMonitorStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "RejectionMonitor";
+    private static final int DEFAULT_PRIORITY = 80;
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int REJECTED_IN_WINDOW = SCHEMA.longField("rejectedInWindow");
+    private static final int REJECTED_TOTAL = SCHEMA.counterField("rejectedTotal");
+    private static final int REJECTION_RATE = SCHEMA.doubleField("rejectionRatePerSecond");
+    private static final int TIME_WINDOW_MILLIS = SCHEMA.longField("timeWindowMillis");
+    private static final int WARNING_COUNT = SCHEMA.longField("warningCount");
+    private static final int CRITICAL_COUNT = SCHEMA.longField("criticalCount");
+    private static final int THRESHOLD = SCHEMA.longField("threshold");
+
+    private static final ResultSlot.MessageFormatter THRESHOLD_MESSAGE = slot -> String.format(
+            "Thread pool '%s' rejected %d tasks in the last %ds (threshold: %d)",
+            slot.getPoolName(), slot.getLong(REJECTED_IN_WINDOW), slot.getLong(TIME_WINDOW_MILLIS) / 1000,
+            slot.getLong(THRESHOLD));
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' rejected %d tasks in the last %ds",
+            slot.getPoolName(), slot.getLong(REJECTED_IN_WINDOW), slot.getLong(TIME_WINDOW_MILLIS) / 1000);
+
+    private final int warningCount;
+    private final int criticalCount;
+    private final Duration timeWindow;
+    private final long checkInterval;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public RejectionMonitorStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.warningCount = config.getParameter("warningCount", 10);
+        this.criticalCount = config.getParameter("criticalCount", 50);
+        this.timeWindow = Duration.ofMillis(config.getParameter("timeWindow", 60000L));
+        this.checkInterval = config.getParameter("checkInterval", 10000L);
+        // 计数器只保留最近 DEFAULT_WINDOW 的拒绝，更长的窗口会被静默截断
+        if (timeWindow.compareTo(CountingRejectedExecutionHandler.DEFAULT_WINDOW) > 0) {
+            throw new IllegalArgumentException("Rejection timeWindow " + timeWindow.toMillis()
+                    + "ms exceeds the rejection counter window "
+                    + CountingRejectedExecutionHandler.DEFAULT_WINDOW.toMillis() + "ms");
+        }
+
+        log.info("RejectionMonitorStrategy initialized with warningCount={}, criticalCount={}, timeWindow={}ms",
+                warningCount, criticalCount, timeWindow.toMillis());
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Rejection Monitor Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        // 注册时会安装计数拒绝策略
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        CountingRejectedExecutionHandler handler = CountingRejectedExecutionHandler.of(threadPool.getExecutor());
+        if (handler == null) {
+            return new BasicMonitorResult(false, AlertLevel.INFO,
+                    String.format("Thread pool '%s' rejection counting is not installed", poolName),
+                    "Register the thread pool with the monitor to enable rejection counting", new HashMap<>());
+        }
+
+        // 自行安装的计数器窗口可能更短，按实际统计的窗口计算速率
+        Duration window = timeWindow.compareTo(handler.getWindow()) > 0 ? handler.getWindow() : timeWindow;
+        long rejected = handler.getRejectedCount(window);
+        ResultSlot slot = slots.acquire(poolName, context);
+
+        if (rejected >= criticalCount) {
+            slot.reset(true, AlertLevel.CRITICAL, THRESHOLD_MESSAGE,
+                    "Pool is overloaded, increase capacity or apply back-pressure upstream");
+            slot.putLong(THRESHOLD, criticalCount);
+        } else if (rejected >= warningCount) {
+            slot.reset(true, AlertLevel.WARN, THRESHOLD_MESSAGE, "Check queue capacity and traffic peaks");
+            slot.putLong(THRESHOLD, warningCount);
+        } else {
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
+        }
+
+        return slot.putLong(REJECTED_IN_WINDOW, rejected)
+                .putLong(REJECTED_TOTAL, handler.getRejectedCount())
+                .putDouble(REJECTION_RATE, (double) rejected / Math.max(1, window.toSeconds()))
+                .putLong(TIME_WINDOW_MILLIS, window.toMillis())
+                .putLong(WARNING_COUNT, warningCount)
+                .putLong(CRITICAL_COUNT, criticalCount);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+}
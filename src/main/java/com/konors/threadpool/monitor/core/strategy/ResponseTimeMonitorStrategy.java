@@ -0,0 +1,190 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.metrics.LatencyPercentiles;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 线程池响应时间监控策略
+ * 每次检查只统计最近一个检查间隔内的任务执行时间和排队时间分位数，
+ * 相邻两次检查的样本基本不重叠，连续多次超过阈值才说明持续超标，避免单次突发造成误报
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class ResponseTimeMonitorStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "ResponseTimeMonitor";
+    private static final int DEFAULT_PRIORITY = 95;
+
+    /** 线程池跨周期状态，保存在监控上下文中，线程池注销时一并移除 */
+    private static final PoolStateKey<BreachState> BREACH_STATE = PoolStateKey.of("response-time.breach", BreachState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int EXECUTION_P95 = SCHEMA.doubleField("executionP95Millis");
+    private static final int EXECUTION_P99 = SCHEMA.doubleField("executionP99Millis");
+    private static final int QUEUE_WAIT_P95 = SCHEMA.doubleField("queueWaitP95Millis");
+    private static final int QUEUE_WAIT_P99 = SCHEMA.doubleField("queueWaitP99Millis");
+    private static final int SAMPLE_COUNT = SCHEMA.counterField("sampleCount");
+    private static final int CONSECUTIVE_BREACHES = SCHEMA.counterField("consecutiveBreaches");
+    private static final int BREACH_COUNT = SCHEMA.counterField("breachCount");
+    private static final int P95_THRESHOLD = SCHEMA.doubleField("p95ThresholdMillis");
+    private static final int P99_THRESHOLD = SCHEMA.doubleField("p99ThresholdMillis");
+    private static final int QUEUE_WAIT_P95_THRESHOLD = SCHEMA.doubleField("queueWaitP95ThresholdMillis");
+    private static final int QUEUE_WAIT_P99_THRESHOLD = SCHEMA.doubleField("queueWaitP99ThresholdMillis");
+
+    private static final ResultSlot.MessageFormatter BREACH_MESSAGE = slot -> String.format(
+            "Thread pool '%s' latency SLO breached for %d consecutive checks: " +
+                    "p95=%.2fms, p99=%.2fms, queueWaitP95=%.2fms, queueWaitP99=%.2fms " +
+                    "(thresholds: p95=%.2fms, p99=%.2fms, queueWaitP95=%.2fms, queueWaitP99=%.2fms)",
+            slot.getPoolName(), slot.getLong(CONSECUTIVE_BREACHES),
+            slot.getDouble(EXECUTION_P95), slot.getDouble(EXECUTION_P99),
+            slot.getDouble(QUEUE_WAIT_P95), slot.getDouble(QUEUE_WAIT_P99),
+            slot.getDouble(P95_THRESHOLD), slot.getDouble(P99_THRESHOLD),
+            slot.getDouble(QUEUE_WAIT_P95_THRESHOLD), slot.getDouble(QUEUE_WAIT_P99_THRESHOLD));
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' latency is normal: p95=%.2fms, p99=%.2fms, queueWaitP95=%.2fms, queueWaitP99=%.2fms",
+            slot.getPoolName(), slot.getDouble(EXECUTION_P95), slot.getDouble(EXECUTION_P99),
+            slot.getDouble(QUEUE_WAIT_P95), slot.getDouble(QUEUE_WAIT_P99));
+    private static final ResultSlot.MessageFormatter DISABLED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' latency tracking is disabled", slot.getPoolName());
+
+    private final double p95ThresholdMillis;
+    private final double p99ThresholdMillis;
+    private final double queueWaitP95ThresholdMillis;
+    private final double queueWaitP99ThresholdMillis;
+    private final int breachCount;
+    private final long minSamples;
+    private final long checkInterval;
+    /** 每次检查的统计时长，直方图按槽取整后覆盖上一个完整槽和当前槽 */
+    private final Duration evaluationWindow;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public ResponseTimeMonitorStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.p95ThresholdMillis = config.getParameter("p95ThresholdMillis", 500.0);
+        this.p99ThresholdMillis = config.getParameter("p99ThresholdMillis", 2000.0);
+        this.queueWaitP95ThresholdMillis = config.getParameter("queueWaitP95ThresholdMillis", 500.0);
+        this.queueWaitP99ThresholdMillis = config.getParameter("queueWaitP99ThresholdMillis", 1000.0);
+        this.breachCount = config.getParameter("breachCount", 3);
+        this.minSamples = config.getParameter("minSamples", 20L);
+        this.checkInterval = config.getParameter("checkInterval", 5000L);
+        this.evaluationWindow = Duration.ofMillis(checkInterval);
+
+        log.info("ResponseTimeMonitorStrategy initialized with p95={}ms, p99={}ms, queueWaitP95={}ms, queueWaitP99={}ms, breachCount={}",
+                p95ThresholdMillis, p99ThresholdMillis, queueWaitP95ThresholdMillis, queueWaitP99ThresholdMillis, breachCount);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Response Time Monitor Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+    
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        // 只有自带计数器的执行器才能提供延迟分位数
+        return threadPool != null && threadPool.getExecutor() instanceof InstrumentedExecutor;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        // 状态中的分位数覆盖一分钟窗口，判断连续超标只看最近一个检查间隔
+        InstrumentedExecutor executor = (InstrumentedExecutor) threadPool.getExecutor();
+        LatencyPercentiles execution = executor.getExecutionPercentiles(evaluationWindow);
+        LatencyPercentiles queueWait = executor.getQueueWaitPercentiles(evaluationWindow);
+
+        if (execution == null || queueWait == null) {
+            context.clearPoolState(poolName, BREACH_STATE);
+            return slots.acquire(poolName, context).reset(false, AlertLevel.INFO, DISABLED_MESSAGE,
+                    "Enable latency tracking on InstrumentedThreadPoolExecutor");
+        }
+
+        ResultSlot slot = slots.acquire(poolName, context);
+        // 样本过少时分位数不可信，不参与判断
+        if (execution.getCount() < minSamples) {
+            return fillResult(slot, AlertLevel.INFO, 0, execution, queueWait);
+        }
+
+        AlertLevel breachLevel = AlertLevel.INFO;
+        if (execution.getP99Millis() >= p99ThresholdMillis) {
+            breachLevel = AlertLevel.CRITICAL;
+        } else if (execution.getP95Millis() >= p95ThresholdMillis
+                || queueWait.getP95Millis() >= queueWaitP95ThresholdMillis
+                || queueWait.getP99Millis() >= queueWaitP99ThresholdMillis) {
+            breachLevel = AlertLevel.WARN;
+        }
+
+        BreachState state = context.getPoolState(poolName, BREACH_STATE);
+        int consecutive = state.update(breachLevel != AlertLevel.INFO);
+
+        // 持续超标才告警
+        AlertLevel alertLevel = consecutive >= breachCount ? breachLevel : AlertLevel.INFO;
+        return fillResult(slot, alertLevel, consecutive, execution, queueWait);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    /**
+     * 写入监控结果
+     */
+    private MonitorResult fillResult(ResultSlot slot, AlertLevel alertLevel, int consecutive,
+                                     LatencyPercentiles execution, LatencyPercentiles queueWait) {
+        if (alertLevel == AlertLevel.INFO) {
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
+        } else {
+            boolean queueing = queueWait.getP95Millis() >= queueWaitP95ThresholdMillis
+                    || queueWait.getP99Millis() >= queueWaitP99ThresholdMillis;
+            slot.reset(true, alertLevel, BREACH_MESSAGE, queueing
+                    ? "Tasks are queueing too long, consider increasing pool size or shedding load"
+                    : "Investigate slow task execution or downstream dependencies");
+        }
+
+        return slot.putDouble(EXECUTION_P95, execution.getP95Millis())
+                .putDouble(EXECUTION_P99, execution.getP99Millis())
+                .putDouble(QUEUE_WAIT_P95, queueWait.getP95Millis())
+                .putDouble(QUEUE_WAIT_P99, queueWait.getP99Millis())
+                .putLong(SAMPLE_COUNT, execution.getCount())
+                .putLong(CONSECUTIVE_BREACHES, consecutive)
+                .putLong(BREACH_COUNT, breachCount)
+                .putDouble(P95_THRESHOLD, p95ThresholdMillis)
+                .putDouble(P99_THRESHOLD, p99ThresholdMillis)
+                .putDouble(QUEUE_WAIT_P95_THRESHOLD, queueWaitP95ThresholdMillis)
+                .putDouble(QUEUE_WAIT_P99_THRESHOLD, queueWaitP99ThresholdMillis);
+    }
+
+    /**
+     * 连续超标计数
+     */
+    private static class BreachState {
+        private volatile int consecutiveBreaches;
+
+        int update(boolean breached) {
+            consecutiveBreaches = breached ? consecutiveBreaches + 1 : 0;
+            return consecutiveBreaches;
+        }
+    }
+}
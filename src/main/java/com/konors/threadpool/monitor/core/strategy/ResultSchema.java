@@ -0,0 +1,85 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 监控结果扩展数据的字段定义
+ * 每个策略在静态初始化时声明字段并保存返回的下标，结果对象按下标写入原始类型的值，
+ * 只有在读取 {@code getExtendedData()} 时才装箱生成 Map。
+ * 创建第一个结果对象后字段定义即固定，最多 64 个字段。
+ * 单调累加的计数（样本数、累计次数）用 {@link #counterField(String)} 声明，不参与结果变化判断。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class ResultSchema {
+
+    static final int MAX_FIELDS = Long.SIZE;
+
+    enum Kind {
+        LONG, COUNTER, DOUBLE, BOOLEAN, TEXT
+    }
+
+    private final List<String> keys = new ArrayList<>();
+    private final List<Kind> kinds = new ArrayList<>();
+    /** 参与结果变化判断的数值字段 */
+    private long gaugeMask;
+    private volatile boolean frozen;
+
+    public int longField(String key) {
+        return addField(key, Kind.LONG);
+    }
+
+    public int counterField(String key) {
+        return addField(key, Kind.COUNTER);
+    }
+
+    public int doubleField(String key) {
+        return addField(key, Kind.DOUBLE);
+    }
+
+    public int booleanField(String key) {
+        return addField(key, Kind.BOOLEAN);
+    }
+
+    public int textField(String key) {
+        return addField(key, Kind.TEXT);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    String key(int index) {
+        return keys.get(index);
+    }
+
+    Kind kind(int index) {
+        return kinds.get(index);
+    }
+
+    long gaugeMask() {
+        return gaugeMask;
+    }
+
+    void freeze() {
+        frozen = true;
+    }
+
+    private synchronized int addField(String key, Kind kind) {
+        if (frozen) {
+            throw new IllegalStateException("Result schema is already in use, cannot add field: " + key);
+        }
+        if (keys.size() >= MAX_FIELDS) {
+            throw new IllegalStateException("Result schema supports at most " + MAX_FIELDS + " fields");
+        }
+        int index = keys.size();
+        keys.add(key);
+        kinds.add(kind);
+        if (kind == Kind.LONG || kind == Kind.DOUBLE) {
+            gaugeMask |= 1L << index;
+        }
+        return index;
+    }
+}
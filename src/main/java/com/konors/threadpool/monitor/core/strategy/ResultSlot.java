@@ -0,0 +1,179 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 可复用的监控结果
+ * 扩展数据以原始类型保存在预分配数组中，消息由无状态的格式化器在第一次读取时生成，
+ * 未告警且无人读取的结果不会产生任何字符串或 Map。
+ * 监控循环中同一线程池、同一策略每次评估复用同一个对象，其内容只在下一次评估前有效，
+ * 需要长期保存时使用 {@link #snapshot()}。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class ResultSlot implements MonitorResult {
+
+    /**
+     * 消息格式化器，应为不捕获变量的 lambda 或常量，从结果对象中读取参数
+     */
+    @FunctionalInterface
+    public interface MessageFormatter {
+        String format(ResultSlot slot);
+    }
+
+    private final ResultSchema schema;
+    private final String poolName;
+    private final String strategyName;
+    private final long[] values;
+    private final String[] texts;
+
+    private long presentMask;
+    private boolean needsAlert;
+    private AlertLevel alertLevel;
+    private MessageFormatter formatter;
+    private String suggestedAction;
+    private String message;
+
+    ResultSlot(ResultSchema schema, String poolName, String strategyName) {
+        schema.freeze();
+        this.schema = schema;
+        this.poolName = poolName;
+        this.strategyName = strategyName;
+        this.values = new long[schema.size()];
+        this.texts = new String[schema.size()];
+    }
+
+    /**
+     * 开始写入新一次评估的结果，清空上一次的字段和消息
+     */
+    public ResultSlot reset(boolean needsAlert, AlertLevel alertLevel, MessageFormatter formatter,
+                            String suggestedAction) {
+        this.needsAlert = needsAlert;
+        this.alertLevel = alertLevel;
+        this.formatter = formatter;
+        this.suggestedAction = suggestedAction;
+        this.message = null;
+        this.presentMask = 0;
+        return this;
+    }
+
+    public ResultSlot putLong(int field, long value) {
+        values[field] = value;
+        presentMask |= 1L << field;
+        return this;
+    }
+
+    public ResultSlot putDouble(int field, double value) {
+        values[field] = Double.doubleToRawLongBits(value);
+        presentMask |= 1L << field;
+        return this;
+    }
+
+    public ResultSlot putBoolean(int field, boolean value) {
+        values[field] = value ? 1 : 0;
+        presentMask |= 1L << field;
+        return this;
+    }
+
+    public ResultSlot putText(int field, String value) {
+        texts[field] = value;
+        presentMask |= 1L << field;
+        return this;
+    }
+
+    public long getLong(int field) {
+        return values[field];
+    }
+
+    public double getDouble(int field) {
+        return Double.longBitsToDouble(values[field]);
+    }
+
+    public boolean getBoolean(int field) {
+        return values[field] != 0;
+    }
+
+    public String getText(int field) {
+        return texts[field];
+    }
+
+    /**
+     * 本次已写入的数值字段（不含计数字段）的位掩码，用于判断结果是否变化
+     */
+    public long gaugeMask() {
+        return presentMask & schema.gaugeMask();
+    }
+
+    /**
+     * 按 double 读取数值字段
+     */
+    public double getGauge(int field) {
+        return schema.kind(field) == ResultSchema.Kind.DOUBLE ? getDouble(field) : values[field];
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    @Override
+    public boolean shouldAlert() {
+        return needsAlert;
+    }
+
+    @Override
+    public AlertLevel getAlertLevel() {
+        return alertLevel;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && formatter != null) {
+            message = formatter.format(this);
+        }
+        return message;
+    }
+
+    @Override
+    public String getSuggestedAction() {
+        return suggestedAction;
+    }
+
+    @Override
+    public Map<String, Object> getExtendedData() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if ((presentMask & (1L << i)) == 0) {
+                continue;
+            }
+            data.put(schema.key(i), switch (schema.kind(i)) {
+                case LONG, COUNTER -> values[i];
+                case DOUBLE -> Double.longBitsToDouble(values[i]);
+                case BOOLEAN -> values[i] != 0;
+                case TEXT -> texts[i];
+            });
+        }
+        return data;
+    }
+
+    /**
+     * 复制为不可变结果，可在下一次评估后继续使用
+     */
+    public MonitorResult snapshot() {
+        return new BasicMonitorResult(needsAlert, alertLevel, getMessage(), suggestedAction, getExtendedData());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MonitorResult{needsAlert=%s, level=%s, message='%s'}",
+                needsAlert, alertLevel, getMessage());
+    }
+}
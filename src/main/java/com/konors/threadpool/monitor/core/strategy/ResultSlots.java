@@ -0,0 +1,48 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+
+/**
+ * 策略内按线程池预分配的结果对象
+ * 监控上下文允许复用结果时返回该线程池固定的结果对象，否则每次新建，
+ * 避免按需检查与监控循环同时评估同一线程池时互相覆盖。
+ * 结果对象保存在线程池的状态槽中，线程池注销时随状态一起释放。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class ResultSlots {
+
+    private final ResultSchema schema;
+    private final String strategyName;
+    private final PoolStateKey<Holder> key;
+
+    public ResultSlots(ResultSchema schema, String strategyName) {
+        this.schema = schema;
+        this.strategyName = strategyName;
+        this.key = PoolStateKey.of(strategyName + ".result", Holder::new);
+    }
+
+    /**
+     * 获取线程池本次评估使用的结果对象
+     */
+    public ResultSlot acquire(String poolName, MonitorContext context) {
+        if (context == null || !context.isReuseResults()) {
+            return new ResultSlot(schema, poolName, strategyName);
+        }
+        // 同一线程池的评估由评估锁串行化，持有者无需额外同步
+        Holder holder = context.getPoolState(poolName, key);
+        if (holder.slot == null) {
+            holder.slot = new ResultSlot(schema, poolName, strategyName);
+        }
+        return holder.slot;
+    }
+
+    /**
+     * 状态槽中的结果对象持有者，状态初始化时还不知道线程池名称
+     */
+    private static final class Holder {
+        private ResultSlot slot;
+    }
+}
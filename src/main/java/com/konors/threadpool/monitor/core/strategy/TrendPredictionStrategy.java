@@ -0,0 +1,211 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.metrics.PoolStateKey;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 线程池趋势预测策略
+ * 对队列长度和活跃线程数分别做 Holt 双指数平滑（趋势按每秒计算，兼容不等间隔采样），
+ * 外推队列占满和线程耗尽的剩余时间，在饱和之前提前告警。每次采样的状态更新为 O(1)。
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+@Slf4j
+public class TrendPredictionStrategy implements MonitorStrategy {
+
+    private static final String STRATEGY_NAME = "TrendPrediction";
+    private static final int DEFAULT_PRIORITY = 75;
+    /** 容量超过该值视为无界，不做饱和预测 */
+    private static final long UNBOUNDED_CAPACITY = Integer.MAX_VALUE / 2;
+
+    /** 线程池跨周期状态，保存在监控上下文中，线程池注销时一并移除 */
+    private static final PoolStateKey<TrendState> TREND_STATE = PoolStateKey.of("trend-prediction.trend", TrendState::new);
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int QUEUE_LEVEL = SCHEMA.doubleField("queueLevel");
+    private static final int QUEUE_TREND = SCHEMA.doubleField("queueTrendPerSecond");
+    private static final int ACTIVE_LEVEL = SCHEMA.doubleField("activeLevel");
+    private static final int ACTIVE_TREND = SCHEMA.doubleField("activeTrendPerSecond");
+    private static final int QUEUE_FULL_MILLIS = SCHEMA.longField("queueFullInMillis");
+    private static final int THREADS_EXHAUSTED_MILLIS = SCHEMA.longField("threadsExhaustedInMillis");
+    private static final int QUEUE_CAPACITY = SCHEMA.longField("queueCapacity");
+    private static final int MAXIMUM_POOL_SIZE = SCHEMA.longField("maximumPoolSize");
+    private static final int HORIZON_MILLIS = SCHEMA.longField("warningHorizonMillis");
+
+    private static final ResultSlot.MessageFormatter UNAVAILABLE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' status unavailable", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter NO_TIME_ELAPSED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' trend prediction skipped: no time elapsed since last sample", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter WARMING_UP_MESSAGE = slot -> String.format(
+            "Thread pool '%s' trend prediction skipped: warming up", slot.getPoolName());
+    private static final ResultSlot.MessageFormatter STABLE_MESSAGE = slot -> String.format(
+            "Thread pool '%s' not predicted to saturate within %ds",
+            slot.getPoolName(), slot.getLong(HORIZON_MILLIS) / 1000);
+    private static final ResultSlot.MessageFormatter QUEUE_FULL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' queue predicted full in ~%ds (%.0f/%d, %+.2f/s)",
+            slot.getPoolName(), Math.max(1, slot.getLong(QUEUE_FULL_MILLIS) / 1000),
+            slot.getDouble(QUEUE_LEVEL), slot.getLong(QUEUE_CAPACITY), slot.getDouble(QUEUE_TREND));
+    private static final ResultSlot.MessageFormatter THREADS_EXHAUSTED_MESSAGE = slot -> String.format(
+            "Thread pool '%s' threads predicted exhausted in ~%ds (%.0f/%d active, %+.2f/s)",
+            slot.getPoolName(), Math.max(1, slot.getLong(THREADS_EXHAUSTED_MILLIS) / 1000),
+            slot.getDouble(ACTIVE_LEVEL), slot.getLong(MAXIMUM_POOL_SIZE), slot.getDouble(ACTIVE_TREND));
+
+    private final double levelAlpha;
+    private final double trendBeta;
+    private final long warningHorizonMillis;
+    private final long criticalHorizonMillis;
+    private final int minSamples;
+    private final long checkInterval;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
+
+    public TrendPredictionStrategy(MonitorStrategyFactory.StrategyConfig config) {
+        this.levelAlpha = clampRatio(config.getParameter("levelAlpha", 0.5));
+        this.trendBeta = clampRatio(config.getParameter("trendBeta", 0.3));
+        this.warningHorizonMillis = config.getParameter("warningHorizon", 120000L);
+        this.criticalHorizonMillis = Math.min(warningHorizonMillis, config.getParameter("criticalHorizon", 30000L));
+        this.minSamples = Math.max(2, config.getParameter("minSamples", 3));
+        this.checkInterval = config.getParameter("checkInterval", 0L);
+
+        log.info("TrendPredictionStrategy initialized with alpha={}, beta={}, warningHorizon={}ms, criticalHorizon={}ms",
+                levelAlpha, trendBeta, warningHorizonMillis, criticalHorizonMillis);
+    }
+
+    @Override
+    public String getName() {
+        return STRATEGY_NAME;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Trend Prediction Strategy";
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean supports(MonitorableThreadPool threadPool) {
+        return threadPool != null && threadPool.getExecutor() != null;
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+        String poolName = threadPool.getPoolName();
+        ResultSlot slot = slots.acquire(poolName, context);
+        if (status == null) {
+            return slot.reset(false, AlertLevel.INFO, UNAVAILABLE_MESSAGE, "No action required");
+        }
+
+        long now = System.nanoTime();
+        TrendState state = context.getPoolState(poolName, TREND_STATE);
+        double seconds = state.samples == 0 ? 0 : (now - state.lastNanos) / 1_000_000_000.0;
+        if (state.samples > 0 && seconds <= 0) {
+            return slot.reset(false, AlertLevel.INFO, NO_TIME_ELAPSED_MESSAGE, "No action required");
+        }
+        state.queue.update(status.getQueueSize(), seconds, levelAlpha, trendBeta);
+        state.threads.update(status.getActiveCount(), seconds, levelAlpha, trendBeta);
+        state.lastNanos = now;
+        state.samples++;
+
+        if (state.samples < minSamples) {
+            return slot.reset(false, AlertLevel.INFO, WARMING_UP_MESSAGE, "No action required");
+        }
+
+        long queueCapacity = (long) status.getQueueSize() + status.getQueueRemainingCapacity();
+        long queueFullMillis = queueCapacity < UNBOUNDED_CAPACITY
+                ? state.queue.millisUntil(queueCapacity) : -1;
+        long threadsExhaustedMillis = status.getMaximumPoolSize() < UNBOUNDED_CAPACITY
+                ? state.threads.millisUntil(status.getMaximumPoolSize()) : -1;
+
+        // 取更早饱和的资源告警；已饱和的资源由利用率、队列策略负责
+        boolean queueFirst = queueFullMillis > 0
+                && (threadsExhaustedMillis <= 0 || queueFullMillis <= threadsExhaustedMillis);
+        long etaMillis = queueFirst ? queueFullMillis : threadsExhaustedMillis;
+        if (etaMillis <= 0 || etaMillis > warningHorizonMillis) {
+            slot.reset(false, AlertLevel.INFO, STABLE_MESSAGE, "No action required");
+        } else {
+            AlertLevel level = etaMillis <= criticalHorizonMillis ? AlertLevel.ERROR : AlertLevel.WARN;
+            if (queueFirst) {
+                slot.reset(true, level, QUEUE_FULL_MESSAGE,
+                        "Increase consumer capacity or throttle producers before the queue fills");
+            } else {
+                slot.reset(true, level, THREADS_EXHAUSTED_MESSAGE,
+                        "Increase maximum pool size or reduce task duration before threads run out");
+            }
+        }
+        return slot.putDouble(QUEUE_LEVEL, state.queue.level)
+                .putDouble(QUEUE_TREND, state.queue.trend)
+                .putDouble(ACTIVE_LEVEL, state.threads.level)
+                .putDouble(ACTIVE_TREND, state.threads.trend)
+                .putLong(QUEUE_FULL_MILLIS, queueFullMillis)
+                .putLong(THREADS_EXHAUSTED_MILLIS, threadsExhaustedMillis)
+                .putLong(QUEUE_CAPACITY, queueCapacity)
+                .putLong(MAXIMUM_POOL_SIZE, status.getMaximumPoolSize())
+                .putLong(HORIZON_MILLIS, warningHorizonMillis);
+    }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, ThreadPoolStatusCollector.collect(threadPool), context);
+    }
+
+    private static double clampRatio(double value) {
+        return Math.max(0.01, Math.min(1.0, value));
+    }
+
+    /**
+     * 单个线程池的趋势状态
+     */
+    private static class TrendState {
+        private final HoltSeries queue = new HoltSeries();
+        private final HoltSeries threads = new HoltSeries();
+        private long lastNanos;
+        private int samples;
+    }
+
+    /**
+     * Holt 双指数平滑序列，趋势单位为每秒
+     */
+    private static class HoltSeries {
+        private double level;
+        private double trend;
+        private boolean initialized;
+
+        void update(double value, double seconds, double alpha, double beta) {
+            if (!initialized) {
+                level = value;
+                trend = 0;
+                initialized = true;
+                return;
+            }
+            double previousLevel = level;
+            level = alpha * value + (1 - alpha) * (previousLevel + trend * seconds);
+            trend = beta * (level - previousLevel) / seconds + (1 - beta) * trend;
+        }
+
+        /**
+         * 外推到达目标值的剩余时间
+         * @return 剩余毫秒数，已达到时为 0，不会到达时为 -1
+         */
+        long millisUntil(double target) {
+            if (level >= target) {
+                return 0;
+            }
+            if (trend <= 0) {
+                return -1;
+            }
+            return (long) ((target - level) / trend * 1000);
+        }
+    }
+}
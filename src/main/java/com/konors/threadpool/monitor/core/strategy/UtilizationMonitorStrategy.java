@@ -2,6 +2,7 @@ package com.konors.threadpool.monitor.core.strategy;
 
 import com.konors.threadpool.monitor.core.ThreadPoolStatus;
 import com.konors.threadpool.monitor.core.abstraction.*;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
@@ -21,9 +22,28 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
     private static final String STRATEGY_NAME = "UtilizationMonitor";
     private static final int DEFAULT_PRIORITY = 100;
     
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int UTILIZATION = SCHEMA.doubleField("utilization");
+    private static final int WARNING_THRESHOLD = SCHEMA.doubleField("warningThreshold");
+    private static final int CRITICAL_THRESHOLD = SCHEMA.doubleField("criticalThreshold");
+    private static final int ACTIVE_COUNT = SCHEMA.longField("activeCount");
+    private static final int MAXIMUM_POOL_SIZE = SCHEMA.longField("maximumPoolSize");
+    private static final int POOL_SIZE = SCHEMA.longField("poolSize");
+    
+    private static final ResultSlot.MessageFormatter CRITICAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' utilization is critically high: %.2f%% (threshold: %.2f%%)",
+            slot.getPoolName(), slot.getDouble(UTILIZATION) * 100, slot.getDouble(CRITICAL_THRESHOLD) * 100);
+    private static final ResultSlot.MessageFormatter WARNING_MESSAGE = slot -> String.format(
+            "Thread pool '%s' utilization is high: %.2f%% (threshold: %.2f%%)",
+            slot.getPoolName(), slot.getDouble(UTILIZATION) * 100, slot.getDouble(WARNING_THRESHOLD) * 100);
+    private static final ResultSlot.MessageFormatter NORMAL_MESSAGE = slot -> String.format(
+            "Thread pool '%s' utilization is normal: %.2f%%",
+            slot.getPoolName(), slot.getDouble(UTILIZATION) * 100);
+    
     private final double warningThreshold;
     private final double criticalThreshold;
     private final long checkInterval;
+    private final ResultSlots slots = new ResultSlots(SCHEMA, STRATEGY_NAME);
     
     public UtilizationMonitorStrategy(MonitorStrategyFactory.StrategyConfig config) {
         this.warningThreshold = config.getParameter("warningThreshold", 0.8);
@@ -49,6 +69,11 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
         return DEFAULT_PRIORITY;
     }
     
+    @Override
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+    
     @Override
     public boolean supports(MonitorableThreadPool threadPool) {
         // 支持所有类型的线程池
@@ -57,62 +82,30 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
 
     @Override
     public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
-        return null;
-    }
-
-    @Override
-    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
         try {
-            ThreadPoolStatus status = collectThreadPoolStatus(threadPool);
             if (status == null) {
                 return createErrorResult("Failed to collect thread pool status");
             }
             
-            double utilization = status.getUtilization();
-            
-            // 记录到上下文
-            context.setTemporaryData("utilization_" + threadPool.getPoolName(), utilization);
-            context.setTemporaryData("status_" + threadPool.getPoolName(), status);
-            
-            return analyzeUtilization(threadPool.getPoolName(), utilization, status);
+            return analyzeUtilization(slots.acquire(threadPool.getPoolName(), context), status);
             
         } catch (Exception e) {
             log.error("Error monitoring utilization for thread pool: {}", threadPool.getPoolName(), e);
             return createErrorResult("Monitoring error: " + e.getMessage());
         }
     }
+
+    @Override
+    public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+        return monitor(threadPool, collectThreadPoolStatus(threadPool), context);
+    }
     
     /**
-     * 收集线程池状态
+     * 收集线程池状态（仅在未提供共享快照时使用）
      */
     private ThreadPoolStatus collectThreadPoolStatus(MonitorableThreadPool threadPool) {
         try {
-            var executor = threadPool.getExecutor();
-            if (executor == null) {
-                return null;
-            }
-            
-            // 这里应该调用现有的状态收集逻辑
-            // 为了演示，创建一个简化的状态对象
-            ThreadPoolStatus status = new ThreadPoolStatus();
-            status.setPoolName(threadPool.getPoolName());
-            status.setTimestamp(LocalDateTime.now());
-            
-            // 获取基本指标
-            status.setCorePoolSize(executor.getCorePoolSize());
-            status.setMaximumPoolSize(executor.getMaximumPoolSize());
-            status.setActiveCount(executor.getActiveCount());
-            status.setPoolSize(executor.getPoolSize());
-            status.setTaskCount(executor.getTaskCount());
-            status.setCompletedTaskCount(executor.getCompletedTaskCount());
-            
-            // 计算利用率
-            double utilization = status.getMaximumPoolSize() > 0 ? 
-                    (double) status.getActiveCount() / status.getMaximumPoolSize() : 0.0;
-            status.setUtilization(utilization);
-            
-            return status;
-            
+            return ThreadPoolStatusCollector.collect(threadPool);
         } catch (Exception e) {
             log.error("Failed to collect thread pool status for: {}", threadPool.getPoolName(), e);
             return null;
@@ -122,50 +115,25 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
     /**
      * 分析利用率并生成监控结果
      */
-    private MonitorResult analyzeUtilization(String poolName, double utilization, ThreadPoolStatus status) {
-        AlertLevel alertLevel;
-        String message;
-        String suggestedAction;
-        boolean needsAlert;
+    private MonitorResult analyzeUtilization(ResultSlot slot, ThreadPoolStatus status) {
+        double utilization = status.getUtilization();
         
         if (utilization >= criticalThreshold) {
-            alertLevel = AlertLevel.CRITICAL;
-            needsAlert = true;
-            message = String.format("Thread pool '%s' utilization is critically high: %.2f%% (threshold: %.2f%%)", 
-                    poolName, utilization * 100, criticalThreshold * 100);
-            suggestedAction = "Consider increasing maximum pool size or optimizing task processing";
-            
+            slot.reset(true, AlertLevel.CRITICAL, CRITICAL_MESSAGE,
+                    "Consider increasing maximum pool size or optimizing task processing");
         } else if (utilization >= warningThreshold) {
-            alertLevel = AlertLevel.WARN;
-            needsAlert = true;
-            message = String.format("Thread pool '%s' utilization is high: %.2f%% (threshold: %.2f%%)", 
-                    poolName, utilization * 100, warningThreshold * 100);
-            suggestedAction = "Monitor closely and consider scaling if trend continues";
-            
+            slot.reset(true, AlertLevel.WARN, WARNING_MESSAGE,
+                    "Monitor closely and consider scaling if trend continues");
         } else {
-            alertLevel = AlertLevel.INFO;
-            needsAlert = false;
-            message = String.format("Thread pool '%s' utilization is normal: %.2f%%", 
-                    poolName, utilization * 100);
-            suggestedAction = "No action required";
+            slot.reset(false, AlertLevel.INFO, NORMAL_MESSAGE, "No action required");
         }
         
-        // 创建扩展数据
-        Map<String, Object> extendedData = new HashMap<>();
-        extendedData.put("utilization", utilization);
-        extendedData.put("warningThreshold", warningThreshold);
-        extendedData.put("criticalThreshold", criticalThreshold);
-        extendedData.put("activeCount", status.getActiveCount());
-        extendedData.put("maximumPoolSize", status.getMaximumPoolSize());
-        extendedData.put("poolSize", status.getPoolSize());
-        
-        return new DefaultMonitorResult(
-                needsAlert,
-                alertLevel,
-                message,
-                suggestedAction,
-                extendedData
-        );
+        return slot.putDouble(UTILIZATION, utilization)
+                .putDouble(WARNING_THRESHOLD, warningThreshold)
+                .putDouble(CRITICAL_THRESHOLD, criticalThreshold)
+                .putLong(ACTIVE_COUNT, status.getActiveCount())
+                .putLong(MAXIMUM_POOL_SIZE, status.getMaximumPoolSize())
+                .putLong(POOL_SIZE, status.getPoolSize());
     }
     
     /**
@@ -176,7 +144,7 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
         extendedData.put("error", errorMessage);
         extendedData.put("timestamp", LocalDateTime.now());
         
-        return new DefaultMonitorResult(
+        return new BasicMonitorResult(
                 true,
                 AlertLevel.ERROR,
                 "Utilization monitoring failed: " + errorMessage,
@@ -184,56 +152,4 @@ public class UtilizationMonitorStrategy implements MonitorStrategy {
                 extendedData
         );
     }
-    
-    /**
-     * 默认监控结果实现
-     */
-    private static class DefaultMonitorResult implements MonitorResult {
-        private final boolean needsAlert;
-        private final AlertLevel alertLevel;
-        private final String message;
-        private final String suggestedAction;
-        private final Map<String, Object> extendedData;
-        
-        public DefaultMonitorResult(boolean needsAlert, AlertLevel alertLevel, String message, 
-                                  String suggestedAction, Map<String, Object> extendedData) {
-            this.needsAlert = needsAlert;
-            this.alertLevel = alertLevel;
-            this.message = message;
-            this.suggestedAction = suggestedAction;
-            this.extendedData = extendedData != null ? new HashMap<>(extendedData) : new HashMap<>();
-        }
-
-
-        @Override
-        public boolean shouldAlert() {
-            return needsAlert;
-        }
-
-        @Override
-        public AlertLevel getAlertLevel() {
-            return alertLevel;
-        }
-        
-        @Override
-        public String getMessage() {
-            return message;
-        }
-        
-        @Override
-        public String getSuggestedAction() {
-            return suggestedAction;
-        }
-        
-        @Override
-        public Map<String, Object> getExtendedData() {
-            return new HashMap<>(extendedData);
-        }
-        
-        @Override
-        public String toString() {
-            return String.format("MonitorResult{needsAlert=%s, level=%s, message='%s'}", 
-                    needsAlert, alertLevel, message);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.konors.threadpool.monitor.core.util;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.InstrumentedExecutor;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.InstrumentedThreadPoolExecutor;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 线程池状态采集器
+ * 一次性采集线程池的完整状态快照，供监控周期内所有策略共享，
+ * 避免每个策略重复调用 getActiveCount()/getTaskCount() 等需要获取 mainLock 的方法
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class ThreadPoolStatusCollector {
+
+    private ThreadPoolStatusCollector() {
+    }
+
+    /**
+     * 采集线程池状态
+     * @param threadPool 可监控线程池
+     * @return 状态快照，执行器为空时返回null
+     */
+    public static ThreadPoolStatus collect(MonitorableThreadPool threadPool) {
+        ThreadPoolExecutor executor = threadPool.getExecutor();
+        if (executor == null) {
+            return null;
+        }
+
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setPoolName(threadPool.getPoolName());
+        status.setTimestamp(LocalDateTime.now());
+
+        // 配置类指标为 volatile 读取，不加锁
+        status.setCorePoolSize(executor.getCorePoolSize());
+        status.setMaximumPoolSize(executor.getMaximumPoolSize());
+
+        if (executor instanceof InstrumentedExecutor instrumented) {
+            // 自带计数器的执行器直接读取无锁计数
+            status.setActiveCount(instrumented.getRunningTaskCount());
+            status.setPoolSize(instrumented.getLiveThreadCount());
+            status.setTaskCount(instrumented.getSubmittedTaskCount());
+            status.setCompletedTaskCount(instrumented.getFinishedTaskCount());
+            status.setQueueWaitLatency(instrumented.getQueueWaitPercentiles());
+            status.setExecutionLatency(instrumented.getExecutionPercentiles());
+        } else {
+            // 以下指标需要获取 mainLock，每个周期只采集一次
+            status.setActiveCount(executor.getActiveCount());
+            status.setPoolSize(executor.getPoolSize());
+            status.setTaskCount(executor.getTaskCount());
+            status.setCompletedTaskCount(executor.getCompletedTaskCount());
+        }
+
+        fillQueueMetrics(status, InstrumentedThreadPoolExecutor.workQueueOf(executor));
+
+        // 注册时安装的计数拒绝策略提供累计拒绝数
+        CountingRejectedExecutionHandler rejectionCounter = CountingRejectedExecutionHandler.of(executor);
+        if (rejectionCounter != null) {
+            status.setRejectedTaskCount(rejectionCounter.getRejectedCount());
+            // 健康检查探测任务不计入任务数和完成数，避免抬高吞吐和到达率
+            status.setTaskCount(Math.max(0, status.getTaskCount() - rejectionCounter.getSubmittedProbeCount()));
+            status.setCompletedTaskCount(
+                    Math.max(0, status.getCompletedTaskCount() - rejectionCounter.getFinishedProbeCount()));
+        }
+
+        // 计算利用率
+        double utilization = status.getMaximumPoolSize() > 0 ?
+                (double) status.getActiveCount() / status.getMaximumPoolSize() : 0.0;
+        status.setUtilization(utilization);
+
+        return status;
+    }
+
+    /**
+     * 填充队列指标
+     */
+    private static void fillQueueMetrics(ThreadPoolStatus status, BlockingQueue<Runnable> queue) {
+        int queueSize = queue.size();
+        int remainingCapacity = queue.remainingCapacity();
+        status.setQueueSize(queueSize);
+        status.setQueueRemainingCapacity(remainingCapacity);
+
+        // 无界队列不计算利用率
+        if (remainingCapacity == Integer.MAX_VALUE) {
+            status.setQueueUtilization(0.0);
+        } else {
+            long totalCapacity = (long) queueSize + remainingCapacity;
+            status.setQueueUtilization(totalCapacity > 0 ? (double) queueSize / totalCapacity : 0.0);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.konors.threadpool.monitor.core.util;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool.ThreadPoolType;
+import com.konors.threadpool.monitor.core.abstraction.ThreadPoolConfiguration;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.InstrumentedThreadPoolExecutor;
+
+import java.util.concurrent.*;
+
+/**
+ * 线程池工具类
+ * 提供线程池包装、类型推断以及带计数器线程池的创建方法
+ *
+ * @author zhangYh
+ * @Date 2025/1/20
+ */
+public final class ThreadPoolUtil {
+
+    /** 默认优先级 */
+    public static final int DEFAULT_PRIORITY = 100;
+
+    private ThreadPoolUtil() {
+    }
+
+    /**
+     * 将执行器包装为可监控线程池，使用默认优先级
+     */
+    public static MonitorableThreadPool createMonitorablePool(String name, ThreadPoolExecutor executor) {
+        return createMonitorablePool(name, executor, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * 将执行器包装为可监控线程池
+     */
+    public static MonitorableThreadPool createMonitorablePool(String name, ThreadPoolExecutor executor, int priority) {
+        if (executor == null) {
+            return DefaultMonitorableThreadPool.builder()
+                    .name(name)
+                    .type(ThreadPoolType.CUSTOM)
+                    .priority(priority)
+                    .build();
+        }
+        return DefaultMonitorableThreadPool.builder()
+                .name(name)
+                .executor(executor)
+                .type(inferPoolType(executor))
+                .configuration(createConfiguration(executor))
+                .priority(priority)
+                .build();
+    }
+
+    /**
+     * 根据执行器参数推断线程池类型
+     */
+    public static ThreadPoolType inferPoolType(ThreadPoolExecutor executor) {
+        if (executor instanceof ScheduledThreadPoolExecutor) {
+            return ThreadPoolType.SCHEDULED;
+        }
+        int core = executor.getCorePoolSize();
+        int max = executor.getMaximumPoolSize();
+        if (core == 1 && max == 1) {
+            return ThreadPoolType.SINGLE;
+        }
+        if (core == 0 && max == Integer.MAX_VALUE && InstrumentedThreadPoolExecutor.workQueueOf(executor) instanceof SynchronousQueue) {
+            return ThreadPoolType.CACHED;
+        }
+        if (core == max) {
+            return ThreadPoolType.FIXED;
+        }
+        return ThreadPoolType.CUSTOM;
+    }
+
+    /**
+     * 从执行器创建配置信息
+     */
+    public static ThreadPoolConfiguration createConfiguration(ThreadPoolExecutor executor) {
+        return ThreadPoolConfiguration.builder()
+                .corePoolSize(executor.getCorePoolSize())
+                .maximumPoolSize(executor.getMaximumPoolSize())
+                .keepAliveTime(executor.getKeepAliveTime(TimeUnit.MILLISECONDS))
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .queueType(InstrumentedThreadPoolExecutor.workQueueOf(executor).getClass().getSimpleName())
+                .queueCapacity(getQueueCapacity(executor))
+                .rejectedExecutionHandlerType(executor.getRejectedExecutionHandler().getClass().getSimpleName())
+                .threadFactoryType(InstrumentedThreadPoolExecutor.threadFactoryOf(executor).getClass().getSimpleName())
+                .allowCoreThreadTimeOut(executor.allowsCoreThreadTimeOut())
+                .creationTime(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * 创建带无锁计数器的固定大小线程池
+     */
+    public static InstrumentedThreadPoolExecutor newInstrumentedFixedThreadPool(int nThreads, int queueCapacity) {
+        return new InstrumentedThreadPoolExecutor(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new LinkedBlockingQueue<>());
+    }
+
+    /**
+     * 创建带无锁计数器的线程池
+     */
+    public static InstrumentedThreadPoolExecutor newInstrumentedThreadPool(int corePoolSize, int maximumPoolSize,
+                                                                           long keepAliveTime, TimeUnit unit,
+                                                                           BlockingQueue<Runnable> workQueue) {
+        return new InstrumentedThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
+    }
+
+    /**
+     * 获取队列容量
+     */
+    private static int getQueueCapacity(ThreadPoolExecutor executor) {
+        try {
+            int remaining = executor.getQueue().remainingCapacity();
+            int current = executor.getQueue().size();
+            return remaining == Integer.MAX_VALUE ? -1 : remaining + current;
+        } catch (Exception e) {
+            return -1; // 无界队列或获取失败
+        }
+    }
+}
@@ -3,14 +3,19 @@ package com.konors.threadpool.monitor.starter;
 import com.konors.threadpool.monitor.core.abstraction.AdvancedThreadPoolMonitor;
 import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
 import com.konors.threadpool.monitor.core.abstraction.MonitorStrategyFactory;
+import com.konors.threadpool.monitor.core.alert.AlertSink;
+import com.konors.threadpool.monitor.core.alert.WebhookAlertSink;
 import com.konors.threadpool.monitor.core.factory.PropertyBasedMonitorStrategyFactory;
 import com.konors.threadpool.monitor.core.impl.DefaultAdvancedThreadPoolMonitor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.net.URI;
 import java.time.Duration;
 
 /**
@@ -46,24 +51,43 @@ public class ThreadPoolMonitorAutoConfiguration {
                 .metricsCollectionInterval(Duration.ofMillis(properties.getMonitorInterval()))
                 .historyRetentionPeriod(Duration.ofMillis(properties.getDataRetentionTime()))
                 .maxHistoryRecords(2000)
-                .adaptiveMonitoringEnabled(true)
+                .adaptiveMonitoringEnabled(properties.isAdaptiveMonitoringEnabled())
+                .minMonitorInterval(Duration.ofMillis(properties.getAdaptiveMinInterval()))
+                .maxMonitorInterval(Duration.ofMillis(properties.getAdaptiveMaxInterval()))
                 .predictiveAlertingEnabled(properties.isPredictiveAlertEnabled())
                 .monitorThreadPoolSize(properties.getMonitorThreadPoolSize())
                 .alertSuppressionPeriod(Duration.ofMillis(properties.getAlertSuppressionTime()))
+                .alertDispatchQueueCapacity(properties.getAlertDispatchQueueCapacity())
+                .alertDispatchBatchSize(properties.getAlertDispatchBatchSize())
+                .alertDispatchBatchDelay(Duration.ofMillis(properties.getAlertDispatchBatchDelay()))
+                .transitionOnlyResults(properties.isTransitionOnlyResults())
+                .resultHysteresis(properties.getResultHysteresis())
                 .batchSize(100)
                 .asyncProcessingTimeout(Duration.ofSeconds(30))
                 .build();
     }
 
     /**
-     * 配置默认的高级线程池监控器
+     * 配置了 alert-webhook-url 时启用 Webhook 告警输出
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "konors.threadpool.monitor", name = "alert-webhook-url")
+    public WebhookAlertSink webhookAlertSink(ThreadPoolMonitorProperties properties) {
+        return new WebhookAlertSink("webhook", URI.create(properties.getAlertWebhookUrl()),
+                Duration.ofMillis(properties.getAlertWebhookTimeout()));
+    }
+
+    /**
+     * 配置默认的高级线程池监控器，容器中的 AlertSink 会注册为告警输出
      */
     @Bean
     @ConditionalOnMissingBean
     public AdvancedThreadPoolMonitor advancedThreadPoolMonitor(MonitorConfiguration configuration,
                                                                MonitorStrategyFactory strategyFactory,
-                                                               ThreadPoolMonitorProperties properties) {
+                                                               ThreadPoolMonitorProperties properties,
+                                                               ObjectProvider<AlertSink> alertSinks) {
         DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor(configuration, strategyFactory);
+        alertSinks.orderedStream().forEach(monitor::addAlertSink);
         if (properties.isEnabled()) {
             monitor.startMonitoring();
         }
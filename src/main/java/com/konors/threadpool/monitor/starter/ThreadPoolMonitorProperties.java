@@ -23,6 +23,21 @@ public class ThreadPoolMonitorProperties {
      */
     private long monitorInterval = 30000L;
 
+    /**
+     * 是否启用自适应监控频率
+     */
+    private boolean adaptiveMonitoringEnabled = true;
+
+    /**
+     * 自适应监控最小采样间隔（毫秒）
+     */
+    private long adaptiveMinInterval = 500L;
+
+    /**
+     * 自适应监控最大采样间隔（毫秒）
+     */
+    private long adaptiveMaxInterval = 60000L;
+
     /**
      * 是否启用异步监控
      */
@@ -43,6 +58,41 @@ public class ThreadPoolMonitorProperties {
      */
     private long alertSuppressionTime = 300000L;
 
+    /**
+     * 告警 Webhook 地址，为空时不启用
+     */
+    private String alertWebhookUrl;
+
+    /**
+     * 告警 Webhook 请求超时（毫秒）
+     */
+    private long alertWebhookTimeout = 5000L;
+
+    /**
+     * 每个告警输出的待发送队列容量
+     */
+    private int alertDispatchQueueCapacity = 1000;
+
+    /**
+     * 告警输出每批最多发送的事件数
+     */
+    private int alertDispatchBatchSize = 50;
+
+    /**
+     * 告警输出凑批的最长等待时间（毫秒）
+     */
+    private long alertDispatchBatchDelay = 1000L;
+
+    /**
+     * 监控检查是否只返回发生变化的结果
+     */
+    private boolean transitionOnlyResults = false;
+
+    /**
+     * 结果变化的滞回带
+     */
+    private double resultHysteresis = 0.1;
+
     /**
      * 是否启用预测性告警
      */
@@ -0,0 +1,126 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 告警分发器停止测试：停止输出不打断正在进行的发送，剩余事件发送完后才退出
+ */
+class AlertDispatcherTest {
+
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BlockingSink sink = new BlockingSink();
+    private final AlertDispatcher dispatcher =
+            new AlertDispatcher(100, 1, Duration.ZERO, AlertDispatcher.DropPolicy.DROP_NEWEST);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void removeSinkLetsBlockedSendFinishAndDrainsQueue() throws Exception {
+        dispatcher.addSink(sink);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.publish(event("pool-" + i));
+        }
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        assertTrue(dispatcher.removeSink("blocking"));
+        Thread.sleep(100);
+        assertFalse(sink.interrupted.get());
+
+        release.countDown();
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("pool-0", "pool-1", "pool-2"), sink.delivered);
+        assertFalse(sink.interrupted.get());
+    }
+
+    @Test
+    void shutdownWaitsForBlockedSendUntilTimeout() throws Exception {
+        dispatcher.addSink(sink);
+        dispatcher.publish(event("pool-0"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        }).start();
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(List.of("pool-0"), sink.delivered);
+        assertFalse(sink.interrupted.get());
+    }
+
+    @Test
+    void idleSinkStopsWithoutWaitingForEvents() throws Exception {
+        release.countDown();
+        dispatcher.addSink(sink);
+
+        long start = System.nanoTime();
+        dispatcher.removeSink("blocking");
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertTrue(sink.delivered.isEmpty());
+    }
+
+    private AlertEvent event(String poolName) {
+        return AlertEvent.builder()
+                .poolName(poolName)
+                .strategyName("QueueMonitor")
+                .type(AlertEvent.Type.FIRED)
+                .level(AlertLevel.WARN)
+                .message("queue full")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 第一次发送阻塞直到测试放行，记录发送过程中是否被中断
+     */
+    private class BlockingSink implements AlertSink {
+
+        private final List<String> delivered = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public String getName() {
+            return "blocking";
+        }
+
+        @Override
+        public void send(List<AlertEvent> events) throws Exception {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            events.forEach(event -> delivered.add(event.getPoolName()));
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
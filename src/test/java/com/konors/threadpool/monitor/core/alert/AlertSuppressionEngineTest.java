@@ -0,0 +1,94 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.strategy.BasicMonitorResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 告警抑制与去重引擎测试
+ */
+class AlertSuppressionEngineTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AlertSuppressionEngine engine = new AlertSuppressionEngine(Duration.ofSeconds(60));
+
+    @Test
+    void suppressesSameLevelWithinPeriodAndRepeatsWithCount() {
+        assertEquals(AlertEvent.Type.FIRED, evaluate(alert(AlertLevel.WARN), 0).get().getType());
+        assertTrue(evaluate(alert(AlertLevel.WARN), 10 * SECOND).isEmpty());
+        assertTrue(evaluate(alert(AlertLevel.WARN), 20 * SECOND).isEmpty());
+
+        AlertEvent repeated = evaluate(alert(AlertLevel.WARN), 60 * SECOND).get();
+        assertEquals(AlertEvent.Type.REPEATED, repeated.getType());
+        assertEquals(2, repeated.getSuppressedCount());
+    }
+
+    @Test
+    void levelChangesAreEmittedImmediately() {
+        evaluate(alert(AlertLevel.WARN), 0);
+
+        AlertEvent escalated = evaluate(alert(AlertLevel.CRITICAL), SECOND).get();
+        assertEquals(AlertEvent.Type.ESCALATED, escalated.getType());
+        assertEquals(AlertLevel.WARN, escalated.getPreviousLevel());
+
+        AlertEvent deescalated = evaluate(alert(AlertLevel.ERROR), 2 * SECOND).get();
+        assertEquals(AlertEvent.Type.DEESCALATED, deescalated.getType());
+        assertEquals(AlertLevel.CRITICAL, deescalated.getPreviousLevel());
+    }
+
+    @Test
+    void clearedAlertResolvesOnce() {
+        evaluate(alert(AlertLevel.ERROR), 0);
+
+        AlertEvent resolved = evaluate(ok(), SECOND).get();
+        assertEquals(AlertEvent.Type.RESOLVED, resolved.getType());
+        assertEquals(AlertLevel.ERROR, resolved.getLevel());
+        assertTrue(evaluate(ok(), 2 * SECOND).isEmpty());
+        assertEquals(0, engine.getActiveAlertCount());
+    }
+
+    @Test
+    void poolPeriodOverridesDefault() {
+        engine.setSuppressionPeriod("pool", Duration.ofSeconds(5));
+        evaluate(alert(AlertLevel.WARN), 0);
+        assertEquals(AlertEvent.Type.REPEATED, evaluate(alert(AlertLevel.WARN), 5 * SECOND).get().getType());
+
+        engine.setSuppressionPeriod("pool", null);
+        assertTrue(evaluate(alert(AlertLevel.WARN), 10 * SECOND).isEmpty());
+    }
+
+    @Test
+    void removingPoolOrStrategyDropsStateWithoutResolving() {
+        evaluate(alert(AlertLevel.WARN), 0);
+        engine.evaluate("pool", "other", alert(AlertLevel.WARN), 0);
+        engine.evaluate("another", "Queue", alert(AlertLevel.WARN), 0);
+        assertEquals(3, engine.getActiveAlertCount());
+
+        engine.removePool("pool");
+        assertEquals(1, engine.getActiveAlertCount());
+        assertTrue(evaluate(ok(), SECOND).isEmpty());
+
+        engine.removeStrategy("Queue");
+        assertEquals(0, engine.getActiveAlertCount());
+    }
+
+    private Optional<AlertEvent> evaluate(MonitorResult result, long nowNanos) {
+        return engine.evaluate("pool", "Queue", result, nowNanos);
+    }
+
+    private static MonitorResult alert(AlertLevel level) {
+        return new BasicMonitorResult(true, level, "queue " + level, "drain", null);
+    }
+
+    private static MonitorResult ok() {
+        return new BasicMonitorResult(false, AlertLevel.INFO, "ok", "none", null);
+    }
+}
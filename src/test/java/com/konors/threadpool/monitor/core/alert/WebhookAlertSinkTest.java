@@ -0,0 +1,131 @@
+package com.konors.threadpool.monitor.core.alert;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Webhook 告警输出与分发器测试，使用进程内 HTTP 桩服务
+ */
+class WebhookAlertSinkTest {
+
+    private HttpServer server;
+    private final BlockingQueue<String> requests = new LinkedBlockingQueue<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private AlertDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/alerts", exchange -> {
+            requests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown(Duration.ofSeconds(1));
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void batchesEventsIntoSingleRequest() throws Exception {
+        dispatcher = new AlertDispatcher(100, 10, Duration.ofMillis(200), AlertDispatcher.DropPolicy.DROP_OLDEST);
+        dispatcher.addSink(createSink());
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.publish(event("pool-" + i, "queue \"full\"\n"));
+        }
+
+        String body = requests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(body);
+        assertTrue(body.startsWith("[") && body.endsWith("]"));
+        assertEquals(3, body.split("\"poolName\"", -1).length - 1);
+        assertTrue(body.contains("queue \\\"full\\\"\\n"));
+        assertNull(requests.poll(300, TimeUnit.MILLISECONDS));
+        assertEquals(3L, (long) dispatcher.getSinkStats().get("webhook").get("sent"));
+    }
+
+    @Test
+    void slowSinkDropsInsteadOfBlockingPublisher() throws Exception {
+        release = new CountDownLatch(1);
+        dispatcher = new AlertDispatcher(5, 1, Duration.ZERO, AlertDispatcher.DropPolicy.DROP_OLDEST);
+        dispatcher.addSink(createSink());
+
+        dispatcher.publish(event("pool-0", "first"));
+        assertNotNull(requests.poll(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= 100; i++) {
+            dispatcher.publish(event("pool-" + i, "event " + i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1000, "publish blocked for " + elapsedMillis + "ms");
+        Map<String, Long> stats = dispatcher.getSinkStats().get("webhook");
+        assertEquals(95L, (long) stats.get("dropped"));
+        assertEquals(5L, (long) stats.get("queued"));
+    }
+
+    @Test
+    void countsFailedDeliveries() throws Exception {
+        responseStatus.set(500);
+        dispatcher = new AlertDispatcher(100, 10, Duration.ZERO, AlertDispatcher.DropPolicy.DROP_NEWEST);
+        dispatcher.addSink(createSink());
+
+        dispatcher.publish(event("pool-0", "boom"));
+        assertNotNull(requests.poll(5, TimeUnit.SECONDS));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.getSinkStats().get("webhook").get("failed") == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1L, (long) dispatcher.getSinkStats().get("webhook").get("failed"));
+    }
+
+    private WebhookAlertSink createSink() {
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/alerts");
+        return new WebhookAlertSink("webhook", endpoint, Duration.ofSeconds(5));
+    }
+
+    private AlertEvent event(String poolName, String message) {
+        return AlertEvent.builder()
+                .poolName(poolName)
+                .strategyName("QueueMonitor")
+                .type(AlertEvent.Type.FIRED)
+                .level(AlertLevel.WARN)
+                .message(message)
+                .suggestedAction("none")
+                .timestamp(LocalDateTime.now())
+                .extendedData(Map.of("queueSize", 42, "utilization", 0.5))
+                .build();
+    }
+}
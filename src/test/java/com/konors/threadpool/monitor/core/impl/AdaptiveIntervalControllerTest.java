@@ -0,0 +1,84 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 自适应监控频率控制器测试
+ */
+class AdaptiveIntervalControllerTest {
+
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final AdaptiveIntervalController controller = new AdaptiveIntervalController(1000, 100, 10_000);
+
+    @Test
+    void idlePoolRelaxesGraduallyToMaximum() {
+        assertEquals(1500, controller.update("pool", 100, status(0, 0, 100)));
+        assertEquals(2250, controller.update("pool", 100, status(0, 0, 100)));
+        for (int i = 0; i < 10; i++) {
+            controller.update("pool", 100, status(0, 0, 100));
+        }
+        assertEquals(10_000, controller.getIntervalMillis("pool"));
+    }
+
+    @Test
+    void saturatedPoolShrinksImmediately() {
+        controller.update("pool", 100, status(0, 0, 100));
+        controller.update("pool", 100, status(1.0, 90, 10));
+
+        assertTrue(controller.getIntervalMillis("pool") <= 1000);
+    }
+
+    @Test
+    void slowGrowthInLargeBoundedQueueIsLowPressure() {
+        for (int size = 1000; size < 1010; size++) {
+            controller.update("pool", 100, status(0.1, size, 10_000 - size));
+        }
+
+        assertTrue(controller.getIntervalMillis("pool") > 5000, "interval " + controller.getIntervalMillis("pool"));
+    }
+
+    @Test
+    void fastGrowthTowardsCapacityIsHighPressure() {
+        controller.update("pool", 100, status(0.5, 0, 1000));
+        for (int size = 150; size <= 600; size += 150) {
+            controller.update("pool", 100, status(0.5, size, 1000 - size));
+        }
+
+        assertEquals(100, controller.getIntervalMillis("pool"));
+    }
+
+    @Test
+    void jitteryUnboundedQueueDoesNotPinMinimumInterval() {
+        for (int i = 0; i < 20; i++) {
+            controller.update("pool", 100, status(0.1, i % 2 == 0 ? 5000 : 5003, UNBOUNDED));
+        }
+
+        // 只剩利用率 0.1 对应的间隔
+        assertEquals(9010, controller.getIntervalMillis("pool"));
+    }
+
+    @Test
+    void doublingUnboundedQueueIsHighPressure() {
+        controller.update("pool", 100, status(0.5, 10, UNBOUNDED));
+        for (int size = 20; size <= 640; size *= 2) {
+            controller.update("pool", 100, status(0.5, size, UNBOUNDED));
+        }
+
+        assertTrue(controller.getIntervalMillis("pool") < 1000, "interval " + controller.getIntervalMillis("pool"));
+    }
+
+    private static ThreadPoolStatus status(double utilization, int queueSize, int remainingCapacity) {
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setUtilization(utilization);
+        status.setMaximumPoolSize(4);
+        status.setQueueSize(queueSize);
+        status.setQueueRemainingCapacity(remainingCapacity);
+        status.setQueueUtilization(remainingCapacity == UNBOUNDED
+                ? 0.0 : (double) queueSize / (queueSize + remainingCapacity));
+        return status;
+    }
+}
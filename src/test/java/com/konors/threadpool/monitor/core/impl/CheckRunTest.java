@@ -0,0 +1,74 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 检查共享游标测试
+ */
+class CheckRunTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final List<PoolExecutionPlan.Check> checks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            DefaultMonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("pool-" + i, executor, 0);
+            checks.add(PoolExecutionPlan.build(pool, List.of(), List.of()).getFullCheck());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void claimsInPriorityOrderUntilExhausted() {
+        CheckRun run = new CheckRun(checks, CheckRun.NO_DEADLINE);
+        for (PoolExecutionPlan.Check expected : checks) {
+            assertSame(expected, run.claim());
+        }
+        assertNull(run.claim());
+        assertTrue(run.drainUnclaimed().isEmpty());
+        assertFalse(run.defersChecks());
+    }
+
+    @Test
+    void exhaustedBudgetLeavesOnlyLowestPriorityChecks() {
+        CheckRun run = new CheckRun(checks, System.nanoTime() + TimeUnit.SECONDS.toNanos(10));
+        assertSame(checks.get(0), run.claim());
+        assertSame(checks.get(1), run.claim());
+
+        CheckRun expired = new CheckRun(checks, System.nanoTime() - 1);
+        assertTrue(expired.defersChecks());
+        assertNull(expired.claim());
+        assertEquals(checks, expired.drainUnclaimed());
+
+        assertEquals(checks.subList(2, 5), run.drainUnclaimed());
+        assertNull(run.claim());
+    }
+
+    @Test
+    void cancelledRunStopsClaimingAndDrainsOnce() {
+        CheckRun run = new CheckRun(checks, CheckRun.NO_DEADLINE);
+        run.claim();
+        assertTrue(run.cancel());
+        assertFalse(run.cancel());
+
+        assertNull(run.claim());
+        assertEquals(4, run.drainUnclaimed().size());
+        assertTrue(run.drainUnclaimed().isEmpty());
+    }
+}
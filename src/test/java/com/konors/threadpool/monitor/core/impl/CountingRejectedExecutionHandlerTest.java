@@ -0,0 +1,47 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 计数拒绝策略测试
+ */
+class CountingRejectedExecutionHandlerTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.DiscardPolicy());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void installCountsRejectionsAndUninstallRestoresDelegate() {
+        RejectedExecutionHandler original = executor.getRejectedExecutionHandler();
+        assertTrue(CountingRejectedExecutionHandler.install(executor));
+        assertFalse(CountingRejectedExecutionHandler.install(executor));
+
+        executor.shutdown();
+        executor.execute(() -> { });
+        executor.execute(() -> { });
+
+        CountingRejectedExecutionHandler counting = CountingRejectedExecutionHandler.of(executor);
+        assertNotNull(counting);
+        assertSame(original, counting.getDelegate());
+        assertEquals(2, counting.getRejectedCount());
+        assertEquals(2, counting.getRejectedCount(Duration.ofMinutes(1)));
+
+        CountingRejectedExecutionHandler.uninstall(executor);
+        assertSame(original, executor.getRejectedExecutionHandler());
+        assertNull(CountingRejectedExecutionHandler.of(executor));
+    }
+}
@@ -0,0 +1,185 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.factory.DefaultMonitorStrategyFactory;
+import com.konors.threadpool.monitor.core.strategy.BasicMonitorResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控引擎分批检查测试
+ */
+class DefaultAdvancedThreadPoolMonitorBatchTest {
+
+    private final List<ThreadPoolExecutor> executors = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DefaultAdvancedThreadPoolMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (monitor != null) {
+            monitor.shutdown();
+        }
+        executors.forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    @Test
+    void stuckWorkerTimesOutWithoutBlockingOtherChecks() throws Exception {
+        RecordingStrategy strategy = new RecordingStrategy();
+        monitor = monitor(1, Duration.ofMillis(100), strategy, 4);
+
+        List<MonitorStrategy.MonitorResult> results = monitor.performMonitorCheck(null);
+        // 卡住的检查线程的结果被丢弃，其余线程池由调用线程检查完
+        assertEquals(3, results.size());
+        assertEquals(1L, monitor.getMonitorStatistics().getExtendedStats().get("timedOutBatches"));
+
+        release.countDown();
+        Thread.sleep(100);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(1, strategy.count("pool-" + i));
+        }
+    }
+
+    @Test
+    void overrunWithSeveralStuckWorkersCountsOnce() throws Exception {
+        RecordingStrategy strategy = new RecordingStrategy();
+        strategy.blockEveryWorker = true;
+        monitor = monitor(1, 3, Duration.ofMillis(100), strategy, 8);
+
+        monitor.performMonitorCheck(null);
+
+        assertEquals(1L, monitor.getMonitorStatistics().getExtendedStats().get("timedOutBatches"));
+    }
+
+    @Test
+    void concurrentChecksOfSamePoolAreSerialized() throws Exception {
+        RecordingStrategy strategy = new RecordingStrategy();
+        monitor = monitor(100, Duration.ofSeconds(5), strategy, 2);
+
+        Thread other = new Thread(() -> monitor.performMonitorCheck(null));
+        other.start();
+        monitor.performMonitorCheck(null);
+        other.join(5000);
+
+        assertEquals(2, strategy.count("pool-0"));
+        assertEquals(2, strategy.count("pool-1"));
+        assertEquals(1, strategy.maxConcurrency.get());
+    }
+
+    private DefaultAdvancedThreadPoolMonitor monitor(int batchSize, Duration timeout, MonitorStrategy strategy, int pools) {
+        return monitor(batchSize, MonitorConfiguration.createDefault().getMonitorThreadPoolSize(), timeout, strategy, pools);
+    }
+
+    private DefaultAdvancedThreadPoolMonitor monitor(int batchSize, int workers, Duration timeout,
+                                                     MonitorStrategy strategy, int pools) {
+        MonitorConfiguration configuration = MonitorConfiguration.builder()
+                .batchSize(batchSize)
+                .monitorThreadPoolSize(workers)
+                .asyncProcessingTimeout(timeout)
+                .predictiveAlertingEnabled(false)
+                .adaptiveMonitoringEnabled(false)
+                .build();
+        DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor(configuration,
+                new DefaultMonitorStrategyFactory() {
+                    @Override
+                    public List<MonitorStrategy> createDefaultStrategies() {
+                        return List.of(strategy);
+                    }
+
+                    @Override
+                    public List<MonitorStrategy> createStrategiesForThreadPoolType(
+                            MonitorableThreadPool.ThreadPoolType threadPoolType) {
+                        return List.of();
+                    }
+                });
+        for (int i = 0; i < pools; i++) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+            executors.add(executor);
+            // 优先级递减，执行计划按 pool-0..pool-N 排列
+            assertTrue(monitor.registerThreadPool("pool-" + i, executor, pools - i).isSuccess());
+        }
+        return monitor;
+    }
+
+    /**
+     * 记录每个线程池的检查次数和并发数：检查线程上的第一次检查（或每次检查）阻塞直到测试放行，调用线程上的检查稍慢
+     */
+    private class RecordingStrategy implements MonitorStrategy {
+
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        private final AtomicBoolean blocked = new AtomicBoolean();
+        /** 为true时每个检查线程的每次检查都阻塞 */
+        private volatile boolean blockEveryWorker;
+        private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        int count(String poolName) {
+            AtomicInteger count = counts.get(poolName);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public String getStrategyName() {
+            return getName();
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public boolean supports(MonitorableThreadPool threadPool) {
+            return true;
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+            counts.computeIfAbsent(threadPool.getPoolName(), k -> new AtomicInteger()).incrementAndGet();
+            AtomicInteger running = inFlight.computeIfAbsent(threadPool.getPoolName(), k -> new AtomicInteger());
+            maxConcurrency.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+                    Thread.sleep(30);
+                } else if (blockEveryWorker || blocked.compareAndSet(false, true)) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return new BasicMonitorResult(false, AlertLevel.INFO, "ok", "", null);
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+            return monitor(threadPool, null, context);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 带计数器执行器测试：延迟统计包装对调用方不可见，拒绝后计数保持平衡
+ */
+class InstrumentedThreadPoolExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private InstrumentedThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectionHandlerAndQueueSeeOriginalTasks() throws Exception {
+        List<Runnable> rejected = new ArrayList<>();
+        executor = newExecutor((r, e) -> rejected.add(r));
+        executor.setLatencyTrackingEnabled(true);
+        executor.execute(this::awaitRelease);
+        awaitRunning(1);
+
+        Runnable queued = () -> { };
+        Runnable overflow = () -> { };
+        executor.execute(queued);
+        executor.execute(overflow);
+
+        assertEquals(List.of(overflow), rejected);
+        assertSame(queued, executor.getQueue().peek());
+        assertSame(queued, executor.getQueue().iterator().next());
+        assertEquals(1, executor.getQueue().size());
+        assertSame(ArrayBlockingQueue.class, executor.getWorkQueue().getClass());
+        assertSame(executor.getQueue(), executor.getQueue());
+        assertTrue(executor.remove(queued));
+    }
+
+    @Test
+    void workerThreadsAreCountedThroughCallerFactory() throws Exception {
+        ThreadFactory factory = Executors.defaultThreadFactory();
+        executor = new InstrumentedThreadPoolExecutor(3, 3, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), factory);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this::awaitRelease);
+        }
+        awaitRunning(3);
+
+        assertEquals(3, executor.getLiveThreadCount());
+        assertEquals(3, executor.getCreatedThreadCount());
+        assertSame(factory, InstrumentedThreadPoolExecutor.threadFactoryOf(executor));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getLiveThreadCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, executor.getLiveThreadCount());
+        assertEquals(3, executor.getCreatedThreadCount());
+    }
+
+    @Test
+    void handlerGetterReturnsCallerObject() {
+        RejectedExecutionHandler handler = new ThreadPoolExecutor.DiscardPolicy();
+        executor = new InstrumentedThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), handler);
+
+        assertSame(handler, executor.getRejectedExecutionHandler());
+
+        CountingRejectedExecutionHandler.install(executor);
+        assertTrue(executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler);
+        CountingRejectedExecutionHandler.uninstall(executor);
+        assertSame(handler, executor.getRejectedExecutionHandler());
+    }
+
+    @Test
+    void discardedTasksAreNotCountedAsSubmitted() throws Exception {
+        executor = newExecutor(new ThreadPoolExecutor.DiscardPolicy());
+        executor.execute(this::awaitRelease);
+        awaitRunning(1);
+        executor.execute(() -> { });
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> { });
+        }
+        assertEquals(2, executor.getSubmittedTaskCount());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(executor.getSubmittedTaskCount(), executor.getFinishedTaskCount());
+    }
+
+    @Test
+    void abortedTasksAreNotCountedAsSubmitted() throws Exception {
+        executor = newExecutor(new ThreadPoolExecutor.AbortPolicy());
+        executor.execute(this::awaitRelease);
+        awaitRunning(1);
+        executor.execute(() -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(2, executor.getSubmittedTaskCount());
+    }
+
+    private InstrumentedThreadPoolExecutor newExecutor(RejectedExecutionHandler handler) {
+        return new InstrumentedThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), handler);
+    }
+
+    private void awaitRunning(int running) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getRunningTaskCount() < running && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(running, executor.getRunningTaskCount());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
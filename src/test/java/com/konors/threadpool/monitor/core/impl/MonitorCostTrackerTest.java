@@ -0,0 +1,74 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.metrics.CheckCost;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控自身开销统计测试
+ */
+class MonitorCostTrackerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private final MonitorCostTracker tracker = new MonitorCostTracker();
+
+    @Test
+    void aggregatesPerStrategyAndPerPool() {
+        tracker.register("a");
+        tracker.register("b");
+        tracker.register("idle");
+        tracker.get("a").record("queue", MILLI);
+        tracker.get("a").record("slow", 50 * MILLI);
+        tracker.get("b").record("queue", 3 * MILLI);
+
+        assertEquals(2, tracker.strategyPercentiles().get("queue").getCount());
+        assertEquals(1, tracker.strategyPercentiles().get("slow").getCount());
+        assertEquals(2, tracker.poolPercentiles().get("a").getCount());
+        // 没有记录的线程池不出现
+        assertFalse(tracker.poolPercentiles().containsKey("idle"));
+    }
+
+    @Test
+    void mostExpensiveChecksAreOrderedByTotalTime() {
+        tracker.register("a");
+        tracker.register("b");
+        for (int i = 0; i < 10; i++) {
+            tracker.get("a").record("queue", 2 * MILLI);
+        }
+        tracker.get("b").record("slow", 5 * MILLI);
+        tracker.get("b").record("slow", 9 * MILLI);
+
+        List<CheckCost> top = tracker.mostExpensiveChecks(2);
+        assertEquals(2, top.size());
+        assertEquals("a", top.get(0).getPoolName());
+        assertEquals(10, top.get(0).getCount());
+        assertEquals(20.0, top.get(0).getTotalMillis(), 1e-9);
+        assertEquals("slow", top.get(1).getStrategyName());
+        assertEquals(7.0, top.get(1).getAverageMillis(), 1e-9);
+        assertEquals(9.0, top.get(1).getMaxMillis(), 1e-9);
+        assertEquals(1, tracker.mostExpensiveChecks(1).size());
+    }
+
+    @Test
+    void removedPoolsAndStrategiesAreDropped() {
+        tracker.register("a");
+        tracker.register("b");
+        tracker.get("a").record("queue", MILLI);
+        tracker.get("b").record("queue", MILLI);
+        tracker.get("b").record("slow", MILLI);
+
+        tracker.removePool("a");
+        tracker.removeStrategy("slow");
+
+        assertNull(tracker.get("a"));
+        assertFalse(tracker.strategyPercentiles().containsKey("slow"));
+        List<CheckCost> checks = tracker.mostExpensiveChecks(10);
+        assertEquals(1, checks.size());
+        assertEquals("b", checks.get(0).getPoolName());
+        assertEquals("queue", checks.get(0).getStrategyName());
+    }
+}
@@ -0,0 +1,134 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.AdvancedThreadPoolMonitor;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.factory.DefaultMonitorStrategyFactory;
+import com.konors.threadpool.monitor.core.strategy.BasicMonitorResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控统计测试：并发检查不丢失计数，告警线程池数按结果增量维护
+ */
+class MonitorStatisticsTest {
+
+    private final List<ThreadPoolExecutor> executors = new ArrayList<>();
+    private DefaultAdvancedThreadPoolMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        MonitorConfiguration configuration = MonitorConfiguration.builder()
+                .predictiveAlertingEnabled(false)
+                .adaptiveMonitoringEnabled(false)
+                .build();
+        monitor = new DefaultAdvancedThreadPoolMonitor(configuration, new DefaultMonitorStrategyFactory() {
+            @Override
+            public List<MonitorStrategy> createDefaultStrategies() {
+                return List.of(new AlertingStrategy());
+            }
+
+            @Override
+            public List<MonitorStrategy> createStrategiesForThreadPoolType(
+                    MonitorableThreadPool.ThreadPoolType threadPoolType) {
+                return List.of();
+            }
+        });
+        for (String name : List.of("alerting", "quiet-1", "quiet-2")) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+            executors.add(executor);
+            assertTrue(monitor.registerThreadPool(name, executor).isSuccess());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+        executors.forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    @Test
+    void concurrentChecksDoNotLoseCounts() throws Exception {
+        int threads = 8;
+        int checksPerThread = 25;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < checksPerThread; i++) {
+                    monitor.performMonitorCheck(null);
+                }
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        AdvancedThreadPoolMonitor.MonitorStatistics statistics = monitor.getMonitorStatistics();
+        assertEquals(threads * checksPerThread, statistics.getTotalMonitorCycles());
+        assertEquals(threads * checksPerThread, statistics.getTotalAlerts());
+        assertEquals(threads * checksPerThread, statistics.getCycleDurationPercentiles().getCount());
+    }
+
+    @Test
+    void alertingPoolsFollowLatestResults() {
+        AdvancedThreadPoolMonitor.MonitorStatistics statistics = monitor.getMonitorStatistics();
+        monitor.performMonitorCheck(null);
+
+        assertEquals(3, statistics.getTotalRegisteredPools());
+        assertEquals(1, statistics.getAlertingPools());
+        assertEquals(3, statistics.getHealthyPools());
+
+        monitor.unregisterThreadPool("alerting");
+        assertEquals(0, statistics.getAlertingPools());
+        assertEquals(2, statistics.getTotalRegisteredPools());
+    }
+
+    /**
+     * 只对名为 alerting 的线程池告警
+     */
+    private static class AlertingStrategy implements MonitorStrategy {
+
+        @Override
+        public String getName() {
+            return "alerting";
+        }
+
+        @Override
+        public String getStrategyName() {
+            return getName();
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public boolean supports(MonitorableThreadPool threadPool) {
+            return true;
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+            boolean alert = "alerting".equals(threadPool.getPoolName());
+            return new BasicMonitorResult(alert, alert ? AlertLevel.WARN : AlertLevel.INFO, "", "", null);
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+            return monitor(threadPool, null, context);
+        }
+    }
+}
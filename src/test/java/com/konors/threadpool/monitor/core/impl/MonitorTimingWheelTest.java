@@ -0,0 +1,76 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控调度时间轮测试
+ */
+class MonitorTimingWheelTest {
+
+    private final MonitorTimingWheel wheel = new MonitorTimingWheel(10, 16);
+
+    @Test
+    void firesEachTimeoutOnItsOwnInterval() {
+        wheel.schedule("pool", "fast", 30, 30);
+        wheel.schedule("pool", "slow", 50, 50);
+
+        List<String> fired = advance(0, 10);
+
+        assertEquals(List.of("3:fast", "5:slow", "6:fast", "9:fast", "10:slow"), fired);
+    }
+
+    @Test
+    void cancelledTimeoutStopsFiring() {
+        MonitorTimingWheel.Timeout timeout = wheel.schedule("pool", "check", 20, 20);
+        assertEquals(List.of("2:check"), advance(0, 3));
+
+        timeout.cancel();
+        assertEquals(List.of(), advance(4, 10));
+    }
+
+    @Test
+    void shorterIntervalTakesEffectBeforeNextDeadline() {
+        MonitorTimingWheel.Timeout timeout = wheel.schedule("pool", "check", 100, 100);
+        advance(0, 1);
+
+        wheel.reschedule(timeout, 20);
+        assertEquals(List.of("3:check", "5:check"), advance(2, 5));
+        assertEquals(20, timeout.getIntervalMillis());
+    }
+
+    @Test
+    void longerIntervalTakesEffectAfterNextFiring() {
+        MonitorTimingWheel.Timeout timeout = wheel.schedule("pool", "check", 20, 20);
+        advance(0, 1);
+
+        wheel.reschedule(timeout, 50);
+        assertEquals(List.of("2:check", "7:check"), advance(2, 7));
+    }
+
+    @Test
+    void lagBeyondOneRevolutionFiresOnce() {
+        wheel.schedule("pool", "check", 20, 20);
+        advance(0, 0);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(100, timeout -> fired.add(timeout.getStrategyName()));
+        assertEquals(List.of("check"), fired);
+
+        // 错过的触发点被跳过，相位保持不变
+        assertEquals(List.of("102:check"), advance(101, 102));
+    }
+
+    private List<String> advance(long fromTick, long toTick) {
+        List<String> fired = new ArrayList<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            long current = tick;
+            wheel.advanceTo(tick, timeout -> fired.add(current + ":" + timeout.getStrategyName()));
+        }
+        return fired;
+    }
+}
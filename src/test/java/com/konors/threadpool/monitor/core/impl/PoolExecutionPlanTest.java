@@ -0,0 +1,135 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.strategy.BasicMonitorResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 线程池执行计划测试
+ */
+class PoolExecutionPlanTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("pool", executor, 0);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void typeStrategyOverridesGlobalStrategyWithSameName() {
+        StubStrategy global = new StubStrategy("queue", 10, true);
+        StubStrategy specific = new StubStrategy("queue", 20, true);
+
+        PoolExecutionPlan plan = PoolExecutionPlan.build(pool,
+                List.of(global, new StubStrategy("utilization", 30, true)), List.of(specific));
+
+        assertEquals(2, plan.size());
+        assertSame(specific, plan.getStrategy(plan.indexOf("queue")));
+    }
+
+    @Test
+    void filtersUnsupportedAndSortsByPriority() {
+        StubStrategy low = new StubStrategy("low", 1, true);
+        StubStrategy high = new StubStrategy("high", 100, true);
+        StubStrategy unsupported = new StubStrategy("unsupported", 50, false);
+
+        PoolExecutionPlan plan = PoolExecutionPlan.build(pool, List.of(low, unsupported, high), List.of());
+
+        assertEquals(List.of(high, low), plan.getStrategies());
+        assertEquals(-1, plan.indexOf("unsupported"));
+        assertEquals(0b11L, plan.getSamplingMask());
+        assertEquals(List.of(low), plan.checkFor(0b10L).strategies);
+    }
+
+    @Test
+    void rejectsMoreStrategiesThanMaskBits() {
+        List<MonitorStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < PoolExecutionPlan.MAX_STRATEGIES; i++) {
+            strategies.add(new StubStrategy("s" + i, i, true));
+        }
+        assertEquals(PoolExecutionPlan.MAX_STRATEGIES, PoolExecutionPlan.build(pool, strategies, List.of()).size());
+
+        strategies.add(new StubStrategy("overflow", 0, true));
+        assertThrows(IllegalStateException.class, () -> PoolExecutionPlan.build(pool, strategies, List.of()));
+    }
+
+    @Test
+    void monitorRejectsStrategyBeyondLimitAndKeepsPlan() {
+        DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor();
+        try {
+            assertTrue(monitor.registerThreadPool(pool).isSuccess());
+            int before = monitor.performMonitorCheck(null).size();
+            for (int i = 0; before + i < PoolExecutionPlan.MAX_STRATEGIES; i++) {
+                monitor.addMonitorStrategy(new StubStrategy("s" + i, i, true));
+            }
+
+            assertThrows(IllegalStateException.class,
+                    () -> monitor.addMonitorStrategy(new StubStrategy("overflow", 0, true)));
+            assertEquals(PoolExecutionPlan.MAX_STRATEGIES, monitor.performMonitorCheck(null).size());
+            assertFalse(monitor.removeMonitorStrategy("overflow"));
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    /**
+     * 只有名称、优先级和适用性的策略
+     */
+    private static class StubStrategy implements MonitorStrategy {
+
+        private final String name;
+        private final int priority;
+        private final boolean supported;
+
+        StubStrategy(String name, int priority, boolean supported) {
+            this.name = name;
+            this.priority = priority;
+            this.supported = supported;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getStrategyName() {
+            return name;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public boolean supports(MonitorableThreadPool threadPool) {
+            return supported;
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, ThreadPoolStatus status, MonitorContext context) {
+            return new BasicMonitorResult(false, AlertLevel.INFO, name, "", null);
+        }
+
+        @Override
+        public MonitorResult monitor(MonitorableThreadPool threadPool, MonitorContext context) {
+            return monitor(threadPool, null, context);
+        }
+    }
+}
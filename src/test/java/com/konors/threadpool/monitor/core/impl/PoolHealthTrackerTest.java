@@ -0,0 +1,67 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 线程池健康计数测试
+ */
+class PoolHealthTrackerTest {
+
+    private final PoolHealthTracker tracker = new PoolHealthTracker();
+
+    @Test
+    void countsPoolOnceWhileAnyStrategyAlerts() {
+        tracker.register("pool");
+        PoolHealthTracker.PoolHealth health = tracker.get("pool");
+
+        health.recordStrategy("queue", true);
+        health.recordStrategy("utilization", true);
+        assertEquals(1, tracker.getAlertingPools());
+
+        // 只检查部分策略时，其他策略之前的告警仍然有效
+        health.recordStrategy("queue", false);
+        assertEquals(1, tracker.getAlertingPools());
+        health.recordStrategy("utilization", false);
+        assertEquals(0, tracker.getAlertingPools());
+    }
+
+    @Test
+    void unhealthyCountChangesOnlyOnTransition() {
+        tracker.register("a");
+        tracker.register("b");
+
+        tracker.get("a").recordHealthy(false);
+        tracker.get("a").recordHealthy(false);
+        tracker.get("b").recordHealthy(true);
+        assertEquals(1, tracker.getUnhealthyPools());
+
+        tracker.get("a").recordHealthy(true);
+        assertEquals(0, tracker.getUnhealthyPools());
+    }
+
+    @Test
+    void removingPoolOrStrategyReleasesCounts() {
+        tracker.register("a");
+        tracker.register("b");
+        PoolHealthTracker.PoolHealth a = tracker.get("a");
+        a.recordHealthy(false);
+        a.recordStrategy("queue", true);
+        tracker.get("b").recordStrategy("queue", true);
+        assertEquals(2, tracker.getAlertingPools());
+
+        tracker.removePool("a");
+        assertEquals(0, tracker.getUnhealthyPools());
+        assertEquals(1, tracker.getAlertingPools());
+        // 已移除线程池的迟到结果不再影响计数
+        a.recordStrategy("utilization", true);
+        a.recordHealthy(false);
+        assertEquals(1, tracker.getAlertingPools());
+        assertEquals(0, tracker.getUnhealthyPools());
+        assertNull(tracker.get("a"));
+
+        tracker.removeStrategy("queue");
+        assertEquals(0, tracker.getAlertingPools());
+    }
+}
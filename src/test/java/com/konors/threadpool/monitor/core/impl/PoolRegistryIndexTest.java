@@ -0,0 +1,108 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool.ThreadPoolType;
+import com.konors.threadpool.monitor.core.abstraction.PoolPage;
+import com.konors.threadpool.monitor.core.abstraction.PoolQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 已注册线程池索引测试
+ */
+class PoolRegistryIndexTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void filtersByTypeAndTagsInNameOrder() {
+        PoolRegistryIndex index = PoolRegistryIndex.EMPTY
+                .with(pool("orders", ThreadPoolType.FIXED, Map.of("team", "payments", "tier", "1")))
+                .with(pool("billing", ThreadPoolType.FIXED, Map.of("team", "payments")))
+                .with(pool("search", ThreadPoolType.CACHED, Map.of("team", "discovery", "tier", "1")))
+                .with(pool("audit", ThreadPoolType.FIXED, Map.of()));
+
+        assertEquals(List.of("billing", "orders"), names(index.query(PoolQuery.builder()
+                .tags(Map.of("team", "payments")).build())));
+        assertEquals(List.of("orders"), names(index.query(PoolQuery.builder()
+                .type(ThreadPoolType.FIXED).tags(tagKey("tier")).build())));
+        assertEquals(List.of("audit", "billing", "orders"), names(index.query(PoolQuery.builder()
+                .type(ThreadPoolType.FIXED).build())));
+        assertEquals(0, index.query(PoolQuery.builder().tags(Map.of("team", "unknown")).build()).getTotal());
+    }
+
+    @Test
+    void paginatesWithTotal() {
+        PoolRegistryIndex index = PoolRegistryIndex.EMPTY;
+        for (int i = 0; i < 5; i++) {
+            index = index.with(pool("pool-" + i, ThreadPoolType.FIXED, Map.of("team", "a")));
+        }
+
+        PoolPage all = index.query(PoolQuery.builder().offset(1).limit(2).build());
+        assertEquals(5, all.getTotal());
+        assertEquals(List.of("pool-1", "pool-2"), all.getPoolNames());
+
+        PoolPage filtered = index.query(PoolQuery.builder().tags(Map.of("team", "a")).offset(4).limit(2).build());
+        assertEquals(5, filtered.getTotal());
+        assertEquals(List.of("pool-4"), filtered.getPoolNames());
+    }
+
+    @Test
+    void unregisteredPoolsLeaveIndex() {
+        PoolRegistryIndex index = PoolRegistryIndex.EMPTY
+                .with(pool("a", ThreadPoolType.FIXED, Map.of("team", "x")))
+                .with(pool("b", ThreadPoolType.FIXED, Map.of("team", "x")))
+                .without("a");
+
+        assertEquals(List.of("b"), names(index.query(PoolQuery.builder().tags(Map.of("team", "x")).build())));
+    }
+
+    @Test
+    void tagsCannotChangeWhileRegistered() {
+        DefaultMonitorableThreadPool pool = pool("orders", ThreadPoolType.FIXED, Map.of("team", "payments"));
+        DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor();
+        try {
+            assertTrue(monitor.registerThreadPool(pool).isSuccess());
+            assertThrows(IllegalStateException.class, () -> pool.addBusinessTag("team", "search"));
+            assertThrows(IllegalStateException.class, () -> pool.removeBusinessTag("team"));
+
+            assertTrue(monitor.unregisterThreadPool("orders"));
+            pool.addBusinessTag("team", "search");
+            assertTrue(monitor.registerThreadPool(pool).isSuccess());
+            assertEquals(List.of("orders"), names(monitor.queryThreadPools(PoolQuery.builder()
+                    .tags(Map.of("team", "search")).build())));
+            assertEquals(0, monitor.queryThreadPools(PoolQuery.builder()
+                    .tags(Map.of("team", "payments")).build()).getTotal());
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    private DefaultMonitorableThreadPool pool(String name, ThreadPoolType type, Map<String, String> tags) {
+        return new DefaultMonitorableThreadPool(name, executor, type, null, 0, tags, true);
+    }
+
+    private static Map<String, String> tagKey(String key) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put(key, null);
+        return tags;
+    }
+
+    private static List<String> names(PoolPage page) {
+        return page.getPoolNames();
+    }
+}
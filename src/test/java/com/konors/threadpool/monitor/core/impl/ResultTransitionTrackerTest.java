@@ -0,0 +1,77 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.strategy.BasicMonitorResult;
+import com.konors.threadpool.monitor.core.strategy.ResultSchema;
+import com.konors.threadpool.monitor.core.strategy.ResultSlot;
+import com.konors.threadpool.monitor.core.strategy.ResultSlots;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控结果变化跟踪器测试
+ */
+class ResultTransitionTrackerTest {
+
+    private static final ResultSchema SCHEMA = new ResultSchema();
+    private static final int UTILIZATION = SCHEMA.doubleField("utilization");
+    private static final int QUEUE_SIZE = SCHEMA.longField("queueSize");
+    private static final int SAMPLES = SCHEMA.counterField("samples");
+    private static final ResultSlot.MessageFormatter MESSAGE = slot -> "ok";
+
+    private final ResultTransitionTracker tracker = new ResultTransitionTracker(0.1);
+    private final ResultSlots slots = new ResultSlots(SCHEMA, "test");
+    private final MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), null);
+
+    @Test
+    void countersDoNotCauseTransitions() {
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.5, 10, 1)));
+        for (int samples = 2; samples <= 10; samples++) {
+            assertFalse(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.5, 10, samples)));
+        }
+    }
+
+    @Test
+    void gaugesAreComparedWithLastEmittedValue() {
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.5, 100, 1)));
+        assertFalse(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.55, 105, 2)));
+        // 缓慢漂移累计超过滞回带
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.65, 105, 3)));
+        assertFalse(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.65, 109, 4)));
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.65, 120, 5)));
+    }
+
+    @Test
+    void levelChangeIsTransition() {
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.INFO, 0.5, 10, 1)));
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.WARN, 0.5, 10, 2)));
+        assertFalse(tracker.isTransition("pool", "test", slot(AlertLevel.WARN, 0.5, 10, 3)));
+
+        tracker.removePool("pool");
+        assertTrue(tracker.isTransition("pool", "test", slot(AlertLevel.WARN, 0.5, 10, 4)));
+    }
+
+    @Test
+    void plainResultsCompareNumericExtendedData() {
+        assertTrue(tracker.isTransition("pool", "custom", plain(0.5)));
+        assertFalse(tracker.isTransition("pool", "custom", plain(0.55)));
+        assertTrue(tracker.isTransition("pool", "custom", plain(0.7)));
+    }
+
+    private ResultSlot slot(AlertLevel level, double utilization, long queueSize, long samples) {
+        return slots.acquire("pool", context)
+                .reset(level != AlertLevel.INFO, level, MESSAGE, "")
+                .putDouble(UTILIZATION, utilization)
+                .putLong(QUEUE_SIZE, queueSize)
+                .putLong(SAMPLES, samples);
+    }
+
+    private static BasicMonitorResult plain(double utilization) {
+        return new BasicMonitorResult(false, AlertLevel.INFO, "ok", "", Map.of("utilization", utilization));
+    }
+}
@@ -0,0 +1,98 @@
+package com.konors.threadpool.monitor.core.impl;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 状态读取测试：快照读取不访问线程池，同一线程池的并发按需采集只执行一次
+ */
+class StatusSnapshotReadTest {
+
+    private final CountingExecutor executor = new CountingExecutor();
+    private final DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor(
+            MonitorConfiguration.builder()
+                    .predictiveAlertingEnabled(false)
+                    .adaptiveMonitoringEnabled(false)
+                    .build());
+
+    @AfterEach
+    void tearDown() {
+        executor.release.countDown();
+        monitor.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void batchReadServesPublishedSnapshot() {
+        assertTrue(monitor.registerThreadPool("pool", executor).isSuccess());
+        int collections = executor.collections.get();
+
+        Map<String, ThreadPoolStatus> statuses = monitor.getBatchThreadPoolStatus(List.of("pool", "missing"));
+
+        assertEquals(1, statuses.size());
+        assertSame(monitor.getStatusSnapshot(false).getStatuses().get("pool"), statuses.get("pool"));
+        assertEquals(collections, executor.collections.get());
+    }
+
+    @Test
+    void concurrentFreshReadsOfSamePoolShareOneCollection() throws Exception {
+        assertTrue(monitor.registerThreadPool("pool", executor).isSuccess());
+        int collections = executor.collections.get();
+        executor.blocking = true;
+
+        CompletableFuture<Optional<ThreadPoolStatus>> first =
+                CompletableFuture.supplyAsync(() -> monitor.getThreadPoolStatus("pool"));
+        assertTrue(executor.entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<ThreadPoolStatus>> second =
+                CompletableFuture.supplyAsync(() -> monitor.getThreadPoolStatus("pool"));
+        Thread.sleep(100);
+        executor.release.countDown();
+
+        ThreadPoolStatus status = first.get(5, TimeUnit.SECONDS).orElseThrow();
+        assertSame(status, second.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(collections + 1, executor.collections.get());
+    }
+
+    /**
+     * 记录状态采集次数，可在采集时阻塞
+     */
+    private static class CountingExecutor extends ThreadPoolExecutor {
+
+        private final AtomicInteger collections = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        CountingExecutor() {
+            super(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        }
+
+        @Override
+        public int getActiveCount() {
+            collections.incrementAndGet();
+            if (blocking) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getActiveCount();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分组汇总测试
+ */
+class GroupRollupStoreTest {
+
+    private static final String PAYMENTS = GroupRollupStore.tagGroup("team", "payments");
+    private static final String FIXED = GroupRollupStore.typeGroup("FIXED");
+
+    private final GroupRollupStore store = new GroupRollupStore();
+
+    @Test
+    void appliesOnlyDeltasFromEachSample() {
+        store.register("orders", List.of(PAYMENTS, FIXED));
+        store.register("billing", List.of(PAYMENTS));
+
+        store.record("orders", status(10, 2, 1, 0.5));
+        store.record("billing", status(5, 1, 0, 0.25));
+        store.record("orders", status(4, 3, 3, 0.75));
+
+        GroupAggregate payments = store.getAggregate(PAYMENTS).orElseThrow();
+        assertEquals(2, payments.getPoolCount());
+        assertEquals(9, payments.getQueuedTasks());
+        assertEquals(4, payments.getActiveThreads());
+        assertEquals(3, payments.getRejectedTasks());
+        assertEquals(0.75, payments.getMaxUtilization(), 1e-9);
+        assertEquals(4, store.getAggregate(FIXED).orElseThrow().getQueuedTasks());
+    }
+
+    @Test
+    void maxUtilizationFallsWhenBusiestPoolCalmsDown() {
+        store.register("a", List.of(PAYMENTS));
+        store.register("b", List.of(PAYMENTS));
+        store.record("a", status(0, 0, 0, 0.9));
+        store.record("b", status(0, 0, 0, 0.3));
+
+        store.record("a", status(0, 0, 0, 0.1));
+
+        assertEquals(0.3, store.getAggregate(PAYMENTS).orElseThrow().getMaxUtilization(), 1e-9);
+    }
+
+    @Test
+    void unregisterWithdrawsContributionAndMovesReportingPool() {
+        store.register("b", List.of(PAYMENTS));
+        store.register("a", List.of(PAYMENTS));
+        store.record("a", status(7, 1, 0, 0.8));
+        store.record("b", status(2, 1, 0, 0.2));
+        assertEquals("a", store.getAggregate(PAYMENTS).orElseThrow().getReportingPool());
+
+        store.unregister("a");
+        GroupAggregate payments = store.getAggregate(PAYMENTS).orElseThrow();
+        assertEquals(1, payments.getPoolCount());
+        assertEquals(2, payments.getQueuedTasks());
+        assertEquals(0.2, payments.getMaxUtilization(), 1e-9);
+        assertEquals("b", payments.getReportingPool());
+
+        // 已注销线程池的迟到采样不再计入
+        store.record("a", status(100, 1, 0, 1.0));
+        assertEquals(2, store.getAggregate(PAYMENTS).orElseThrow().getQueuedTasks());
+
+        store.unregister("b");
+        assertTrue(store.getAggregate(PAYMENTS).isEmpty());
+    }
+
+    private static ThreadPoolStatus status(int queued, int active, long rejected, double utilization) {
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setQueueSize(queued);
+        status.setActiveCount(active);
+        status.setRejectedTaskCount(rejected);
+        status.setUtilization(utilization);
+        return status;
+    }
+}
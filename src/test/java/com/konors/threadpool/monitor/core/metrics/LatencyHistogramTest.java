@@ -0,0 +1,112 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 对数线性直方图与滑动窗口直方图测试
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void bucketRepresentativeStaysWithinRelativeError() {
+        for (long value = 0; value < 16; value++) {
+            assertEquals(value, LatencyHistogram.valueAt(LatencyHistogram.indexOf(value)));
+        }
+        for (long value = 16; value < (1L << 41); value = value * 3 / 2 + 7) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            double error = Math.abs(LatencyHistogram.valueAt(index) - value) / (double) value;
+            assertTrue(error <= 0.0625, "value " + value + " error " + error);
+        }
+    }
+
+    @Test
+    void percentilesOfUniformValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1_000_000);
+        }
+        LatencyPercentiles percentiles = LatencyPercentiles.from(histogram.snapshot());
+
+        assertEquals(1000, percentiles.getCount());
+        assertEquals(500, percentiles.getP50Millis(), 500 * 0.0625);
+        assertEquals(950, percentiles.getP95Millis(), 950 * 0.0625);
+        assertEquals(990, percentiles.getP99Millis(), 990 * 0.0625);
+        assertEquals(1000, percentiles.getMaxMillis(), 0.0);
+        assertTrue(percentiles.getP999Millis() <= percentiles.getMaxMillis());
+    }
+
+    @Test
+    void negativeAndHugeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getTotalCount());
+        assertEquals(0, snapshot.getValueAtQuantile(0.5));
+        assertEquals((1L << 42) - 1, snapshot.getMaxValue());
+        assertEquals(snapshot.getMaxValue(), snapshot.getValueAtQuantile(1.0), snapshot.getMaxValue() * 0.0625);
+    }
+
+    @Test
+    void windowDropsExpiredSlots() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(Duration.ofSeconds(10), 10);
+        long second = Duration.ofSeconds(1).toNanos();
+        histogram.record(100, 0);
+        histogram.record(200, 5 * second);
+
+        assertEquals(2, histogram.snapshot(9 * second).getTotalCount());
+        assertEquals(1, histogram.snapshot(12 * second).getTotalCount());
+        assertEquals(0, histogram.snapshot(20 * second).getTotalCount());
+
+        // 槽被新的时间段复用时先清空
+        histogram.record(300, 10 * second);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(10 * second);
+        assertEquals(2, snapshot.getTotalCount());
+        assertEquals(300, snapshot.getMaxValue());
+    }
+
+    @Test
+    void shorterWindowOnlyMergesRecentSlots() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(Duration.ofSeconds(60), 12);
+        long second = Duration.ofSeconds(1).toNanos();
+        histogram.record(1_000, 0);
+        histogram.record(2_000, 31 * second);
+
+        assertEquals(2, histogram.snapshot(34 * second).getTotalCount());
+        assertEquals(1, histogram.snapshot(Duration.ofSeconds(5), 34 * second).getTotalCount());
+        assertEquals(1, histogram.snapshot(Duration.ofSeconds(5), 36 * second).getTotalCount());
+        assertEquals(0, histogram.snapshot(Duration.ofSeconds(5), 41 * second).getTotalCount());
+        assertEquals(1, histogram.snapshot(Duration.ofSeconds(10), 41 * second).getTotalCount());
+    }
+
+    @Test
+    void oneSlotWindowStillSeesPreviousSlotAfterBoundary() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(Duration.ofSeconds(60), 12);
+        long second = Duration.ofSeconds(1).toNanos();
+        for (int i = 0; i < 20; i++) {
+            histogram.record(1_000, 9 * second + i);
+        }
+
+        // 刚跨过 10 秒的槽边界，当前槽为空，上一个槽的样本仍参与统计
+        assertEquals(20, histogram.snapshot(Duration.ofSeconds(5), 10 * second + 1).getTotalCount());
+        assertEquals(20, histogram.snapshot(Duration.ofSeconds(5), 14 * second).getTotalCount());
+    }
+
+    @Test
+    void windowWorksWithNegativeNanoTime() {
+        WindowedLatencyHistogram histogram = new WindowedLatencyHistogram(Duration.ofSeconds(10), 10);
+        long second = Duration.ofSeconds(1).toNanos();
+        long base = -1_000 * second - 1;
+        histogram.record(100, base);
+        histogram.record(200, base + second);
+
+        assertEquals(2, histogram.snapshot(base + 2 * second).getTotalCount());
+        assertEquals(0, histogram.snapshot(base + 30 * second).getTotalCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 历史指标环形缓冲区测试
+ */
+class MetricsHistoryBufferTest {
+
+    @Test
+    void keepsMostRecentSamplesInOrder() {
+        MetricsHistoryBuffer buffer = new MetricsHistoryBuffer(4, 0);
+        for (int i = 1; i <= 6; i++) {
+            buffer.append(i, i, i, i, i, i);
+        }
+
+        MetricsHistory history = buffer.snapshot("pool", 0);
+        assertEquals(6, buffer.getTotalAppended());
+        assertEquals(4, history.getSize());
+        assertArrayEquals(new long[]{3, 4, 5, 6}, history.getTimestamps());
+        assertArrayEquals(new long[]{3, 4, 5, 6}, history.getRejectedCounts());
+        assertEquals(5, history.getQueueSizes()[2]);
+    }
+
+    @Test
+    void filtersBySinceAndRetention() {
+        MetricsHistoryBuffer buffer = new MetricsHistoryBuffer(10, TimeUnit.SECONDS.toNanos(60));
+        long now = MetricsHistoryBuffer.epochNanos();
+        buffer.append(now - TimeUnit.SECONDS.toNanos(120), 1, 1, 1, 1, 1);
+        buffer.append(now - TimeUnit.SECONDS.toNanos(30), 2, 2, 2, 2, 2);
+        buffer.append(now, 3, 3, 3, 3, 3);
+
+        assertEquals(2, buffer.snapshot("pool", 0).getSize());
+        assertArrayEquals(new long[]{3}, buffer.snapshot("pool", now - 1).getCompletedCounts());
+    }
+
+    @Test
+    void concurrentReadersNeverSeeTornSamples() throws Exception {
+        MetricsHistoryBuffer buffer = new MetricsHistoryBuffer(8, 0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        Thread writer = new Thread(() -> {
+            for (int v = 1; running.get(); v++) {
+                buffer.append(v, v, v, v, v, v);
+            }
+            done.countDown();
+        });
+        Runnable reader = () -> {
+            while (running.get() && failure.get() == null) {
+                MetricsHistory history = buffer.snapshot("pool", 0);
+                long previous = 0;
+                for (int i = 0; i < history.getSize(); i++) {
+                    long t = history.getTimestamps()[i];
+                    if (history.getActiveCounts()[i] != (int) t || history.getPoolSizes()[i] != (int) t
+                            || history.getQueueSizes()[i] != (int) t || history.getCompletedCounts()[i] != t
+                            || history.getRejectedCounts()[i] != t || t <= previous) {
+                        failure.compareAndSet(null, "torn sample at " + t);
+                    }
+                    previous = t;
+                }
+            }
+            done.countDown();
+        };
+        writer.start();
+        new Thread(reader).start();
+        new Thread(reader).start();
+
+        Thread.sleep(300);
+        running.set(false);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(failure.get(), failure.get());
+        assertTrue(buffer.getTotalAppended() > 8);
+    }
+}
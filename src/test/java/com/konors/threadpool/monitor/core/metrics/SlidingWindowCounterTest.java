@@ -0,0 +1,81 @@
+package com.konors.threadpool.monitor.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 滑动窗口计数器测试
+ */
+class SlidingWindowCounterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void sumsOnlyBucketsInsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+        counter.increment(0);
+        counter.increment(3 * SECOND);
+        counter.increment(3 * SECOND + 1);
+        counter.increment(9 * SECOND);
+
+        assertEquals(4, counter.sum(Duration.ofSeconds(10), 9 * SECOND));
+        assertEquals(3, counter.sum(Duration.ofSeconds(7), 9 * SECOND));
+        assertEquals(1, counter.sum(Duration.ofSeconds(1), 9 * SECOND));
+        // 窗口超过计数器窗口时按计数器窗口计算
+        assertEquals(4, counter.sum(Duration.ofMinutes(1), 9 * SECOND));
+        assertEquals(4, counter.getTotal());
+    }
+
+    @Test
+    void reusedBucketDropsExpiredCount() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+        counter.increment(2 * SECOND);
+        counter.increment(2 * SECOND);
+        counter.increment(12 * SECOND);
+
+        assertEquals(1, counter.sum(Duration.ofSeconds(10), 12 * SECOND));
+        assertEquals(0, counter.sum(Duration.ofSeconds(10), 30 * SECOND));
+        assertEquals(3, counter.getTotal());
+    }
+
+    @Test
+    void worksWithNegativeNanoTime() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+        long base = -1_000 * SECOND - 1;
+        counter.increment(base);
+        counter.increment(base + SECOND);
+
+        assertEquals(2, counter.sum(Duration.ofSeconds(5), base + 2 * SECOND));
+        assertEquals(0, counter.sum(Duration.ofSeconds(5), base + 20 * SECOND));
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofSeconds(10), 10);
+        int threads = 4;
+        int perThread = 10_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(5 * SECOND);
+                }
+                done.countDown();
+            }).start();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(threads * perThread, counter.sum(Duration.ofSeconds(1), 5 * SECOND));
+    }
+
+    @Test
+    void rejectsInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(Duration.ofSeconds(1), 0));
+    }
+}
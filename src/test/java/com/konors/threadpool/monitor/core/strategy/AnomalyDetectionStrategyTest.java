@@ -0,0 +1,101 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 异常检测策略测试
+ */
+class AnomalyDetectionStrategyTest {
+
+    private static final int WARMUP = 6;
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(4, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("anomaly", executor, 0);
+    private final MonitorContext context = MonitorContext.createDefault();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void warmupOnlyLearns() {
+        AnomalyDetectionStrategy strategy = strategy(false);
+        MonitorResult result = strategy.monitor(pool, status(10), context);
+        assertTrue(result.getMessage().contains("baseline started"));
+
+        result = strategy.monitor(pool, status(500), context);
+        assertFalse(result.shouldAlert());
+        assertTrue(result.getMessage().contains("warming up"));
+    }
+
+    @Test
+    void spikeAboveLearnedBaselineAlerts() {
+        AnomalyDetectionStrategy strategy = strategy(false);
+        MonitorResult steady = learnBaseline(strategy);
+        assertFalse(steady.shouldAlert(), steady.getMessage());
+
+        MonitorResult spike = strategy.monitor(pool, status(100), context);
+        assertTrue(spike.shouldAlert());
+        assertEquals(AlertLevel.ERROR, spike.getAlertLevel());
+        assertEquals("queueSize", spike.getExtendedData().get("anomalyMetric"));
+        assertTrue((Double) spike.getExtendedData().get("zScore") > 5);
+    }
+
+    @Test
+    void dropsAlertOnlyWhenEnabled() {
+        AnomalyDetectionStrategy ignoring = strategy(false);
+        learnBaseline(ignoring);
+        assertFalse(ignoring.monitor(pool, status(0), context).shouldAlert());
+
+        MonitorContext other = MonitorContext.createDefault();
+        AnomalyDetectionStrategy detecting = strategy(true);
+        for (int i = 0; i <= WARMUP; i++) {
+            detecting.monitor(pool, status(i % 2 == 0 ? 10 : 12), other);
+        }
+        MonitorResult drop = detecting.monitor(pool, status(0), other);
+        assertTrue(drop.shouldAlert());
+        assertTrue(drop.getMessage().contains("below"));
+    }
+
+    private MonitorResult learnBaseline(AnomalyDetectionStrategy strategy) {
+        MonitorResult result = null;
+        for (int i = 0; i <= WARMUP; i++) {
+            result = strategy.monitor(pool, status(i % 2 == 0 ? 10 : 12), context);
+        }
+        return result;
+    }
+
+    private AnomalyDetectionStrategy strategy(boolean detectDrops) {
+        DefaultStrategyConfig config = DefaultStrategyConfig.createAnomalyDetectionConfig(3.0, 5.0);
+        config.setParameter("warmupSamples", WARMUP);
+        config.setParameter("detectDrops", detectDrops);
+        return new AnomalyDetectionStrategy(config);
+    }
+
+    private static ThreadPoolStatus status(int queueSize) {
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setPoolName("anomaly");
+        status.setMaximumPoolSize(4);
+        status.setActiveCount(2);
+        status.setUtilization(0.5);
+        status.setQueueSize(queueSize);
+        status.setTaskCount(1000);
+        return status;
+    }
+}
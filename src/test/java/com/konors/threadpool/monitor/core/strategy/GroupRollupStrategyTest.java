@@ -0,0 +1,84 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.abstraction.ThreadPoolConfiguration;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.metrics.GroupRollupStore;
+import com.konors.threadpool.monitor.core.metrics.MonitorHistoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分组汇总监控策略测试
+ */
+class GroupRollupStrategyTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MonitorHistoryStore historyStore = new MonitorHistoryStore(10, Duration.ofMinutes(1));
+    private final MonitorContext context = MonitorContext.create(MonitorConfiguration.createDefault(), historyStore);
+    private final MonitorStrategy strategy =
+            new GroupRollupStrategy(DefaultStrategyConfig.createGroupRollupConfig(100, 500));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void onlyReportingPoolAlertsOnGroupTotal() {
+        MonitorableThreadPool a = register("a", "payments", 60);
+        MonitorableThreadPool b = register("b", "payments", 60);
+
+        MonitorResult reporting = strategy.monitor(a, null, context);
+        MonitorResult member = strategy.monitor(b, null, context);
+
+        // 单个线程池都未超过阈值，分组合计超过
+        assertTrue(reporting.shouldAlert());
+        assertEquals(AlertLevel.WARN, reporting.getAlertLevel());
+        assertEquals(120L, reporting.getExtendedData().get("groupQueuedTasks"));
+        assertEquals(2L, reporting.getExtendedData().get("groupPoolCount"));
+        assertTrue(reporting.getMessage().contains("tag:team=payments"));
+        assertFalse(member.shouldAlert());
+        assertNull(member.getExtendedData().get("group"));
+    }
+
+    @Test
+    void criticalThresholdAndTypeGroupsIgnoredByDefault() {
+        MonitorableThreadPool a = register("a", "payments", 300);
+        register("b", "payments", 300);
+        register("c", "search", 1);
+
+        MonitorResult result = strategy.monitor(a, null, context);
+
+        assertEquals(AlertLevel.ERROR, result.getAlertLevel());
+        assertEquals("tag:team=payments", result.getExtendedData().get("group"));
+        assertEquals(600L, result.getExtendedData().get("groupQueuedTasks"));
+    }
+
+    private MonitorableThreadPool register(String name, String team, int queued) {
+        MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapWithTags(name, executor,
+                MonitorableThreadPool.ThreadPoolType.FIXED, ThreadPoolConfiguration.builder().build(), 0,
+                Map.of("team", team));
+        historyStore.register(name, GroupRollupStore.groupsOf(pool));
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setQueueSize(queued);
+        historyStore.record(name, status);
+        return pool;
+    }
+}
@@ -0,0 +1,125 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.InstrumentedThreadPoolExecutor;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 健康检查策略测试
+ */
+class HealthCheckStrategyTest {
+
+    private final MonitorContext context = MonitorContext.createDefault();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void blockedPoolWithQueuedTasksStalls() throws Exception {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        DefaultMonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("blocked", executor, 0);
+        executor.execute(this::awaitRelease);
+        executor.execute(() -> { });
+        HealthCheckStrategy strategy = strategy(false);
+
+        assertFalse(check(strategy, pool).shouldAlert());
+        Thread.sleep(30);
+        MonitorResult result = check(strategy, pool);
+
+        assertTrue(result.shouldAlert());
+        assertEquals(AlertLevel.CRITICAL, result.getAlertLevel());
+        assertFalse(pool.isHealthy());
+    }
+
+    @Test
+    void scheduledPoolHoldingOnlyDelayedTasksIsHealthy() throws Exception {
+        ScheduledThreadPoolExecutor scheduled = new ScheduledThreadPoolExecutor(1);
+        executor = scheduled;
+        DefaultMonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("scheduled", executor, 0);
+        scheduled.schedule(() -> { }, 1, TimeUnit.HOURS);
+        scheduled.scheduleAtFixedRate(() -> { }, 1, 1, TimeUnit.HOURS);
+        HealthCheckStrategy strategy = strategy(false);
+
+        check(strategy, pool);
+        Thread.sleep(30);
+        MonitorResult result = check(strategy, pool);
+
+        assertFalse(result.shouldAlert(), result.getMessage());
+        assertEquals(0L, result.getExtendedData().get("stalledMillis"));
+        assertTrue(pool.isHealthy());
+    }
+
+    @Test
+    void probeTasksAreNotCountedAsWork() throws Exception {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        assertProbesExcluded(DefaultMonitorableThreadPool.wrapFixedThreadPool("plain", executor, 0));
+    }
+
+    @Test
+    void probeTasksAreNotCountedByInstrumentedExecutor() throws Exception {
+        executor = new InstrumentedThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        assertProbesExcluded(DefaultMonitorableThreadPool.wrapFixedThreadPool("instrumented", executor, 0));
+    }
+
+    private void assertProbesExcluded(DefaultMonitorableThreadPool pool) throws Exception {
+        CountingRejectedExecutionHandler.install(executor);
+        executor.execute(() -> { });
+        HealthCheckStrategy strategy = strategy(true);
+
+        check(strategy, pool);
+        CountingRejectedExecutionHandler counting = CountingRejectedExecutionHandler.of(executor);
+        assertEquals(1, counting.getSubmittedProbeCount());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getCompletedTaskCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, counting.getFinishedProbeCount());
+
+        ThreadPoolStatus status = ThreadPoolStatusCollector.collect(pool);
+        assertEquals(1, status.getTaskCount());
+        assertEquals(1, status.getCompletedTaskCount());
+        assertTrue(check(strategy, pool).getExtendedData().containsKey("probeLatencyMillis"));
+    }
+
+    private HealthCheckStrategy strategy(boolean deepCheck) {
+        DefaultStrategyConfig config = DefaultStrategyConfig.createHealthCheckConfig();
+        config.setParameter("checkInterval", 1L);
+        config.setParameter("probeInterval", 1L);
+        config.setParameter("timeoutThreshold", 20L);
+        config.setParameter("enableDeepCheck", deepCheck);
+        return new HealthCheckStrategy(config);
+    }
+
+    private MonitorResult check(HealthCheckStrategy strategy, DefaultMonitorableThreadPool pool) {
+        return strategy.monitor(pool, ThreadPoolStatusCollector.collect(pool), context);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.metrics.MonitorHistoryStore;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控结果分配基准：稳定状态下内置策略每周期的堆分配量
+ */
+@Tag("benchmark")
+class MonitorResultAllocationTest {
+
+    private static final int POOLS = 200;
+    private static final int WARMUP_CYCLES = 20_000;
+    private static final int MEASURED_CYCLES = 2_000;
+
+    private final List<ThreadPoolExecutor> executors = new ArrayList<>();
+    private final List<MonitorableThreadPool> pools = new ArrayList<>();
+    private final List<ThreadPoolStatus> statuses = new ArrayList<>();
+    private final MonitorHistoryStore historyStore = new MonitorHistoryStore(10, Duration.ofMinutes(1));
+    private List<MonitorStrategy> strategies;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POOLS; i++) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 4, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(100));
+            CountingRejectedExecutionHandler.install(executor);
+            MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("pool-" + i, executor, 0);
+            historyStore.register(pool.getPoolName());
+            executors.add(executor);
+            pools.add(pool);
+            statuses.add(ThreadPoolStatusCollector.collect(pool));
+        }
+        strategies = List.of(
+                new UtilizationMonitorStrategy(DefaultStrategyConfig.createUtilizationConfig(0.8, 0.95)),
+                new QueueMonitorStrategy(DefaultStrategyConfig.createQueueConfig(100, 500)),
+                new RejectionMonitorStrategy(DefaultStrategyConfig.createRejectionConfig(10, 50, 60000L)),
+                new HealthCheckStrategy(DefaultStrategyConfig.createHealthCheckConfig()),
+                new PerformanceAnalysisStrategy(DefaultStrategyConfig.createPerformanceConfig(10, 0L)),
+                new TrendPredictionStrategy(DefaultStrategyConfig.createTrendPredictionConfig(60000L, 10000L)),
+                new AnomalyDetectionStrategy(DefaultStrategyConfig.createAnomalyDetectionConfig(3.0, 5.0)),
+                new GroupRollupStrategy(DefaultStrategyConfig.createGroupRollupConfig(1000L, 5000L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    @Test
+    void steadyStateCycleIsNearlyAllocationFree() {
+        // 与监控循环相同：复用结果，结果对象保存在历史存储的线程池状态槽中
+        MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), historyStore);
+        MonitorResult[] results = new MonitorResult[POOLS * strategies.size()];
+
+        runCycles(context, results, WARMUP_CYCLES);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        runCycles(context, results, MEASURED_CYCLES);
+        long bytesPerCycle = (threadBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_CYCLES;
+
+        System.out.printf("%d pools x %d strategies: %d bytes allocated per cycle%n",
+                POOLS, strategies.size(), bytesPerCycle);
+        assertTrue(bytesPerCycle < POOLS, "allocated " + bytesPerCycle + " bytes per cycle");
+
+        // 同一线程池复用结果对象，消息按需生成
+        assertSame(results[0], strategies.get(0).monitor(pools.get(0), statuses.get(0), context));
+        assertTrue(results[0].getMessage().contains("pool-0"));
+        assertEquals(0.0, results[0].getExtendedData().get("utilization"));
+    }
+
+    private void runCycles(MonitorContext context, MonitorResult[] results, int cycles) {
+        for (int cycle = 0; cycle < cycles; cycle++) {
+            int n = 0;
+            for (int i = 0; i < POOLS; i++) {
+                MonitorableThreadPool pool = pools.get(i);
+                ThreadPoolStatus status = statuses.get(i);
+                historyStore.record(pool.getPoolName(), status);
+                for (int s = 0; s < strategies.size(); s++) {
+                    MonitorResult result = strategies.get(s).monitor(pool, status, context);
+                    if (result.shouldAlert()) {
+                        fail("unexpected alert: " + result.getMessage());
+                    }
+                    results[n++] = result;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorConfiguration;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.DefaultAdvancedThreadPoolMonitor;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.metrics.MonitorHistoryStore;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 监控结果复用测试：监控循环内复用结果槽位，对外返回的结果不随后续检查变化
+ */
+class MonitorResultReuseTest {
+
+    private ThreadPoolExecutor executor;
+    private MonitorableThreadPool pool;
+    private final MonitorStrategy strategy =
+            new QueueMonitorStrategy(DefaultStrategyConfig.createQueueConfig(100, 500));
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100));
+        CountingRejectedExecutionHandler.install(executor);
+        pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("pool", executor, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reusableContextReusesSlotPerPool() {
+        MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), null);
+        ThreadPoolStatus status = ThreadPoolStatusCollector.collect(pool);
+
+        MonitorResult first = strategy.monitor(pool, status, context);
+        MonitorResult second = strategy.monitor(pool, status, context);
+
+        assertSame(first, second);
+        assertTrue(first instanceof ResultSlot);
+        assertTrue(first.getMessage().contains("pool"));
+    }
+
+    @Test
+    void slotIsReleasedWhenPoolLeavesHistoryStore() {
+        MonitorHistoryStore historyStore = new MonitorHistoryStore(10, Duration.ofMinutes(1));
+        MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), historyStore);
+        ThreadPoolStatus status = ThreadPoolStatusCollector.collect(pool);
+        historyStore.register("pool");
+
+        MonitorResult first = strategy.monitor(pool, status, context);
+        assertSame(first, strategy.monitor(pool, status, context));
+
+        // 注销时结果对象随线程池状态一起丢弃，重新注册后使用新的对象
+        historyStore.unregister("pool");
+        historyStore.register("pool");
+        assertNotSame(first, strategy.monitor(pool, status, context));
+    }
+
+    @Test
+    void defaultContextReturnsIndependentResults() {
+        MonitorContext context = MonitorContext.createDefault();
+        ThreadPoolStatus status = ThreadPoolStatusCollector.collect(pool);
+
+        MonitorResult first = strategy.monitor(pool, status, context);
+        MonitorResult second = strategy.monitor(pool, status, context);
+
+        assertNotSame(first, second);
+        assertEquals(100L, first.getExtendedData().get("totalCapacity"));
+        assertEquals("ArrayBlockingQueue", first.getExtendedData().get("queueType"));
+    }
+
+    @Test
+    void snapshotIsStableAfterReevaluation() {
+        MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), null);
+        ResultSlot slot = (ResultSlot) strategy.monitor(pool, ThreadPoolStatusCollector.collect(pool), context);
+        MonitorResult snapshot = slot.snapshot();
+        String message = snapshot.getMessage();
+        Map<String, Object> data = snapshot.getExtendedData();
+
+        ThreadPoolStatus busy = ThreadPoolStatusCollector.collect(pool);
+        busy.setQueueSize(400);
+        busy.setQueueRemainingCapacity(100);
+        strategy.monitor(pool, busy, context);
+
+        assertEquals(message, snapshot.getMessage());
+        assertEquals(data, snapshot.getExtendedData());
+        assertNotEquals(message, slot.getMessage());
+    }
+
+    @Test
+    void publicCheckReturnsSnapshots() {
+        DefaultAdvancedThreadPoolMonitor monitor = new DefaultAdvancedThreadPoolMonitor(MonitorConfiguration.builder()
+                .predictiveAlertingEnabled(false)
+                .adaptiveMonitoringEnabled(false)
+                .build());
+        try {
+            assertTrue(monitor.registerThreadPool("pool", executor, 0).isSuccess());
+            MonitorContext context = MonitorContext.createReusable(MonitorConfiguration.createDefault(), null);
+
+            List<MonitorResult> first = monitor.performMonitorCheck(context);
+            List<MonitorResult> second = monitor.performMonitorCheck(context);
+
+            assertFalse(first.isEmpty());
+            for (int i = 0; i < first.size(); i++) {
+                assertFalse(first.get(i) instanceof ResultSlot);
+                assertNotSame(first.get(i), second.get(i));
+            }
+        } finally {
+            monitor.shutdown();
+        }
+    }
+}
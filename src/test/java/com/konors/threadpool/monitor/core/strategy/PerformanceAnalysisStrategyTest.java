@@ -0,0 +1,93 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 性能分析策略测试
+ */
+class PerformanceAnalysisStrategyTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("perf", executor, 0);
+    private final MonitorContext context = MonitorContext.createDefault();
+    private final PerformanceAnalysisStrategy strategy =
+            new PerformanceAnalysisStrategy(DefaultStrategyConfig.createPerformanceConfig(10, 1000L));
+
+    private long taskCount;
+    private long completed;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void firstSampleOnlyRecordsBaseline() {
+        MonitorResult result = sample(0, 0, 0);
+
+        assertFalse(result.shouldAlert());
+        assertTrue(result.getMessage().contains("baseline"));
+    }
+
+    @Test
+    void sustainedArrivalAboveCapacityIsBottleneck() throws Exception {
+        sample(0, 0, 0);
+        MonitorResult result = null;
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(20);
+            // 到达100个、完成10个，两个线程持续忙碌
+            result = sample(100, 10, 50);
+        }
+
+        assertTrue(result.shouldAlert());
+        assertEquals(AlertLevel.WARN, result.getAlertLevel());
+        assertEquals(true, result.getExtendedData().get("bottleneck"));
+        assertTrue((Long) result.getExtendedData().get("recommendedPoolSize") > 2);
+    }
+
+    @Test
+    void balancedLoadIsNotBottleneck() throws Exception {
+        sample(0, 0, 0);
+        MonitorResult result = null;
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(20);
+            result = sample(10, 10, 0);
+        }
+
+        assertFalse(result.shouldAlert());
+        assertEquals(false, result.getExtendedData().get("bottleneck"));
+        assertEquals(4L, result.getExtendedData().get("samples"));
+        double arrival = (Double) result.getExtendedData().get("arrivalRate");
+        double completion = (Double) result.getExtendedData().get("completionRate");
+        assertEquals(arrival, completion, arrival * 1e-9);
+    }
+
+    private MonitorResult sample(long arrived, long finished, int queueSize) {
+        taskCount += arrived;
+        completed += finished;
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setPoolName("perf");
+        status.setMaximumPoolSize(2);
+        status.setPoolSize(2);
+        status.setActiveCount(2);
+        status.setQueueSize(queueSize);
+        status.setTaskCount(taskCount);
+        status.setCompletedTaskCount(completed);
+        return strategy.monitor(pool, status, context);
+    }
+}
@@ -0,0 +1,62 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategyFactory.StrategyType;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.factory.DefaultMonitorStrategyFactory;
+import com.konors.threadpool.monitor.core.impl.CountingRejectedExecutionHandler;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 拒绝任务监控策略测试：统计窗口不超过计数器窗口
+ */
+class RejectionMonitorStrategyTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new ThreadPoolExecutor.DiscardPolicy());
+    private final MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("pool", executor, 0);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void windowLongerThanCounterIsRejected() {
+        long tooLong = CountingRejectedExecutionHandler.DEFAULT_WINDOW.toMillis() + 1;
+        DefaultStrategyConfig config = DefaultStrategyConfig.createRejectionConfig(10, 50, tooLong);
+
+        assertThrows(IllegalArgumentException.class, () -> new RejectionMonitorStrategy(config));
+        assertTrue(new DefaultMonitorStrategyFactory().createStrategy(StrategyType.REJECTION_MONITOR, config).isEmpty());
+    }
+
+    @Test
+    void shorterCounterWindowIsReportedAsEffectiveWindow() {
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(
+                executor.getRejectedExecutionHandler(), Duration.ofSeconds(30), 30));
+        executor.shutdown();
+        for (int i = 0; i < 60; i++) {
+            executor.execute(() -> { });
+        }
+        RejectionMonitorStrategy strategy =
+                new RejectionMonitorStrategy(DefaultStrategyConfig.createRejectionConfig(10, 100, 60_000L));
+
+        MonitorResult result = strategy.monitor(pool, null, MonitorContext.createDefault());
+
+        assertEquals(AlertLevel.WARN, result.getAlertLevel());
+        assertEquals(30_000L, result.getExtendedData().get("timeWindowMillis"));
+        assertEquals(2.0, (Double) result.getExtendedData().get("rejectionRatePerSecond"), 1e-9);
+    }
+}
@@ -0,0 +1,104 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.InstrumentedThreadPoolExecutor;
+import com.konors.threadpool.monitor.core.util.ThreadPoolStatusCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 响应时间监控策略测试
+ */
+class ResponseTimeMonitorStrategyTest {
+
+    private InstrumentedThreadPoolExecutor executor;
+    private MonitorableThreadPool pool;
+    private final MonitorContext context = MonitorContext.createDefault();
+
+    @BeforeEach
+    void setUp() {
+        executor = new InstrumentedThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("latency-pool", executor, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void disabledLatencyTrackingIsInformational() {
+        MonitorResult result = check(strategy(1000, 1000, 1));
+
+        assertFalse(result.shouldAlert());
+        assertTrue(result.getMessage().contains("disabled"));
+    }
+
+    @Test
+    void alertsOnlyAfterConsecutiveBreaches() throws Exception {
+        executor.setLatencyTrackingEnabled(true);
+        runTasks(10, 3);
+        ResponseTimeMonitorStrategy strategy = strategy(1, 1000, 2);
+
+        MonitorResult first = check(strategy);
+        assertFalse(first.shouldAlert());
+        assertEquals(1L, first.getExtendedData().get("consecutiveBreaches"));
+
+        MonitorResult second = check(strategy);
+        assertTrue(second.shouldAlert());
+        assertEquals(AlertLevel.WARN, second.getAlertLevel());
+    }
+
+    @Test
+    void queueWaitP95BreachWarns() throws Exception {
+        executor.setLatencyTrackingEnabled(true);
+        runTasks(30, 2);
+        MonitorResult result = check(strategy(1000, 10, 1));
+
+        assertTrue(result.shouldAlert());
+        assertEquals(AlertLevel.WARN, result.getAlertLevel());
+        assertTrue((Double) result.getExtendedData().get("queueWaitP95Millis") >= 10);
+        assertTrue(result.getSuggestedAction().contains("queueing"));
+    }
+
+    private ResponseTimeMonitorStrategy strategy(double p95ThresholdMillis, double queueWaitP99ThresholdMillis,
+                                                 int breachCount) {
+        DefaultStrategyConfig config = DefaultStrategyConfig.createResponseTimeConfig(
+                p95ThresholdMillis, 10_000, queueWaitP99ThresholdMillis);
+        config.setParameter("breachCount", breachCount);
+        config.setParameter("minSamples", 5L);
+        return new ResponseTimeMonitorStrategy(config);
+    }
+
+    private MonitorResult check(ResponseTimeMonitorStrategy strategy) {
+        return strategy.monitor(pool, ThreadPoolStatusCollector.collect(pool), context);
+    }
+
+    private void runTasks(int count, long sleepMillis) throws Exception {
+        for (int i = 0; i < count; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getFinishedTaskCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, executor.getFinishedTaskCount());
+    }
+}
@@ -0,0 +1,89 @@
+package com.konors.threadpool.monitor.core.strategy;
+
+import com.konors.threadpool.monitor.core.ThreadPoolStatus;
+import com.konors.threadpool.monitor.core.abstraction.DefaultStrategyConfig;
+import com.konors.threadpool.monitor.core.abstraction.MonitorContext;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.AlertLevel;
+import com.konors.threadpool.monitor.core.abstraction.MonitorStrategy.MonitorResult;
+import com.konors.threadpool.monitor.core.abstraction.MonitorableThreadPool;
+import com.konors.threadpool.monitor.core.impl.DefaultMonitorableThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 趋势预测策略测试
+ */
+class TrendPredictionStrategyTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(4, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final MonitorableThreadPool pool = DefaultMonitorableThreadPool.wrapFixedThreadPool("trend", executor, 0);
+    private final MonitorContext context = MonitorContext.createDefault();
+    private final TrendPredictionStrategy strategy =
+            new TrendPredictionStrategy(DefaultStrategyConfig.createTrendPredictionConfig(120000L, 30000L));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void warmsUpBeforePredicting() {
+        MonitorResult result = strategy.monitor(pool, status(10, 1000, 1), context);
+
+        assertFalse(result.shouldAlert());
+        assertTrue(result.getMessage().contains("warming up"));
+    }
+
+    @Test
+    void growingQueuePredictsSaturationBeforeItFills() throws Exception {
+        MonitorResult result = null;
+        for (int size = 100; size <= 300; size += 50) {
+            result = strategy.monitor(pool, status(size, 1000 - size, 1), context);
+            Thread.sleep(20);
+        }
+
+        assertTrue(result.shouldAlert(), result.getMessage());
+        // 每秒增长上千个任务，几秒内就会占满，低于30秒的严重阈值
+        assertEquals(AlertLevel.ERROR, result.getAlertLevel());
+        assertTrue(result.getMessage().contains("queue predicted full"));
+        long eta = (Long) result.getExtendedData().get("queueFullInMillis");
+        assertTrue(eta > 0 && eta < 30_000, "eta " + eta);
+    }
+
+    @Test
+    void flatOrUnboundedQueueIsNotPredicted() throws Exception {
+        MonitorResult flat = null;
+        for (int i = 0; i < 4; i++) {
+            flat = strategy.monitor(pool, status(50, 950, 1), context);
+            Thread.sleep(10);
+        }
+        assertFalse(flat.shouldAlert());
+        assertEquals(-1L, flat.getExtendedData().get("queueFullInMillis"));
+
+        MonitorContext other = MonitorContext.createDefault();
+        MonitorResult unbounded = null;
+        for (int size = 100; size <= 400; size += 100) {
+            unbounded = strategy.monitor(pool, status(size, Integer.MAX_VALUE - size, 1), other);
+            Thread.sleep(10);
+        }
+        assertFalse(unbounded.shouldAlert());
+        assertEquals(-1L, unbounded.getExtendedData().get("queueFullInMillis"));
+    }
+
+    private static ThreadPoolStatus status(int queueSize, int remainingCapacity, int activeCount) {
+        ThreadPoolStatus status = new ThreadPoolStatus();
+        status.setPoolName("trend");
+        status.setMaximumPoolSize(4);
+        status.setActiveCount(activeCount);
+        status.setQueueSize(queueSize);
+        status.setQueueRemainingCapacity(remainingCapacity);
+        return status;
+    }
+}